@@ -0,0 +1,126 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크: 프로세스 시작부터 /api/v1/school/cities 첫 200 응답까지 (ms)
+#
+# 비교 대상
+#   jar     : java -jar build/libs/baperang-<version>.jar
+#   cds     : 추출 jar + application.jsa
+#   aot-cds : 추출 jar + application-aot.jsa + spring.aot.enabled=true
+#
+# 사용법 (backend/baperang 에서, SPRING_DATASOURCE_* / JWT_* 환경 변수 필요)
+#   scripts/startup-benchmark.sh [--runs 5] [--skip-build] [--baseline 이전결과.csv] [--max-regression-pct 10]
+#
+# 결과는 build/fast-start/startup-benchmark.csv (variant,run,ms) 로 저장하고 변형별 중앙값/최솟값을 출력.
+# --baseline 을 주면 변형별 중앙값이 기준보다 max-regression-pct 이상 느려졌을 때 종료 코드 1.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=5
+SKIP_BUILD=false
+BASELINE=""
+MAX_REGRESSION_PCT=10
+PORT="${SERVER_PORT:-8000}"
+TIMEOUT_SEC=180
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --runs) RUNS="$2"; shift 2 ;;
+    --skip-build) SKIP_BUILD=true; shift ;;
+    --baseline) BASELINE="$2"; shift 2 ;;
+    --max-regression-pct) MAX_REGRESSION_PCT="$2"; shift 2 ;;
+    *) echo "알 수 없는 옵션: $1" >&2; exit 2 ;;
+  esac
+done
+
+FAST_START_DIR=build/fast-start
+APP_DIR="$FAST_START_DIR/app"
+RESULT="$FAST_START_DIR/startup-benchmark.csv"
+URL="http://localhost:${PORT}/api/v1/school/cities"
+
+if [[ "$SKIP_BUILD" == false ]]; then
+  # AOT 처리된 jar 하나로 세 변형을 모두 실행 (spring.aot.enabled 가 없으면 AOT 코드는 사용되지 않음)
+  ./gradlew -Paot bootJar cdsArchive aotCdsArchive -x test
+fi
+
+JAR_NAME="$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)"
+JAR_NAME="$(basename "$JAR_NAME")"
+
+now_ms() {
+  date +%s%3N
+}
+
+# 한 번 기동해서 첫 성공 응답까지 걸린 시간(ms)을 출력
+measure() {
+  local workdir="$1"; shift
+  local start end pid
+  start="$(now_ms)"
+  (cd "$workdir" && exec java "$@") > "$FAST_START_DIR/startup-benchmark.log" 2>&1 &
+  pid=$!
+
+  while true; do
+    if curl -sf -o /dev/null "$URL"; then
+      end="$(now_ms)"
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "애플리케이션이 기동 중 종료되었습니다. $FAST_START_DIR/startup-benchmark.log 확인" >&2
+      exit 1
+    fi
+    if (( $(now_ms) - start > TIMEOUT_SEC * 1000 )); then
+      kill "$pid" 2>/dev/null || true
+      echo "${TIMEOUT_SEC}초 안에 응답이 없습니다." >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  echo $(( end - start ))
+}
+
+run_variant() {
+  local variant="$1"; shift
+  for run in $(seq 1 "$RUNS"); do
+    local ms
+    ms="$(measure "$@")"
+    echo "$variant,$run,$ms" >> "$RESULT"
+    echo "  $variant #$run: ${ms}ms"
+  done
+}
+
+echo "variant,run,ms" > "$RESULT"
+
+run_variant jar     build/libs -jar "$JAR_NAME"
+run_variant cds     "$APP_DIR" -XX:SharedArchiveFile=../application.jsa -jar "$JAR_NAME"
+run_variant aot-cds "$APP_DIR" -XX:SharedArchiveFile=../application-aot.jsa -Dspring.aot.enabled=true -jar "$JAR_NAME"
+
+# 변형별 중앙값 / 최솟값
+summarize() {
+  awk -F, 'NR > 1 { print $1, $3 }' "$1" | sort -k1,1 -k2,2n | awk '
+    { values[$1] = values[$1] " " $2; count[$1]++ }
+    END {
+      for (v in values) {
+        n = split(substr(values[v], 2), arr, " ")
+        median = (n % 2) ? arr[(n + 1) / 2] : (arr[n / 2] + arr[n / 2 + 1]) / 2
+        print v, median, arr[1]
+      }
+    }' | sort
+}
+
+echo
+echo "variant median_ms min_ms"
+summarize "$RESULT"
+
+if [[ -n "$BASELINE" ]]; then
+  regressed=0
+  while read -r variant median _; do
+    base="$(summarize "$BASELINE" | awk -v v="$variant" '$1 == v { print $2 }')"
+    [[ -z "$base" ]] && continue
+    if awk -v cur="$median" -v base="$base" -v pct="$MAX_REGRESSION_PCT" 'BEGIN { exit !(cur > base * (1 + pct / 100)) }'; then
+      echo "기동 시간 회귀: $variant ${base}ms -> ${median}ms (허용 ${MAX_REGRESSION_PCT}%)" >&2
+      regressed=1
+    fi
+  done < <(summarize "$RESULT")
+  exit "$regressed"
+fi
@@ -0,0 +1,178 @@
+package com.ssafy.baperang.domain.student.service;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
+import com.ssafy.baperang.domain.nutrient.entity.Nutrient;
+
+/**
+ * 학생 한 명의 일주일 섭취 영양소 계산 비교
+ * - baseline: 이전 문자열 키("메뉴ID-영양소명") HashMap 조회 방식
+ * - intakeTable: NutrientIntakeTable 배열 방식
+ * 결과가 같은지는 NutrientIntakeTableTest에서 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NutrientIntakeTableBenchmark {
+
+    private static final long STUDENT_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+
+    // 하루 잔반 행 수 (학생 한 명이 먹은 메뉴 수)
+    @Param({"6", "30"})
+    private int rowsPerDay;
+
+    private List<MenuNutrient> menuNutrients;
+    private Map<String, MenuNutrient> nutrientMap;
+    private NutrientIntakeTable intakeTable;
+    private LeftoverColumnStore.StudentRows rows;
+    private List<LocalDate> allDates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(41L);
+        int menuCount = rowsPerDay * 7;
+
+        Nutrient[] nutrients = {
+                nutrient(1L, NutrientIntakeTable.CARBO_NUTRIENT_NAME),
+                nutrient(2L, NutrientIntakeTable.PROTEIN_NUTRIENT_NAME),
+                nutrient(3L, NutrientIntakeTable.FAT_NUTRIENT_NAME)
+        };
+
+        menuNutrients = new ArrayList<>();
+        for (long menuId = 1; menuId <= menuCount; menuId++) {
+            Menu menu = menu(menuId);
+            for (Nutrient nutrient : nutrients) {
+                menuNutrients.add(MenuNutrient.builder()
+                        .menu(menu).nutrient(nutrient).amount(random.nextFloat() * 80f).build());
+            }
+        }
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        allDates = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            LocalDate date = START.plusDays(day);
+            allDates.add(date);
+            for (int i = 0; i < rowsPerDay; i++) {
+                long menuId = 1 + day * rowsPerDay + i;
+                store.append(date, menuId, STUDENT_ID, random.nextInt(10001) / 100f, "메뉴" + menuId);
+            }
+        }
+        rows = store.studentRows(STUDENT_ID, START, START.plusDays(6));
+
+        nutrientMap = menuNutrients.stream()
+                .collect(Collectors.toMap(
+                        menuNutrient -> menuNutrient.getMenu().getId() + "-" + menuNutrient.getNutrient().getNutrientName(),
+                        Function.identity(),
+                        (existing, replacement) -> replacement));
+        intakeTable = NutrientIntakeTable.of(menuNutrients);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Integer>> baseline() {
+        return baselineDailyIntake(rows, nutrientMap, allDates);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Integer>> intakeTable() {
+        return intakeTable.dailyIntake(rows, allDates);
+    }
+
+    // 표 생성 비용까지 포함 (학생마다 표를 만들지는 않지만 학급 단위 생성 비용 확인용)
+    @Benchmark
+    public Map<String, Map<String, Integer>> intakeTableWithBuild() {
+        return NutrientIntakeTable.of(menuNutrients).dailyIntake(rows, allDates);
+    }
+
+    // 이전 HealthReportCalculator.calcOptimizedNutrients
+    private static Map<String, Map<String, Integer>> baselineDailyIntake(
+            LeftoverColumnStore.StudentRows leftoverRows,
+            Map<String, MenuNutrient> nutrientMap,
+            List<LocalDate> allDates) {
+
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+
+        Map<LocalDate, List<Integer>> rowsByDate = new HashMap<>();
+        for (int i = 0; i < leftoverRows.size(); i++) {
+            rowsByDate.computeIfAbsent(leftoverRows.getDate(i), k -> new ArrayList<>()).add(i);
+        }
+
+        for (LocalDate date : allDates) {
+            List<Integer> dayRows = rowsByDate.getOrDefault(date, Collections.emptyList());
+
+            int totalCarbo = 0;
+            int totalProtein = 0;
+            int totalFat = 0;
+
+            for (int row : dayRows) {
+                long menuId = leftoverRows.getMenuId(row);
+                float consumptionRate = 1 - leftoverRows.getLeftoverRate(row) / 100f;
+
+                MenuNutrient carbo = nutrientMap.get(menuId + "-" + NutrientIntakeTable.CARBO_NUTRIENT_NAME);
+                if (carbo != null) {
+                    totalCarbo += Math.round(carbo.getAmount() * consumptionRate);
+                }
+
+                MenuNutrient protein = nutrientMap.get(menuId + "-" + NutrientIntakeTable.PROTEIN_NUTRIENT_NAME);
+                if (protein != null) {
+                    totalProtein += Math.round(protein.getAmount() * consumptionRate);
+                }
+
+                MenuNutrient fat = nutrientMap.get(menuId + "-" + NutrientIntakeTable.FAT_NUTRIENT_NAME);
+                if (fat != null) {
+                    totalFat += Math.round(fat.getAmount() * consumptionRate);
+                }
+            }
+
+            Map<String, Integer> dailyNutrients = new HashMap<>();
+            dailyNutrients.put("carbo", totalCarbo);
+            dailyNutrients.put("protein", totalProtein);
+            dailyNutrients.put("fat", totalFat);
+            result.put(date.toString(), dailyNutrients);
+        }
+
+        return result;
+    }
+
+    private static Menu menu(long id) {
+        return withId(Menu.builder().menuName("메뉴" + id).menuDate(START).build(), id);
+    }
+
+    private static Nutrient nutrient(long id, String name) {
+        return withId(Nutrient.builder().nutrientName(name).unit("g").build(), id);
+    }
+
+    // ID는 DB에서 생성되므로 리플렉션으로 지정
+    private static <T> T withId(T entity, long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.ssafy.baperang.domain.student.service;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.domain.student.entity.Student;
+
+/**
+ * 학생 한 명의 메뉴 5개 잔반 저장 비교 (saveStudentLeftover의 메뉴 매핑 + 잔반 저장 구간)
+ * - baseline: 이전 방식 (메뉴마다 존재 확인 → 날짜 메뉴 조회 또는 메뉴 생성 → 잔반 save)
+ * - batched : 현재 방식 (날짜 메뉴 한 번 조회, 없는 메뉴 일괄 생성 후 재조회, 잔반 일괄 저장)
+ * DB는 메모리 저장소로 대신하고 문장(배치는 한 번) 실행마다 roundTripMicros만큼 대기해 왕복 비용을 흉내 냄
+ * 두 방식에 똑같이 붙는 사용자/학생 조회와 집계 반영(recordLeftovers)은 제외
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveStudentLeftoverBenchmark {
+
+    private static final LocalDate LEFTOVER_DATE = LocalDate.of(2025, 4, 7);
+    private static final int MENU_COUNT = 5;
+
+    // DB 왕복 한 번의 비용 (0이면 애플리케이션 쪽 처리 비용만 비교)
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    // 요청한 메뉴 중 그날 아직 등록되지 않은 메뉴 수
+    @Param({"0", "5"})
+    private int newMenus;
+
+    private School school;
+    private Student student;
+    private Map<String, Float> request;
+    private List<Menu> existingMenus;
+
+    @Setup
+    public void setUp() {
+        school = withId(School.builder().schoolName("학교").city("서울").build(), 1L);
+        student = withId(Student.builder().studentName("학생").grade(1).classNum(1).number(1).school(school).build(), 1L);
+
+        request = new LinkedHashMap<>();
+        existingMenus = new ArrayList<>();
+        for (int i = 0; i < MENU_COUNT; i++) {
+            String menuName = "메뉴" + i;
+            request.put(menuName, i * 20f);
+            if (i >= newMenus) {
+                existingMenus.add(withId(menu(menuName), i + 1L));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Leftover> baseline() {
+        Day day = new Day(existingMenus);
+
+        List<Leftover> savedLeftovers = new ArrayList<>();
+        for (Map.Entry<String, Float> entry : request.entrySet()) {
+            String menuName = entry.getKey();
+
+            Menu menu;
+            if (day.existsByMenuName(menuName)) {
+                menu = day.findAll().stream()
+                        .filter(m -> m.getMenuName().equals(menuName))
+                        .findFirst()
+                        .orElseGet(() -> day.saveAndFlush(menu(menuName)));
+            } else {
+                menu = day.saveAndFlush(menu(menuName));
+            }
+
+            savedLeftovers.add(day.saveLeftover(leftover(menu, menuName, entry.getValue())));
+        }
+        return savedLeftovers;
+    }
+
+    @Benchmark
+    public List<Leftover> batched() {
+        Day day = new Day(existingMenus);
+
+        Map<String, Menu> menuByName = mapByMenuName(day.findAll());
+
+        List<Menu> created = new ArrayList<>();
+        for (String menuName : request.keySet()) {
+            if (!menuByName.containsKey(menuName)) {
+                created.add(menu(menuName));
+            }
+        }
+        if (!created.isEmpty()) {
+            day.saveAllInBatch(created);
+            menuByName = mapByMenuName(day.findAll());
+        }
+
+        List<Leftover> leftovers = new ArrayList<>();
+        for (Map.Entry<String, Float> entry : request.entrySet()) {
+            leftovers.add(leftover(menuByName.get(entry.getKey()), entry.getKey(), entry.getValue()));
+        }
+        day.saveLeftoversInBatch(leftovers);
+        return leftovers;
+    }
+
+    // StudentServiceImpl.mapByMenuName과 같은 규칙 (같은 이름이면 먼저 조회된 메뉴)
+    private static Map<String, Menu> mapByMenuName(List<Menu> menus) {
+        Map<String, Menu> menuByName = new HashMap<>();
+        for (Menu menu : menus) {
+            menuByName.putIfAbsent(menu.getMenuName(), menu);
+        }
+        return menuByName;
+    }
+
+    private Menu menu(String menuName) {
+        return Menu.builder().school(school).menuDate(LEFTOVER_DATE).menuName(menuName).build();
+    }
+
+    private Leftover leftover(Menu menu, String menuName, Float leftoverRate) {
+        return Leftover.builder()
+                .student(student)
+                .menu(menu)
+                .leftoverDate(LEFTOVER_DATE)
+                .leftMenuName(menuName)
+                .leftoverRate(leftoverRate)
+                .build();
+    }
+
+    /**
+     * 한 학교의 하루 메뉴/잔반 테이블 (메서드 하나가 DB 문장 하나)
+     */
+    private final class Day {
+
+        private final List<Menu> menus;
+        private final List<Leftover> leftovers = new ArrayList<>();
+        private long nextId = 1000L;
+
+        private Day(List<Menu> existingMenus) {
+            this.menus = new ArrayList<>(existingMenus);
+        }
+
+        boolean existsByMenuName(String menuName) {
+            roundTrip();
+            return menus.stream().anyMatch(menu -> menu.getMenuName().equals(menuName));
+        }
+
+        List<Menu> findAll() {
+            roundTrip();
+            return new ArrayList<>(menus);
+        }
+
+        Menu saveAndFlush(Menu menu) {
+            roundTrip();
+            menus.add(withId(menu, nextId++));
+            return menu;
+        }
+
+        void saveAllInBatch(List<Menu> created) {
+            roundTrip();
+            for (Menu menu : created) {
+                menus.add(withId(menu, nextId++));
+            }
+        }
+
+        Leftover saveLeftover(Leftover leftover) {
+            roundTrip();
+            leftovers.add(leftover);
+            return leftover;
+        }
+
+        void saveLeftoversInBatch(List<Leftover> batch) {
+            roundTrip();
+            leftovers.addAll(batch);
+        }
+
+        // 네트워크 대기 흉내 (parkNanos는 해상도가 거칠어 바쁜 대기 사용)
+        private void roundTrip() {
+            if (roundTripMicros == 0) {
+                return;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // ID는 DB에서 생성되므로 리플렉션으로 지정
+    private static <T> T withId(T entity, long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.baperang.global.jwt;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 가득 찬 검증 토큰 캐시의 요청당 비용
+ * - miss: 매번 새 토큰 (한도를 넘을 때마다 90%까지 줄이는 비용 포함)
+ * - hit: 캐시된 토큰
+ * 서명 검증 비용은 제외하기 위해 verifier는 미리 만든 principal을 반환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class VerifiedTokenCacheBenchmark {
+
+    @Param({"10000", "100000"})
+    private int maxEntries;
+
+    private VerifiedTokenCache cache;
+    private JwtPrincipal principal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        cache = new VerifiedTokenCache();
+        set("enabled", true);
+        set("ttlSeconds", 300L);
+        set("maxEntries", maxEntries);
+        set("sweepIntervalSeconds", 60L);
+        cache.init();
+
+        principal = new JwtPrincipal(1L, "user1", Instant.now().plusSeconds(3600));
+        for (int i = 0; i <= maxEntries; i++) {
+            cache.getOrVerify("warm-" + i, token -> principal);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.destroy();
+    }
+
+    @State(Scope.Thread)
+    public static class TokenSequence {
+        private long next;
+
+        String nextToken() {
+            return "miss-" + Thread.currentThread().getId() + "-" + next++;
+        }
+    }
+
+    @Benchmark
+    public JwtPrincipal miss(TokenSequence sequence) {
+        return cache.getOrVerify(sequence.nextToken(), token -> principal);
+    }
+
+    @Benchmark
+    public JwtPrincipal hit() {
+        return cache.getOrVerify("warm-0", token -> principal);
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = VerifiedTokenCache.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(cache, value);
+    }
+}
@@ -4,9 +4,12 @@ import com.ssafy.baperang.domain.inventory.dto.request.InventoryRequestDto;
 import com.ssafy.baperang.domain.inventory.dto.request.UpdateInventoryRequestDto;
 import com.ssafy.baperang.domain.inventory.dto.response.ErrorResponseDto;
 import com.ssafy.baperang.domain.inventory.service.InventoryService;
+import com.ssafy.baperang.global.export.StreamingExport;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,12 +22,10 @@ public class InventoryController {
 
     @PostMapping("/create-inventory")
     public ResponseEntity<?> createInventory(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody InventoryRequestDto requestDto) {
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = inventoryService.createInventory(token, requestDto);
+        Object result = inventoryService.createInventory(principal, requestDto);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto error = (ErrorResponseDto) result;
@@ -37,13 +38,11 @@ public class InventoryController {
 
     @GetMapping("/year={year}&month={month}")
     public ResponseEntity<?> getInventoriesByMonth(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable int year,
             @PathVariable int month) {
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = inventoryService.findInventoriesByMonth(token, year, month);
+        Object result = inventoryService.findInventoriesByMonth(principal, year, month);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto error = (ErrorResponseDto) result;
@@ -55,12 +54,10 @@ public class InventoryController {
 
     @DeleteMapping("/inventory-delete/{inventoryId}")
     public ResponseEntity<?> deleteInventory(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long inventoryId) {
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = inventoryService.deleteInventory(token, inventoryId);
+        Object result = inventoryService.deleteInventory(principal, inventoryId);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto error = (ErrorResponseDto) result;
@@ -71,13 +68,11 @@ public class InventoryController {
 
     @PatchMapping("/inventory-update/{inventoryId}")
     public ResponseEntity<?> updateInventory(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long inventoryId,
             @RequestBody UpdateInventoryRequestDto requestDto) {
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = inventoryService.updateInventory(token, inventoryId, requestDto);
+        Object result = inventoryService.updateInventory(principal, inventoryId, requestDto);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto error = (ErrorResponseDto) result;
@@ -85,4 +80,27 @@ public class InventoryController {
         }
         return ResponseEntity.ok(result);
     }
+
+    // 기간 내 재고 정보 내보내기 (format: csv, xlsx)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportInventories(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        Object result = inventoryService.exportInventories(principal, startDate, endDate, format);
+
+        if (result instanceof StreamingExport) {
+            log.info("exportInventories 정상 응답");
+            return ((StreamingExport) result).toResponseEntity();
+        }
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto error = (ErrorResponseDto) result;
+            return ResponseEntity.status(error.getStatus()).body(error);
+        }
+
+        return ResponseEntity.badRequest().body(result);
+    }
 }
@@ -1,7 +1,9 @@
 package com.ssafy.baperang.domain.inventory.repository;
 
 import com.ssafy.baperang.domain.inventory.entity.Inventory;
+import com.ssafy.baperang.global.export.ExportRowWriter;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +16,7 @@ public interface InventoryRepository {
     void deleteById(Long Id);    List<Inventory> findByProductNameAndOrderUnit(String productName, String orderUnit);
     List<Inventory> findByOrderUnit(String orderUnit);
     List<Inventory> findByYearMonthAndUnit(int year, int month, String unit);
+
+    // 기간 내 재고 데이터를 내보내기 writer로 스트리밍 (startDate, endDate 포함)
+    void exportByDateRange(LocalDate startDate, LocalDate endDate, ExportRowWriter writer);
 }
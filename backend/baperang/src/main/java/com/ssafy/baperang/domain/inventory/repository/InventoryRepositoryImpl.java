@@ -1,9 +1,18 @@
 package com.ssafy.baperang.domain.inventory.repository;
 
 import com.ssafy.baperang.domain.inventory.entity.Inventory;
+import com.ssafy.baperang.global.export.ExportRowWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +21,7 @@ import java.util.Optional;
 public class InventoryRepositoryImpl implements InventoryRepository{
 
     private final InventoryJpaRepository inventoryJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Inventory save(Inventory inventory) {
@@ -53,4 +63,33 @@ public class InventoryRepositoryImpl implements InventoryRepository{
         return inventoryJpaRepository.findByMonthAndUnit(year, month, unit);
     }
 
+    @Override
+    public void exportByDateRange(LocalDate startDate, LocalDate endDate, ExportRowWriter writer) {
+        String sql = "SELECT inventory_date, product_name, vendor, price, order_quantity, order_unit, use_quantity, use_unit " +
+                "FROM inventory WHERE inventory_date BETWEEN ? AND ? ORDER BY inventory_date";
+
+        // forward-only 커서로 한 행씩 읽어 바로 기록 (결과 전체를 메모리에 올리지 않음)
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setDate(1, Date.valueOf(startDate));
+            ps.setDate(2, Date.valueOf(endDate));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                writer.writeRow(
+                        rs.getDate(1).toLocalDate(),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getInt(4),
+                        rs.getInt(5),
+                        rs.getString(6),
+                        rs.getInt(7),
+                        rs.getString(8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
 }
@@ -2,10 +2,12 @@ package com.ssafy.baperang.domain.inventory.service;
 
 import com.ssafy.baperang.domain.inventory.dto.request.InventoryRequestDto;
 import com.ssafy.baperang.domain.inventory.dto.request.UpdateInventoryRequestDto;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 
 public interface InventoryService {
-    Object createInventory(String token, InventoryRequestDto requestDto);
-    Object findInventoriesByMonth(String token, int year, int month);
-    Object deleteInventory(String token, Long inventoryId);
-    Object updateInventory(String token, Long inventoryId, UpdateInventoryRequestDto requestDto);
+    Object createInventory(JwtPrincipal principal, InventoryRequestDto requestDto);
+    Object findInventoriesByMonth(JwtPrincipal principal, int year, int month);
+    Object deleteInventory(JwtPrincipal principal, Long inventoryId);
+    Object updateInventory(JwtPrincipal principal, Long inventoryId, UpdateInventoryRequestDto requestDto);
+    Object exportInventories(JwtPrincipal principal, String startDate, String endDate, String format);
 }
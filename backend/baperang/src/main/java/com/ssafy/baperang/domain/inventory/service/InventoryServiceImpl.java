@@ -9,12 +9,18 @@ import com.ssafy.baperang.domain.inventory.entity.Inventory;
 import com.ssafy.baperang.domain.inventory.repository.InventoryRepository;
 import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
-import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.export.ExportFormat;
+import com.ssafy.baperang.global.export.ExportRowWriter;
+import com.ssafy.baperang.global.export.StreamingExport;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,21 +31,23 @@ import java.util.stream.Collectors;
 public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
-    private final JwtService jwtService;
+
+    private static final List<String> EXPORT_HEADERS = List.of(
+            "날짜", "품목명", "거래처", "가격", "주문수량", "주문단위", "사용수량", "사용단위");
 
     @Override
     @Transactional
-    public Object createInventory(String token, InventoryRequestDto requestDto) {
+    public Object createInventory(JwtPrincipal principal, InventoryRequestDto requestDto) {
         log.info("재고 정보 생성 시작");
 
         try {
             // 토큰 유효성 검사
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.error("유효하지 않은 토큰");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             if (userPk == null) {
                 log.error("토큰에서 사용자 ID를 가져올 수 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
@@ -84,17 +92,17 @@ public class InventoryServiceImpl implements InventoryService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object findInventoriesByMonth(String token, int year, int month) {
+    public Object findInventoriesByMonth(JwtPrincipal principal, int year, int month) {
         log.info("{}년 {}월 재고 정보 조회 시작", year, month);
 
         try {
             // 토큰 유효성 검사
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.error("유효하지 않은 토큰");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             if (userPk == null) {
                 log.error("토큰에서 사용자 ID를 가져올 수 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
@@ -142,16 +150,16 @@ public class InventoryServiceImpl implements InventoryService {
 
     @Override
     @Transactional
-    public Object deleteInventory(String token, Long inventoryId) {
+    public Object deleteInventory(JwtPrincipal principal, Long inventoryId) {
         log.info("재고 정보 삭제 시작, ID: {}", inventoryId);
 
         try {
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.error("유효하지 않는 토큰");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             if (userPk == null) {
                 log.error("토큰에서 사용자 ID를 가져올 수 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
@@ -177,16 +185,16 @@ public class InventoryServiceImpl implements InventoryService {
 
     @Override
     @Transactional
-    public Object updateInventory(String token, Long inventoryId, UpdateInventoryRequestDto requestDto) {
+    public Object updateInventory(JwtPrincipal principal, Long inventoryId, UpdateInventoryRequestDto requestDto) {
         log.info("재고 정보 수정 시작, ID: {}", inventoryId);
 
         try {
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.error("유효하지 않는 토큰");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             if (userPk == null) {
                 log.error("토큰에서 사용자 ID를 가져올 수 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
@@ -260,4 +268,39 @@ public class InventoryServiceImpl implements InventoryService {
             return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Object exportInventories(JwtPrincipal principal, String startDate, String endDate, String format) {
+        log.info("재고 정보 내보내기 요청 - 기간: {} ~ {}, 형식: {}", startDate, endDate, format);
+
+        try {
+            // 토큰 유효성 검사
+            if (principal == null) {
+                log.error("유효하지 않은 토큰");
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            LocalDate start = LocalDate.parse(startDate, DateTimeFormatter.ISO_DATE);
+            LocalDate end = LocalDate.parse(endDate, DateTimeFormatter.ISO_DATE);
+
+            if (exportFormat == null || start.isAfter(end)) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            // 응답 스트림에 쓰는 시점에 DB 커서를 열어 행 단위로 기록
+            return new StreamingExport("inventory_" + start + "_" + end, exportFormat, out -> {
+                long startTime = System.currentTimeMillis();
+                try (ExportRowWriter writer = ExportRowWriter.open(exportFormat, out, "재고", EXPORT_HEADERS)) {
+                    inventoryRepository.exportByDateRange(start, end, writer);
+                }
+                log.info("재고 정보 내보내기 완료 - 기간: {} ~ {}, {}ms", start, end, System.currentTimeMillis() - startTime);
+            });
+        } catch (DateTimeParseException e) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("재고 정보 내보내기 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
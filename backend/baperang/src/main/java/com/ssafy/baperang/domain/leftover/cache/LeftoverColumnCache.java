@@ -0,0 +1,255 @@
+package com.ssafy.baperang.domain.leftover.cache;
+
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.repository.LeftoverRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 학교별 잔반 컬럼 저장소 관리
+ * - 처음 조회될 때 leftover 테이블에서 학교 전체 이력을 적재하고, 이후 저장분은 커밋 후 추가
+ * - 적재는 맵 잠금 밖에서 별도 스냅샷 트랜잭션으로 실행하고, 스냅샷 이후 커밋된 저장은 버퍼에 모았다가 적재가 끝나면 반영 후 등록
+ * - 적재된 학교 수가 max-schools를 넘으면 가장 오래 조회되지 않은 학교부터 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeftoverColumnCache {
+
+    private final LeftoverRepository leftoverRepository;
+    private final SchoolWriteTracker schoolWriteTracker;
+
+    @Value("${leftover.column-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${leftover.column-cache.max-schools:64}")
+    private int maxSchools;
+
+    private final Map<Long, LeftoverColumnStore> stores = new ConcurrentHashMap<>();
+
+    // 적재 중인 학교
+    private final Map<Long, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LeftoverColumnStore getStore(Long schoolId) {
+        LeftoverColumnStore store = stores.get(schoolId);
+        if (store == null) {
+            store = loadOnce(schoolId);
+        }
+        store.touch();
+        return store;
+    }
+
+    /**
+     * 학생 한 명의 기간 내 잔반 행 조회
+     * 캐시가 꺼져 있으면 해당 학생 데이터만 임시 저장소에 적재해서 반환
+     */
+    public LeftoverColumnStore.StudentRows findStudentRows(Long schoolId, Long studentId,
+                                                           LocalDate startDate, LocalDate endDate) {
+        if (enabled) {
+            return getStore(schoolId).studentRows(studentId, startDate, endDate);
+        }
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        leftoverRepository.loadColumnsByStudent(studentId, startDate, endDate, store);
+        return store.studentRows(studentId, startDate, endDate);
+    }
+
+    /**
+     * 한 학급 학생들의 기간 내 잔반 행을 학생별로 조회
+     * 캐시가 꺼져 있으면 해당 학급 데이터만 한 번의 쿼리로 임시 저장소에 적재해서 반환
+     */
+    public Map<Long, LeftoverColumnStore.StudentRows> findClassRows(Long schoolId, int grade, int classNum,
+                                                                    Collection<Long> studentIds,
+                                                                    LocalDate startDate, LocalDate endDate) {
+        if (enabled) {
+            return getStore(schoolId).studentRowsByStudent(studentIds, startDate, endDate);
+        }
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        leftoverRepository.loadColumnsByClass(schoolId, grade, classNum, startDate, endDate, store);
+        return store.studentRowsByStudent(studentIds, startDate, endDate);
+    }
+
+    /**
+     * 저장된 잔반 데이터를 커밋 후 이미 적재된 학교 저장소에 추가
+     * (적재되지 않은 학교는 다음 조회 시 DB에서 함께 적재됨)
+     */
+    public void appendAfterCommit(List<Leftover> leftovers) {
+        if (!enabled || leftovers.isEmpty()) {
+            return;
+        }
+
+        // 트랜잭션 안에서 필요한 값만 미리 꺼내 둠 (커밋 후에는 지연 로딩 불가)
+        List<PendingRow> rows = new ArrayList<>(leftovers.size());
+        for (Leftover leftover : leftovers) {
+            rows.add(new PendingRow(
+                    leftover.getStudent().getSchool().getId(),
+                    leftover.getLeftoverDate(),
+                    leftover.getMenu().getId(),
+                    leftover.getStudent().getId(),
+                    leftover.getLeftoverRate(),
+                    leftover.getLeftMenuName()));
+        }
+
+        Set<Long> schoolIds = new HashSet<>();
+        for (PendingRow row : rows) {
+            schoolIds.add(row.schoolId());
+        }
+
+        // 트랜잭션 밖에서는 이미 커밋된 행이라 진행 중인 적재에 포함됐을 수 있으므로 추가 대신 무효화
+        if (!schoolWriteTracker.runAfterCommit(schoolIds, () -> append(rows))) {
+            schoolIds.forEach(this::invalidate);
+        }
+    }
+
+    public void evictAll() {
+        stores.clear();
+        log.info("잔반 컬럼 캐시 전체 제거");
+    }
+
+    // 커밋 후 학교 읽기 잠금 안에서 실행 (적재 중인 학교는 스냅샷 이후 커밋분으로 버퍼에 보관)
+    private void append(List<PendingRow> rows) {
+        for (PendingRow row : rows) {
+            LeftoverColumnStore store = stores.get(row.schoolId());
+            if (store != null) {
+                append(store, row);
+                continue;
+            }
+            PendingLoad pending = pendingLoads.get(row.schoolId());
+            if (pending != null && pending.buffering) {
+                pending.committed.add(row);
+            }
+        }
+    }
+
+    private void append(LeftoverColumnStore store, PendingRow row) {
+        store.append(row.leftoverDate(), row.menuId(), row.studentId(), row.leftoverRate(), row.menuName());
+    }
+
+    private void invalidate(Long schoolId) {
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            stores.remove(schoolId);
+            PendingLoad pending = pendingLoads.get(schoolId);
+            if (pending != null) {
+                pending.publish = false;
+            }
+        });
+    }
+
+    // 같은 학교를 동시에 조회하면 먼저 시작한 적재 하나를 함께 기다림
+    private LeftoverColumnStore loadOnce(Long schoolId) {
+        PendingLoad pending = new PendingLoad();
+        PendingLoad running = pendingLoads.putIfAbsent(schoolId, pending);
+        if (running != null) {
+            return awaitLoad(running);
+        }
+
+        // 앞선 적재가 등록을 막 끝냈을 수 있음
+        LeftoverColumnStore store = stores.get(schoolId);
+        if (store != null) {
+            pendingLoads.remove(schoolId, pending);
+            pending.result.complete(store);
+            return store;
+        }
+
+        try {
+            store = schoolWriteTracker.snapshotTransaction().execute(status -> load(schoolId, pending));
+            pending.result.complete(store);
+            return store;
+        } catch (RuntimeException e) {
+            schoolWriteTracker.runExclusive(schoolId, () -> pendingLoads.remove(schoolId, pending));
+            pending.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private LeftoverColumnStore load(Long schoolId, PendingLoad pending) {
+        long startTime = System.currentTimeMillis();
+
+        // 스냅샷 고정과 버퍼 등록을 한 번에 해야 스냅샷 이후 커밋이 빠짐없이, 중복 없이 버퍼에 들어감
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            leftoverRepository.openReadSnapshot();
+            pending.buffering = true;
+        });
+
+        // 전체 이력 스트리밍은 잠금 밖에서 (그동안의 저장 커밋은 버퍼에 쌓임)
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        leftoverRepository.loadColumnsBySchool(schoolId, store);
+
+        int[] replayed = new int[1];
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            for (PendingRow row : pending.committed) {
+                append(store, row);
+                replayed[0]++;
+            }
+            if (pending.publish) {
+                stores.put(schoolId, store);
+            }
+            pendingLoads.remove(schoolId, pending);
+        });
+        evictIfFull(schoolId);
+
+        log.info("잔반 컬럼 캐시 적재 - 학교 ID: {}, 행 수: {}, 적재 중 커밋 반영: {}건, 메모리: {}KB, {}ms",
+                schoolId, store.size(), replayed[0], store.estimatedBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+        return store;
+    }
+
+    private LeftoverColumnStore awaitLoad(PendingLoad running) {
+        try {
+            return running.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(Long loadedSchoolId) {
+        while (stores.size() > maxSchools) {
+            Long oldest = stores.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(loadedSchoolId))
+                    .min(Comparator.comparingLong(entry -> entry.getValue().getLastAccessMillis()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            if (oldest == null) {
+                return;
+            }
+            stores.remove(oldest);
+            log.info("잔반 컬럼 캐시 제거 - 학교 ID: {}", oldest);
+        }
+    }
+
+    private static class PendingLoad {
+        private final CompletableFuture<LeftoverColumnStore> result = new CompletableFuture<>();
+        // 스냅샷 이후 커밋된 행 (여러 저장 트랜잭션이 동시에 추가)
+        private final Queue<PendingRow> committed = new ConcurrentLinkedQueue<>();
+        private volatile boolean buffering;
+        private volatile boolean publish = true;
+    }
+
+    private record PendingRow(Long schoolId, LocalDate leftoverDate, Long menuId, Long studentId,
+                              Float leftoverRate, String menuName) {
+    }
+}
@@ -0,0 +1,347 @@
+package com.ssafy.baperang.domain.leftover.cache;
+
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 학교 단위 잔반 데이터 컬럼 저장소
+ * 행마다 엔티티를 만들지 않고 컬럼별 primitive 배열에 저장하여 집계 시 배열만 순차 스캔
+ * - 추가는 appendLock으로 직렬화, 조회는 volatile 스냅샷(size 이하 인덱스만 읽음)으로 락 없이 수행
+ * - 날짜별 행 번호 색인을 함께 유지해 짧은 기간(하루, 한 달) 조회는 전체 이력을 스캔하지 않음
+ */
+public class LeftoverColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 잔반율(0~100%)을 0.01% 단위 정수로 저장 (0~10000)
+    private static final float RATE_SCALE = 100f;
+
+    private final Object appendLock = new Object();
+
+    // 메뉴 ID -> 메뉴명 사전 (메뉴명은 행마다 저장하지 않음)
+    private final Map<Integer, String> menuNames = new ConcurrentHashMap<>();
+
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+
+    // epoch day -> 그 날짜 행 번호 목록 (columns 발행 후 갱신되므로 조회 시 스냅샷 size 이상 번호는 무시)
+    private final Map<Integer, DayRows> dayIndex = new ConcurrentHashMap<>();
+
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    public void append(LocalDate leftoverDate, long menuId, long studentId, float leftoverRate, String menuName) {
+        int menuKey = Math.toIntExact(menuId);
+
+        synchronized (appendLock) {
+            Columns current = columns;
+            Columns target = current.size < current.dayEpoch.length ? current : current.grow();
+            int index = current.size;
+
+            int day = (int) leftoverDate.toEpochDay();
+            target.dayEpoch[index] = day;
+            target.menuId[index] = menuKey;
+            target.studentId[index] = Math.toIntExact(studentId);
+            target.rateBasisPoints[index] = (short) Math.round(leftoverRate * RATE_SCALE);
+
+            if (menuName != null) {
+                menuNames.putIfAbsent(menuKey, menuName);
+            }
+
+            // 배열 기록 후 size를 늘린 스냅샷을 발행해야 조회 스레드가 완성된 행만 읽음
+            columns = target.withSize(index + 1);
+            dayIndex.put(day, DayRows.append(dayIndex.get(day), index));
+        }
+    }
+
+    public int size() {
+        return columns.size;
+    }
+
+    public long estimatedBytes() {
+        // dayEpoch, menuId, studentId (int 3개) + rateBasisPoints (short)
+        // 날짜 색인은 행마다 int 하나
+        return (long) columns.dayEpoch.length * (Integer.BYTES * 4 + Short.BYTES);
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 기간 내 메뉴명별 평균 잔반율
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (미포함)
+     */
+    public List<LeftoverDateResponseDto.MenuLeftoverRate> menuAverages(LocalDate startDate, LocalDate endDate) {
+        Columns snapshot = columns;
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+
+        // 메뉴 ID별 [합계, 건수]
+        Map<Integer, long[]> byMenu = new HashMap<>();
+        forEachRow(snapshot, from, to, i -> {
+            long[] acc = byMenu.computeIfAbsent(snapshot.menuId[i], k -> new long[2]);
+            acc[0] += snapshot.rateBasisPoints[i];
+            acc[1]++;
+        });
+
+        // 같은 이름의 메뉴는 합산 (기존 left_menu_name 기준 집계와 동일)
+        Map<String, long[]> byName = new LinkedHashMap<>();
+        for (Map.Entry<Integer, long[]> entry : byMenu.entrySet()) {
+            String menuName = menuNames.getOrDefault(entry.getKey(), String.valueOf(entry.getKey()));
+            long[] acc = byName.computeIfAbsent(menuName, k -> new long[2]);
+            acc[0] += entry.getValue()[0];
+            acc[1] += entry.getValue()[1];
+        }
+
+        List<LeftoverDateResponseDto.MenuLeftoverRate> result = new ArrayList<>(byName.size());
+        for (Map.Entry<String, long[]> entry : byName.entrySet()) {
+            long[] acc = entry.getValue();
+            result.add(new LeftoverDateResponseDto.MenuLeftoverRate(
+                    entry.getKey(), acc[0] / (double) RATE_SCALE / acc[1]));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 일자별 잔반율 합계/건수 (날짜 오름차순, 데이터 없는 날짜 제외)
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (미포함)
+     */
+    public List<DailyLeftoverAggregateDto> dailyAggregates(LocalDate startDate, LocalDate endDate) {
+        Columns snapshot = columns;
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+        if (to <= from) {
+            return new ArrayList<>();
+        }
+
+        // 기간 길이만큼의 dense 배열에 누적
+        long[] sums = new long[to - from];
+        long[] counts = new long[to - from];
+        forEachRow(snapshot, from, to, i -> {
+            int offset = snapshot.dayEpoch[i] - from;
+            sums[offset] += snapshot.rateBasisPoints[i];
+            counts[offset]++;
+        });
+
+        List<DailyLeftoverAggregateDto> result = new ArrayList<>();
+        for (int offset = 0; offset < counts.length; offset++) {
+            if (counts[offset] > 0) {
+                result.add(new DailyLeftoverAggregateDto(
+                        LocalDate.ofEpochDay(from + offset),
+                        sums[offset] / (double) RATE_SCALE,
+                        counts[offset]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 학생 한 명의 기간 내 잔반 행
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     */
+    public StudentRows studentRows(long studentId, LocalDate startDate, LocalDate endDate) {
+        Columns snapshot = columns;
+        int student = Math.toIntExact(studentId);
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+
+        StudentRows rows = new StudentRows();
+        forEachRow(snapshot, from, to + 1, i -> {
+            if (snapshot.studentId[i] == student) {
+                rows.add(snapshot.dayEpoch[i], snapshot.menuId[i], snapshot.rateBasisPoints[i],
+                        menuNames.get(snapshot.menuId[i]));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * 여러 학생의 기간 내 잔반 행을 한 번의 순회로 학생별로 나눔 (행이 없는 학생도 빈 결과 포함)
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     */
+    public Map<Long, StudentRows> studentRowsByStudent(Collection<Long> studentIds, LocalDate startDate, LocalDate endDate) {
+        Columns snapshot = columns;
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+
+        Map<Integer, StudentRows> byStudent = new HashMap<>();
+        for (Long studentId : studentIds) {
+            byStudent.put(Math.toIntExact(studentId), new StudentRows());
+        }
+
+        forEachRow(snapshot, from, to + 1, i -> {
+            StudentRows rows = byStudent.get(snapshot.studentId[i]);
+            if (rows != null) {
+                rows.add(snapshot.dayEpoch[i], snapshot.menuId[i], snapshot.rateBasisPoints[i],
+                        menuNames.get(snapshot.menuId[i]));
+            }
+        });
+
+        Map<Long, StudentRows> result = new HashMap<>();
+        byStudent.forEach((studentId, rows) -> result.put(studentId.longValue(), rows));
+        return result;
+    }
+
+    /**
+     * 기간 [from, to) 안의 행 번호를 순회
+     * 기간의 날짜 수가 데이터가 있는 날짜 수 이하이면 날짜 색인으로 해당 날짜 행만 읽고, 아니면 전체 스캔
+     */
+    private void forEachRow(Columns snapshot, int from, int to, IntConsumer action) {
+        if (to <= from) {
+            return;
+        }
+
+        if ((long) to - from <= dayIndex.size()) {
+            for (int day = from; day < to; day++) {
+                DayRows dayRows = dayIndex.get(day);
+                if (dayRows == null) {
+                    continue;
+                }
+                for (int j = 0; j < dayRows.size; j++) {
+                    int row = dayRows.rows[j];
+                    if (row < snapshot.size) {
+                        action.accept(row);
+                    }
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < snapshot.size; i++) {
+            int day = snapshot.dayEpoch[i];
+            if (day >= from && day < to) {
+                action.accept(i);
+            }
+        }
+    }
+
+    /**
+     * 학생별 조회 결과 (행 단위 접근자 제공)
+     */
+    public static class StudentRows {
+
+        private int[] dayEpoch = new int[16];
+        private int[] menuId = new int[16];
+        private short[] rateBasisPoints = new short[16];
+        private String[] menuName = new String[16];
+        private int size;
+
+        private void add(int day, int menu, short rate, String name) {
+            if (size == dayEpoch.length) {
+                int capacity = size * 2;
+                dayEpoch = Arrays.copyOf(dayEpoch, capacity);
+                menuId = Arrays.copyOf(menuId, capacity);
+                rateBasisPoints = Arrays.copyOf(rateBasisPoints, capacity);
+                menuName = Arrays.copyOf(menuName, capacity);
+            }
+            dayEpoch[size] = day;
+            menuId[size] = menu;
+            rateBasisPoints[size] = rate;
+            menuName[size] = name;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public LocalDate getDate(int index) {
+            return LocalDate.ofEpochDay(dayEpoch[index]);
+        }
+
+        // 날짜 (epoch day, LocalDate 생성 없이 비교할 때 사용)
+        public int getDayEpoch(int index) {
+            return dayEpoch[index];
+        }
+
+        public long getMenuId(int index) {
+            return menuId[index];
+        }
+
+        // 잔반율 (%)
+        public float getLeftoverRate(int index) {
+            return rateBasisPoints[index] / RATE_SCALE;
+        }
+
+        public String getMenuName(int index) {
+            return menuName[index];
+        }
+    }
+
+    // 한 날짜의 행 번호 목록 스냅샷 (Columns와 같이 배열은 size 이후 영역만 추가 기록됨)
+    private static final class DayRows {
+        private final int[] rows;
+        private final int size;
+
+        private DayRows(int[] rows, int size) {
+            this.rows = rows;
+            this.size = size;
+        }
+
+        private static DayRows append(DayRows current, int row) {
+            if (current == null) {
+                int[] rows = new int[8];
+                rows[0] = row;
+                return new DayRows(rows, 1);
+            }
+            int[] rows = current.size < current.rows.length
+                    ? current.rows
+                    : Arrays.copyOf(current.rows, current.rows.length * 2);
+            rows[current.size] = row;
+            return new DayRows(rows, current.size + 1);
+        }
+    }
+
+    // 컬럼 배열과 유효 행 수를 묶은 불변 스냅샷 (배열은 size 이후 영역만 추가 기록됨)
+    private static final class Columns {
+        private final int[] dayEpoch;
+        private final int[] menuId;
+        private final int[] studentId;
+        private final short[] rateBasisPoints;
+        private final int size;
+
+        private Columns(int capacity) {
+            this(new int[capacity], new int[capacity], new int[capacity], new short[capacity], 0);
+        }
+
+        private Columns(int[] dayEpoch, int[] menuId, int[] studentId, short[] rateBasisPoints, int size) {
+            this.dayEpoch = dayEpoch;
+            this.menuId = menuId;
+            this.studentId = studentId;
+            this.rateBasisPoints = rateBasisPoints;
+            this.size = size;
+        }
+
+        private Columns grow() {
+            int capacity = dayEpoch.length * 2;
+            return new Columns(
+                    Arrays.copyOf(dayEpoch, capacity),
+                    Arrays.copyOf(menuId, capacity),
+                    Arrays.copyOf(studentId, capacity),
+                    Arrays.copyOf(rateBasisPoints, capacity),
+                    size);
+        }
+
+        private Columns withSize(int newSize) {
+            return new Columns(dayEpoch, menuId, studentId, rateBasisPoints, newSize);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.baperang.domain.leftover.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 학교별 잔반 저장 커밋과 캐시 적재 스냅샷의 순서 조정
+ * - 저장 트랜잭션은 커밋 직전(beforeCommit)부터 완료(afterCompletion)까지 학교 읽기 잠금을 잡고, 커밋 후 반영도 그 안에서 실행
+ * - 적재하는 쪽은 쓰기 잠금을 잡은 짧은 순간에 DB 스냅샷을 열고 반영 버퍼를 등록
+ *   → 스냅샷 전에 커밋된 저장은 스냅샷에, 이후 커밋된 저장은 버퍼에 정확히 한 번씩 들어감
+ * - 오래 걸리는 전체 적재는 잠금 밖에서 실행하므로 그동안의 저장 커밋은 막지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SchoolWriteTracker {
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, ReentrantReadWriteLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 트랜잭션이 커밋되면 학교 읽기 잠금 안에서 action 실행
+     * @return 트랜잭션 동기화가 없어 등록하지 못했으면 false (호출자가 캐시를 무효화해야 함)
+     */
+    public boolean runAfterCommit(Collection<Long> schoolIds, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        // 여러 학교를 잡을 때 항상 같은 순서로 잡음
+        List<Long> ordered = new ArrayList<>(new TreeSet<>(schoolIds));
+        List<Lock> acquired = new ArrayList<>(ordered.size());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                for (Long schoolId : ordered) {
+                    Lock lock = lockOf(schoolId).readLock();
+                    lock.lock();
+                    acquired.add(lock);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = acquired.size() - 1; i >= 0; i--) {
+                    acquired.get(i).unlock();
+                }
+                acquired.clear();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 학교 쓰기 잠금 안에서 action 실행 (그동안 해당 학교 저장은 커밋 직전에서 대기)
+     * 스냅샷 열기, 버퍼 반영처럼 짧은 작업에만 사용
+     */
+    public void runExclusive(Long schoolId, Runnable action) {
+        Lock lock = lockOf(schoolId).writeLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 적재용 트랜잭션 (호출한 쪽 트랜잭션과 분리된 REPEATABLE READ 읽기 전용)
+     * 첫 일관 읽기 시점의 스냅샷이 트랜잭션 끝까지 유지됨
+     */
+    public TransactionTemplate snapshotTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private ReentrantReadWriteLock lockOf(Long schoolId) {
+        return locks.computeIfAbsent(schoolId, id -> new ReentrantReadWriteLock());
+    }
+}
@@ -2,12 +2,16 @@ package com.ssafy.baperang.domain.leftover.controller;
 
 import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
 import com.ssafy.baperang.domain.leftover.service.LeftoverService;
+import com.ssafy.baperang.global.export.StreamingExport;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -19,10 +23,14 @@ public class LeftoverController {
     private final LeftoverService leftoverService;
 
     @GetMapping("/leftover/date/{date}")
-    public ResponseEntity<?> getLeftoversByDate(@PathVariable String date) {
+    public ResponseEntity<?> getLeftoversByDate(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable String date) {
         log.info("getLeftoversByDate 함수 호출 - 날짜: {}", date);
 
-        Object result = leftoverService.getLeftoversByDate(date);
+        Long userId = principal.userId();
+
+        Object result = leftoverService.getLeftoversByDate(userId, date);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -36,12 +44,15 @@ public class LeftoverController {
 
     @GetMapping("/leftover/month/{year}/{month}")
     public ResponseEntity<?> getLeftoversByMonth(
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable int year,
             @PathVariable int month) {
 
         log.info("getLeftoversByMonth 함수 호출 - 년도: {}, 월: {}", year, month);
 
-        Object result = leftoverService.getLeftoversByMonth(year, month);
+        Long userId = principal.userId();
+
+        Object result = leftoverService.getLeftoversByMonth(userId, year, month);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
@@ -53,4 +64,73 @@ public class LeftoverController {
         log.info("getLeftoversByMonth 함수 정상 응답");
         return ResponseEntity.ok(result);
     }
+
+    // 메뉴별 잔반율 분포 (중앙값, p90, 1% 구간 히스토그램), menuName 생략 시 학교 전체
+    @GetMapping("/leftover/distribution")
+    public ResponseEntity<?> getLeftoverDistribution(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false) String menuName,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        log.info("getLeftoverDistribution 함수 호출 - 메뉴: {}, 기간: {} ~ {}", menuName, startDate, endDate);
+
+        Long userId = principal.userId();
+
+        Object result = leftoverService.getLeftoverDistribution(userId, menuName, startDate, endDate);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            log.info("getLeftoverDistribution 함수 에러 응답");
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        log.info("getLeftoverDistribution 함수 정상 응답");
+        return ResponseEntity.ok(result);
+    }
+
+    // 학년/반별 평균 섭취 영양소와 잔반율, grade 지정 시 해당 학년만
+    @GetMapping("/leftover/intake/cube")
+    public ResponseEntity<?> getIntakeCube(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) Integer grade) {
+        log.info("getIntakeCube 함수 호출 - 기간: {} ~ {}, 학년: {}", startDate, endDate, grade);
+
+        Long userId = principal.userId();
+
+        Object result = leftoverService.getIntakeCube(userId, startDate, endDate, grade);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            log.info("getIntakeCube 함수 에러 응답");
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        log.info("getIntakeCube 함수 정상 응답");
+        return ResponseEntity.ok(result);
+    }
+
+    // 학교의 기간 내 잔반 이력 내보내기 (format: csv, xlsx)
+    @GetMapping("/leftover/export")
+    public ResponseEntity<?> exportLeftovers(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.info("exportLeftovers 함수 호출 - 기간: {} ~ {}, 형식: {}", startDate, endDate, format);
+
+        Long userId = principal.userId();
+
+        Object result = leftoverService.exportLeftovers(userId, startDate, endDate, format);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            log.info("exportLeftovers 함수 에러 응답");
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        log.info("exportLeftovers 함수 정상 응답");
+        return ((StreamingExport) result).toResponseEntity();
+    }
 }
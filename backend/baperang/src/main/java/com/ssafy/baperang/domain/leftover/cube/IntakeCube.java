@@ -0,0 +1,151 @@
+package com.ssafy.baperang.domain.leftover.cube;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학교 한 학년도의 (학년, 반, 날짜) x 영양소 섭취 집계 큐브
+ * - 반마다 [날짜 순번 * 6 + 측정값] int 배열 하나와 날짜별 잔반율 합계 double 배열 하나만 가지므로
+ *   40개 반 1년치가 약 0.5MB
+ * - 측정값: 열량, 탄수화물, 단백질, 지방 섭취 합계, 잔반 행 수, 기록이 있는 학생 수(학생-일)
+ * - 갱신(커밋 후 증분 반영)과 조회는 큐브 단위로 동기화
+ */
+public class IntakeCube {
+
+    public static final int KCAL = 0;
+    public static final int CARBO = 1;
+    public static final int PROTEIN = 2;
+    public static final int FAT = 3;
+    public static final int RATE_COUNT = 4;
+    public static final int STUDENT_DAYS = 5;
+
+    private static final int MEASURE_COUNT = 6;
+
+    private final LocalDate startDate;
+    private final int startEpochDay;
+    private final int days;
+
+    // (학년 * 1000 + 반) -> 반 순번
+    private final Map<Integer, Integer> classSlots = new HashMap<>();
+    private final List<int[]> classKeys = new ArrayList<>();
+    private final List<int[]> measures = new ArrayList<>();
+    private final List<double[]> rateSums = new ArrayList<>();
+
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    /**
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (미포함)
+     */
+    public IntakeCube(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.startEpochDay = (int) startDate.toEpochDay();
+        this.days = (int) (endDate.toEpochDay() - startDate.toEpochDay());
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(days);
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    public synchronized int classCount() {
+        return classKeys.size();
+    }
+
+    public synchronized long estimatedBytes() {
+        return (long) classKeys.size() * days * (MEASURE_COUNT * Integer.BYTES + Double.BYTES);
+    }
+
+    /**
+     * 한 칸에 값 누적 (기간 밖의 날짜는 무시)
+     */
+    public synchronized void add(int grade, int classNum, LocalDate date,
+                                 int kcal, int carbo, int protein, int fat,
+                                 double rateSum, int rateCount, int studentDays) {
+        int day = (int) date.toEpochDay() - startEpochDay;
+        if (day < 0 || day >= days) {
+            return;
+        }
+
+        int slot = slotOf(grade, classNum);
+        int[] cells = measures.get(slot);
+        int base = day * MEASURE_COUNT;
+        cells[base + KCAL] += kcal;
+        cells[base + CARBO] += carbo;
+        cells[base + PROTEIN] += protein;
+        cells[base + FAT] += fat;
+        cells[base + RATE_COUNT] += rateCount;
+        cells[base + STUDENT_DAYS] += studentDays;
+        rateSums.get(slot)[day] += rateSum;
+    }
+
+    /**
+     * 기간 내 반별 합계 (큐브 기간과 겹치는 부분만, 학년/반 오름차순)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    public synchronized List<ClassTotals> sumByClass(LocalDate from, LocalDate to) {
+        int fromDay = Math.max(0, (int) from.toEpochDay() - startEpochDay);
+        int toDay = Math.min(days - 1, (int) to.toEpochDay() - startEpochDay);
+
+        List<ClassTotals> result = new ArrayList<>(classKeys.size());
+        for (int slot = 0; slot < classKeys.size(); slot++) {
+            int[] cells = measures.get(slot);
+            double[] rates = rateSums.get(slot);
+
+            long[] totals = new long[MEASURE_COUNT];
+            double rateSum = 0;
+            for (int day = fromDay; day <= toDay; day++) {
+                int base = day * MEASURE_COUNT;
+                for (int measure = 0; measure < MEASURE_COUNT; measure++) {
+                    totals[measure] += cells[base + measure];
+                }
+                rateSum += rates[day];
+            }
+
+            if (totals[STUDENT_DAYS] > 0 || totals[RATE_COUNT] > 0) {
+                int[] key = classKeys.get(slot);
+                result.add(new ClassTotals(key[0], key[1], totals, rateSum));
+            }
+        }
+
+        result.sort((a, b) -> a.grade() != b.grade()
+                ? Integer.compare(a.grade(), b.grade())
+                : Integer.compare(a.classNum(), b.classNum()));
+        return result;
+    }
+
+    private int slotOf(int grade, int classNum) {
+        return classSlots.computeIfAbsent(grade * 1000 + classNum, key -> {
+            classKeys.add(new int[]{grade, classNum});
+            measures.add(new int[days * MEASURE_COUNT]);
+            rateSums.add(new double[days]);
+            return classKeys.size() - 1;
+        });
+    }
+
+    /**
+     * 반 단위 기간 합계
+     * totals 인덱스: KCAL, CARBO, PROTEIN, FAT, RATE_COUNT, STUDENT_DAYS
+     */
+    public record ClassTotals(int grade, int classNum, long[] totals, double rateSum) {
+
+        public long get(int measure) {
+            return totals[measure];
+        }
+    }
+}
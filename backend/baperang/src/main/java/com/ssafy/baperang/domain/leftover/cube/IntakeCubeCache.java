@@ -0,0 +1,278 @@
+package com.ssafy.baperang.domain.leftover.cube;
+
+import com.ssafy.baperang.domain.leftover.cache.SchoolWriteTracker;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository.IntakeDelta;
+import com.ssafy.baperang.domain.student.entity.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학교/학년도별 섭취 집계 큐브 관리
+ * - 처음 조회될 때 student_daily_intake에서 학년도 전체를 한 번에 적재하고, 이후 잔반 저장분은 커밋 후 증분 반영
+ * - 적재는 맵 잠금 밖에서 별도 스냅샷 트랜잭션으로 실행하고, 스냅샷 이후 커밋된 증가분은 버퍼에 모았다가 적재가 끝나면 반영 후 등록
+ * - 학년도: 3월 1일 ~ 다음 해 2월 말
+ * - 적재된 큐브 수가 max-cubes를 넘으면 가장 오래 조회되지 않은 큐브부터 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntakeCubeCache {
+
+    private final StudentDailyIntakeRepository studentDailyIntakeRepository;
+    private final SchoolWriteTracker schoolWriteTracker;
+
+    @Value("${leftover.intake-cube.max-cubes:32}")
+    private int maxCubes;
+
+    // 키: "학교ID:학년도"
+    private final Map<String, IntakeCube> cubes = new ConcurrentHashMap<>();
+
+    // 적재 중인 큐브
+    private final Map<String, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+    // evictAll마다 증가 (집계 재생성 전 스냅샷으로 적재한 큐브 등록 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    // 날짜가 속한 학년도 (3월 시작)
+    public static int schoolYearOf(LocalDate date) {
+        return date.getMonthValue() >= 3 ? date.getYear() : date.getYear() - 1;
+    }
+
+    public IntakeCube getCube(Long schoolId, int schoolYear) {
+        String key = cacheKey(schoolId, schoolYear);
+        IntakeCube cube = cubes.get(key);
+        if (cube == null) {
+            cube = loadOnce(key, schoolId, schoolYear);
+        }
+        cube.touch();
+        return cube;
+    }
+
+    /**
+     * 기간 내 반별 합계 (기간이 학년도를 넘으면 큐브별 합계를 합산)
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     */
+    public List<IntakeCube.ClassTotals> sumByClass(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        Map<Integer, IntakeCube.ClassTotals> merged = new HashMap<>();
+        for (int year = schoolYearOf(startDate); year <= schoolYearOf(endDate); year++) {
+            for (IntakeCube.ClassTotals totals : getCube(schoolId, year).sumByClass(startDate, endDate)) {
+                merged.merge(totals.grade() * 1000 + totals.classNum(), totals, IntakeCubeCache::mergeTotals);
+            }
+        }
+
+        List<IntakeCube.ClassTotals> result = new ArrayList<>(merged.values());
+        result.sort(Comparator.comparingInt(IntakeCube.ClassTotals::grade)
+                .thenComparingInt(IntakeCube.ClassTotals::classNum));
+        return result;
+    }
+
+    /**
+     * 학생 일 섭취 증가분을 커밋 후 이미 적재된 큐브에 반영
+     * (적재되지 않은 학년도는 다음 조회 시 DB에서 함께 적재됨)
+     */
+    public void applyAfterCommit(List<Leftover> leftovers, List<IntakeDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 트랜잭션 안에서 학생의 학교/학년/반을 미리 꺼내 둠 (커밋 후에는 지연 로딩 불가)
+        Map<Long, int[]> classByStudent = new HashMap<>();
+        Map<Long, Long> schoolByStudent = new HashMap<>();
+        for (Leftover leftover : leftovers) {
+            Student student = leftover.getStudent();
+            if (!classByStudent.containsKey(student.getId())) {
+                classByStudent.put(student.getId(), new int[]{student.getGrade(), student.getClassNum()});
+                schoolByStudent.put(student.getId(), student.getSchool().getId());
+            }
+        }
+
+        Set<Long> schoolIds = new HashSet<>(schoolByStudent.values());
+
+        // 트랜잭션 밖에서는 이미 커밋된 행이라 진행 중인 적재에 포함됐을 수 있으므로 반영 대신 무효화
+        if (!schoolWriteTracker.runAfterCommit(schoolIds, () -> apply(deltas, classByStudent, schoolByStudent))) {
+            schoolIds.forEach(this::invalidate);
+        }
+    }
+
+    public void evictAll() {
+        // 집계 테이블 재생성 전에 시작된 적재는 등록하지 않음
+        generation.incrementAndGet();
+        cubes.clear();
+        log.info("섭취 집계 큐브 전체 제거");
+    }
+
+    // 커밋 후 학교 읽기 잠금 안에서 실행 (적재 중인 큐브는 스냅샷 이후 커밋분으로 버퍼에 보관)
+    private void apply(List<IntakeDelta> deltas, Map<Long, int[]> classByStudent, Map<Long, Long> schoolByStudent) {
+        for (IntakeDelta delta : deltas) {
+            int[] gradeClass = classByStudent.get(delta.studentId());
+            if (gradeClass == null) {
+                continue;
+            }
+            String key = cacheKey(schoolByStudent.get(delta.studentId()), schoolYearOf(delta.intakeDate()));
+            IntakeCube cube = cubes.get(key);
+            if (cube != null) {
+                apply(cube, gradeClass, delta);
+                continue;
+            }
+            PendingLoad pending = pendingLoads.get(key);
+            if (pending != null && pending.buffering) {
+                pending.committed.add(new PendingDelta(gradeClass, delta));
+            }
+        }
+    }
+
+    private void apply(IntakeCube cube, int[] gradeClass, IntakeDelta delta) {
+        cube.add(gradeClass[0], gradeClass[1], delta.intakeDate(),
+                delta.kcal(), delta.carbo(), delta.protein(), delta.fat(),
+                delta.rateSum(), delta.rateCount(), delta.newStudentDay() ? 1 : 0);
+    }
+
+    private void invalidate(Long schoolId) {
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            cubes.keySet().removeIf(key -> schoolId.equals(schoolIdOf(key)));
+            pendingLoads.forEach((key, pending) -> {
+                if (schoolId.equals(schoolIdOf(key))) {
+                    pending.publish = false;
+                }
+            });
+        });
+    }
+
+    // 같은 큐브를 동시에 조회하면 먼저 시작한 적재 하나를 함께 기다림
+    private IntakeCube loadOnce(String key, Long schoolId, int schoolYear) {
+        PendingLoad pending = new PendingLoad(generation.get());
+        PendingLoad running = pendingLoads.putIfAbsent(key, pending);
+        if (running != null) {
+            return awaitLoad(running);
+        }
+
+        // 앞선 적재가 등록을 막 끝냈을 수 있음
+        IntakeCube cube = cubes.get(key);
+        if (cube != null) {
+            pendingLoads.remove(key, pending);
+            pending.result.complete(cube);
+            return cube;
+        }
+
+        try {
+            cube = schoolWriteTracker.snapshotTransaction().execute(status -> load(key, schoolId, schoolYear, pending));
+            pending.result.complete(cube);
+            return cube;
+        } catch (RuntimeException e) {
+            schoolWriteTracker.runExclusive(schoolId, () -> pendingLoads.remove(key, pending));
+            pending.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private IntakeCube load(String key, Long schoolId, int schoolYear, PendingLoad pending) {
+        long startTime = System.currentTimeMillis();
+
+        // 스냅샷 고정과 버퍼 등록을 한 번에 해야 스냅샷 이후 커밋이 빠짐없이, 중복 없이 버퍼에 들어감
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            studentDailyIntakeRepository.openReadSnapshot();
+            pending.buffering = true;
+        });
+
+        // 학년도 집계 쿼리는 잠금 밖에서 (그동안의 저장 커밋은 버퍼에 쌓임)
+        LocalDate startDate = LocalDate.of(schoolYear, 3, 1);
+        IntakeCube cube = new IntakeCube(startDate, startDate.plusYears(1));
+        studentDailyIntakeRepository.loadClassCube(schoolId, cube.getStartDate(), cube.getEndDate(), cube);
+
+        int[] replayed = new int[1];
+        schoolWriteTracker.runExclusive(schoolId, () -> {
+            for (PendingDelta pendingDelta : pending.committed) {
+                apply(cube, pendingDelta.gradeClass(), pendingDelta.delta());
+                replayed[0]++;
+            }
+            if (pending.publish && pending.generation == generation.get()) {
+                cubes.put(key, cube);
+            }
+            pendingLoads.remove(key, pending);
+        });
+        evictIfFull(key);
+
+        log.info("섭취 집계 큐브 적재 - 학교 ID: {}, 학년도: {}, 반 수: {}, 적재 중 커밋 반영: {}건, 메모리: {}KB, {}ms",
+                schoolId, schoolYear, cube.classCount(), replayed[0], cube.estimatedBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+        return cube;
+    }
+
+    private IntakeCube awaitLoad(PendingLoad running) {
+        try {
+            return running.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(String loadedKey) {
+        while (cubes.size() > maxCubes) {
+            String oldest = cubes.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(loadedKey))
+                    .min(Comparator.comparingLong(entry -> entry.getValue().getLastAccessMillis()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            if (oldest == null) {
+                return;
+            }
+            cubes.remove(oldest);
+            log.info("섭취 집계 큐브 제거 - {}", oldest);
+        }
+    }
+
+    private static IntakeCube.ClassTotals mergeTotals(IntakeCube.ClassTotals a, IntakeCube.ClassTotals b) {
+        long[] totals = a.totals().clone();
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] += b.totals()[i];
+        }
+        return new IntakeCube.ClassTotals(a.grade(), a.classNum(), totals, a.rateSum() + b.rateSum());
+    }
+
+    private String cacheKey(Long schoolId, int schoolYear) {
+        return schoolId + ":" + schoolYear;
+    }
+
+    private static Long schoolIdOf(String cacheKey) {
+        return Long.valueOf(cacheKey.substring(0, cacheKey.indexOf(':')));
+    }
+
+    private static class PendingLoad {
+        private final CompletableFuture<IntakeCube> result = new CompletableFuture<>();
+        // 스냅샷 이후 커밋된 증가분 (여러 저장 트랜잭션이 동시에 추가)
+        private final Queue<PendingDelta> committed = new ConcurrentLinkedQueue<>();
+        private final long generation;
+        private volatile boolean buffering;
+        private volatile boolean publish = true;
+
+        private PendingLoad(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private record PendingDelta(int[] gradeClass, IntakeDelta delta) {
+    }
+}
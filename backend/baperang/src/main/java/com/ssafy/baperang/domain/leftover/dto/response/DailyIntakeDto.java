@@ -0,0 +1,23 @@
+package com.ssafy.baperang.domain.leftover.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 학생 일 섭취 영양소 (student_daily_intake 한 행)
+@Getter
+@AllArgsConstructor
+public class DailyIntakeDto {
+    private final LocalDate date;
+    private final int kcal;
+    private final int carbo;
+    private final int protein;
+    private final int fat;
+    private final double rateSum;
+    private final long count;
+
+    public double getAverageRate() {
+        return count > 0 ? rateSum / count : 0.0;
+    }
+}
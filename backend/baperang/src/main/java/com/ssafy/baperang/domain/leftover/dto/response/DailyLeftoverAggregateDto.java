@@ -0,0 +1,23 @@
+package com.ssafy.baperang.domain.leftover.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class DailyLeftoverAggregateDto {
+    private final LocalDate date;
+    private final double rateSum;
+    private final long count;
+
+    // JPQL new 연산자용 생성자
+    public DailyLeftoverAggregateDto(LocalDate date, Double rateSum, Long count) {
+        this.date = date;
+        this.rateSum = rateSum != null ? rateSum : 0.0;
+        this.count = count != null ? count : 0L;
+    }
+
+    public double getAverageRate() {
+        return count > 0 ? rateSum / count : 0.0;
+    }
+}
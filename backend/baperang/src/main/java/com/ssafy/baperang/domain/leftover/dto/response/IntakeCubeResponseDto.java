@@ -0,0 +1,43 @@
+package com.ssafy.baperang.domain.leftover.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntakeCubeResponseDto {
+    private String startDate;
+    private String endDate;
+    // 학교 전체
+    private IntakeSummary school;
+    // 학년별 (학년 오름차순)
+    private List<IntakeSummary> grades;
+    // 반별 (학년, 반 오름차순)
+    private List<IntakeSummary> classes;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class IntakeSummary {
+        // 학교 전체이면 null
+        private Integer grade;
+        // 학교/학년 전체이면 null
+        private Integer classNum;
+        // 잔반 기록이 있는 학생-일 수
+        private long studentDays;
+        // 학생 1명 하루 평균 섭취량 (kcal, g)
+        private Float avgKcal;
+        private Float avgCarbo;
+        private Float avgProtein;
+        private Float avgFat;
+        // 평균 잔반율 (%)
+        private Float avgLeftoverRate;
+    }
+}
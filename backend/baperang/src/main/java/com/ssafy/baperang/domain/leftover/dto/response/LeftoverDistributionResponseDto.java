@@ -0,0 +1,33 @@
+package com.ssafy.baperang.domain.leftover.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeftoverDistributionResponseDto {
+    // 메뉴명 (학교 전체 분포이면 null)
+    private String menuName;
+    private String startDate;
+    private String endDate;
+    private long count;
+    private Float median;
+    private Float p90;
+    private List<HistogramBucket> histogram;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HistogramBucket {
+        private Float lowerBound;
+        private Float upperBound;
+        private long count;
+    }
+}
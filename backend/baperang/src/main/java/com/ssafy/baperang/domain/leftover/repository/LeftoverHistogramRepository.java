@@ -0,0 +1,27 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.sketch.LeftoverHistogram;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 잔반율 분포 히스토그램 테이블 저장소
+ * leftover_menu_histogram: (학교, 메뉴, 날짜, 구간) 단위 건수
+ * leftover_day_histogram : (학교, 날짜, 구간) 단위 건수
+ */
+public interface LeftoverHistogramRepository {
+
+    // 잔반 데이터를 히스토그램 구간 건수에 누적 (UPSERT)
+    void accumulate(List<Leftover> leftovers);
+
+    // 학교의 메뉴명 기준 기간 내 분포 (startDate, endDate 모두 포함)
+    LeftoverHistogram findMenuHistogram(Long schoolId, String menuName, LocalDate startDate, LocalDate endDate);
+
+    // 학교 전체 기간 내 분포 (startDate, endDate 모두 포함)
+    LeftoverHistogram findSchoolHistogram(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 기간 내 히스토그램을 원본 leftover 데이터로 재생성 (startDate 포함, endDate 미포함)
+    void rebuild(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,117 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.sketch.LeftoverHistogram;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LeftoverHistogramRepositoryImpl implements LeftoverHistogramRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPSERT_MENU_HISTOGRAM_SQL =
+            "INSERT INTO leftover_menu_histogram (school_pk, menu_pk, leftover_date, bucket, bucket_count) " +
+            "VALUES (?, ?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE bucket_count = bucket_count + 1";
+
+    private static final String UPSERT_DAY_HISTOGRAM_SQL =
+            "INSERT INTO leftover_day_histogram (school_pk, leftover_date, bucket, bucket_count) " +
+            "VALUES (?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE bucket_count = bucket_count + 1";
+
+    // MySQL에서 LeftoverHistogram.bucketOf와 같은 구간 계산
+    private static final String BUCKET_EXPR = "LEAST(GREATEST(FLOOR(l.leftover_rate), 0), 100)";
+
+    @Override
+    public void accumulate(List<Leftover> leftovers) {
+        if (leftovers.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_MENU_HISTOGRAM_SQL, leftovers, leftovers.size(),
+                (ps, leftover) -> {
+                    ps.setLong(1, leftover.getStudent().getSchool().getId());
+                    ps.setLong(2, leftover.getMenu().getId());
+                    ps.setDate(3, Date.valueOf(leftover.getLeftoverDate()));
+                    ps.setInt(4, LeftoverHistogram.bucketOf(leftover.getLeftoverRate()));
+                });
+
+        jdbcTemplate.batchUpdate(UPSERT_DAY_HISTOGRAM_SQL, leftovers, leftovers.size(),
+                (ps, leftover) -> {
+                    ps.setLong(1, leftover.getStudent().getSchool().getId());
+                    ps.setDate(2, Date.valueOf(leftover.getLeftoverDate()));
+                    ps.setInt(3, LeftoverHistogram.bucketOf(leftover.getLeftoverRate()));
+                });
+    }
+
+    @Override
+    public LeftoverHistogram findMenuHistogram(Long schoolId, String menuName, LocalDate startDate, LocalDate endDate) {
+        // 메뉴는 날짜마다 행이 다르므로 menu_name_hash 인덱스로 같은 이름의 메뉴를 찾은 뒤 구간 건수 합산
+        return jdbcTemplate.query(
+                "SELECT h.bucket, SUM(h.bucket_count) AS bucket_count " +
+                "FROM menu m " +
+                "JOIN leftover_menu_histogram h ON h.school_pk = m.school_pk AND h.menu_pk = m.menu_pk " +
+                "WHERE m.school_pk = ? AND m.menu_name_hash = ? AND m.menu_name = ? " +
+                "AND h.leftover_date BETWEEN ? AND ? " +
+                "GROUP BY h.bucket",
+                rs -> {
+                    LeftoverHistogram histogram = new LeftoverHistogram();
+                    while (rs.next()) {
+                        histogram.add(rs.getInt("bucket"), rs.getLong("bucket_count"));
+                    }
+                    return histogram;
+                },
+                schoolId, Menu.hashMenuName(menuName), menuName, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public LeftoverHistogram findSchoolHistogram(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                "SELECT bucket, SUM(bucket_count) AS bucket_count " +
+                "FROM leftover_day_histogram " +
+                "WHERE school_pk = ? AND leftover_date BETWEEN ? AND ? " +
+                "GROUP BY bucket",
+                rs -> {
+                    LeftoverHistogram histogram = new LeftoverHistogram();
+                    while (rs.next()) {
+                        histogram.add(rs.getInt("bucket"), rs.getLong("bucket_count"));
+                    }
+                    return histogram;
+                },
+                schoolId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        Date start = Date.valueOf(startDate);
+        Date end = Date.valueOf(endDate);
+
+        jdbcTemplate.update("DELETE FROM leftover_menu_histogram WHERE leftover_date >= ? AND leftover_date < ?", start, end);
+        jdbcTemplate.update("DELETE FROM leftover_day_histogram WHERE leftover_date >= ? AND leftover_date < ?", start, end);
+
+        jdbcTemplate.update(
+                "INSERT INTO leftover_menu_histogram (school_pk, menu_pk, leftover_date, bucket, bucket_count) " +
+                "SELECT s.school_pk, l.menu_pk, l.leftover_date, " + BUCKET_EXPR + ", COUNT(*) " +
+                "FROM leftover l JOIN student s ON s.student_pk = l.student_pk " +
+                "WHERE l.leftover_date >= ? AND l.leftover_date < ? " +
+                "GROUP BY s.school_pk, l.menu_pk, l.leftover_date, " + BUCKET_EXPR,
+                start, end);
+
+        // 일자 히스토그램은 방금 만든 메뉴 히스토그램에서 합산
+        jdbcTemplate.update(
+                "INSERT INTO leftover_day_histogram (school_pk, leftover_date, bucket, bucket_count) " +
+                "SELECT school_pk, leftover_date, bucket, SUM(bucket_count) " +
+                "FROM leftover_menu_histogram " +
+                "WHERE leftover_date >= ? AND leftover_date < ? " +
+                "GROUP BY school_pk, leftover_date, bucket",
+                start, end);
+    }
+}
@@ -1,9 +1,11 @@
 package com.ssafy.baperang.domain.leftover.repository;
 
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
 import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
 import com.ssafy.baperang.domain.leftover.entity.Leftover;
 import com.ssafy.baperang.domain.menu.entity.Menu;
 import com.ssafy.baperang.domain.student.entity.Student;
+import com.ssafy.baperang.global.export.ExportRowWriter;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -17,6 +19,25 @@ public interface LeftoverRepository {
     // 저장 메서드
     Leftover save(Leftover leftover);
 
+    // 잔반 데이터 일괄 저장 (JDBC batch insert)
+    int saveAllInBatch(List<Leftover> leftovers);
+
+    // 현재 트랜잭션의 읽기 스냅샷 고정 (REPEATABLE READ에서 첫 일관 읽기 시점이 스냅샷이 됨)
+    void openReadSnapshot();
+
+    // 학교의 전체 잔반 데이터를 컬럼 저장소로 스트리밍 적재
+    void loadColumnsBySchool(Long schoolId, LeftoverColumnStore store);
+
+    // 학생의 기간 내 잔반 데이터를 컬럼 저장소로 적재 (startDate, endDate 포함)
+    void loadColumnsByStudent(Long studentId, LocalDate startDate, LocalDate endDate, LeftoverColumnStore store);
+
+    // 학급 학생들의 기간 내 잔반 데이터를 컬럼 저장소로 적재 (startDate, endDate 포함)
+    void loadColumnsByClass(Long schoolId, int grade, int classNum, LocalDate startDate, LocalDate endDate,
+                            LeftoverColumnStore store);
+
+    // 학교의 기간 내 잔반 이력을 내보내기 writer로 스트리밍 (startDate, endDate 포함)
+    void exportBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate, ExportRowWriter writer);
+
     // 특정 날짜 메뉴별 평균 잔반율 조회
     List<LeftoverDateResponseDto.MenuLeftoverRate> findAverageLeftoverRateByDate(LocalDate date);
 
@@ -1,13 +1,22 @@
 package com.ssafy.baperang.domain.leftover.repository;
 
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
 import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
 import com.ssafy.baperang.domain.leftover.entity.Leftover;
 import com.ssafy.baperang.domain.menu.entity.Menu;
 import com.ssafy.baperang.domain.student.entity.Student;
+import com.ssafy.baperang.global.export.ExportRowWriter;
 import com.ssafy.baperang.domain.school.entity.School;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -18,12 +27,121 @@ import java.util.Optional;
 public class LeftoverRepositoryImpl implements LeftoverRepository {
 
     private final LeftoverJpaRepository leftoverJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 키는 Hibernate 배치가 불가능하므로 JDBC 배치로 직접 삽입
+    private static final String INSERT_LEFTOVER_SQL =
+            "INSERT INTO leftover (menu_pk, student_pk, leftover_date, left_menu_name, leftover_rate) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS_SQL =
+            "SELECT l.leftover_date, l.menu_pk, l.student_pk, l.leftover_rate, l.left_menu_name FROM leftover l ";
 
     @Override
     public Leftover save(Leftover leftover) {
         return leftoverJpaRepository.save(leftover);
     }
 
+    @Override
+    public int saveAllInBatch(List<Leftover> leftovers) {
+        if (leftovers.isEmpty()) {
+            return 0;
+        }
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_LEFTOVER_SQL, leftovers, leftovers.size(),
+                (ps, leftover) -> {
+                    ps.setLong(1, leftover.getMenu().getId());
+                    ps.setLong(2, leftover.getStudent().getId());
+                    ps.setDate(3, Date.valueOf(leftover.getLeftoverDate()));
+                    ps.setString(4, leftover.getLeftMenuName());
+                    ps.setFloat(5, leftover.getLeftoverRate());
+                });
+
+        // rewriteBatchedStatements 사용 시 드라이버가 SUCCESS_NO_INFO(-2)를 반환하므로 요청 건수 기준으로 계산
+        int inserted = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                inserted += count > 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void openReadSnapshot() {
+        jdbcTemplate.query("SELECT 1 FROM leftover LIMIT 1", rs -> {
+        });
+    }
+
+    @Override
+    public void loadColumnsBySchool(Long schoolId, LeftoverColumnStore store) {
+        String sql = SELECT_COLUMNS_SQL +
+                "JOIN student s ON s.student_pk = l.student_pk " +
+                "WHERE s.school_pk = ?";
+
+        // 학교 전체 이력을 엔티티 없이 한 행씩 스트리밍 (MySQL은 fetchSize=Integer.MIN_VALUE일 때 스트리밍)
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, schoolId);
+            return ps;
+        }, columnAppender(store));
+    }
+
+    @Override
+    public void loadColumnsByStudent(Long studentId, LocalDate startDate, LocalDate endDate, LeftoverColumnStore store) {
+        jdbcTemplate.query(SELECT_COLUMNS_SQL + "WHERE l.student_pk = ? AND l.leftover_date BETWEEN ? AND ?",
+                columnAppender(store), studentId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public void loadColumnsByClass(Long schoolId, int grade, int classNum, LocalDate startDate, LocalDate endDate,
+                                   LeftoverColumnStore store) {
+        jdbcTemplate.query(SELECT_COLUMNS_SQL +
+                        "JOIN student s ON s.student_pk = l.student_pk " +
+                        "WHERE s.school_pk = ? AND s.grade = ? AND s.class = ? AND l.leftover_date BETWEEN ? AND ?",
+                columnAppender(store), schoolId, grade, classNum, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public void exportBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate, ExportRowWriter writer) {
+        String sql = "SELECT l.leftover_date, s.grade, s.class, s.number, s.student_name, l.left_menu_name, l.leftover_rate " +
+                "FROM leftover l JOIN student s ON s.student_pk = l.student_pk " +
+                "WHERE s.school_pk = ? AND l.leftover_date BETWEEN ? AND ? " +
+                "ORDER BY l.leftover_date, s.grade, s.class, s.number";
+
+        // forward-only 커서로 한 행씩 읽어 바로 기록 (결과 전체를 메모리에 올리지 않음)
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, schoolId);
+            ps.setDate(2, Date.valueOf(startDate));
+            ps.setDate(3, Date.valueOf(endDate));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                writer.writeRow(
+                        rs.getDate(1).toLocalDate(),
+                        rs.getInt(2),
+                        rs.getInt(3),
+                        rs.getInt(4),
+                        rs.getString(5),
+                        rs.getString(6),
+                        rs.getFloat(7));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private RowCallbackHandler columnAppender(LeftoverColumnStore store) {
+        return rs -> store.append(
+                rs.getDate(1).toLocalDate(),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getFloat(4),
+                rs.getString(5));
+    }
+
     @Override
     public List<LeftoverDateResponseDto.MenuLeftoverRate> findAverageLeftoverRateByDate(LocalDate date) {
         return leftoverJpaRepository.findAverageLeftoverRateByDate(date);
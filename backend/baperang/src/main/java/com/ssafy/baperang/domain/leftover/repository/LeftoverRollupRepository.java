@@ -0,0 +1,35 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔반 집계(rollup) 테이블 저장소
+ * leftover_daily_menu   : (학교, 날짜, 메뉴) 단위 잔반율 합계/건수
+ * leftover_daily_student: (학생, 날짜) 단위 잔반율 합계/건수
+ */
+public interface LeftoverRollupRepository {
+
+    // 잔반 데이터를 집계 테이블에 누적 (UPSERT)
+    void accumulate(List<Leftover> leftovers);
+
+    // 학교별 특정 날짜 메뉴별 평균 잔반율
+    List<LeftoverDateResponseDto.MenuLeftoverRate> findMenuAveragesBySchoolAndDate(Long schoolId, LocalDate date);
+
+    // 학교별 기간 내 일자별 합계/건수 (startDate 포함, endDate 미포함)
+    List<DailyLeftoverAggregateDto> findDailyAggregatesBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 학생별 기간 내 합계/건수 (startDate, endDate 모두 포함)
+    Optional<DailyLeftoverAggregateDto> findStudentAggregate(Long studentId, LocalDate startDate, LocalDate endDate);
+
+    // 원본 leftover 테이블의 날짜 범위
+    Optional<LocalDate[]> findLeftoverDateBounds();
+
+    // 기간 내 집계 테이블을 원본 leftover 데이터로 재생성 (startDate 포함, endDate 미포함)
+    int rebuild(LocalDate startDate, LocalDate endDate);
+}
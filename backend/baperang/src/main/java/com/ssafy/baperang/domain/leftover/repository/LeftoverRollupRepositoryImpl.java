@@ -0,0 +1,143 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class LeftoverRollupRepositoryImpl implements LeftoverRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // leftover_daily_menu.menu_name 컬럼 길이 (재생성 SQL의 LEFT(..., 255)와 동일)
+    private static final int MAX_MENU_NAME_LENGTH = 255;
+
+    private static final String UPSERT_DAILY_MENU_SQL =
+            "INSERT INTO leftover_daily_menu (school_pk, leftover_date, menu_pk, menu_name, rate_sum, rate_count) " +
+            "VALUES (?, ?, ?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE rate_sum = rate_sum + VALUES(rate_sum), rate_count = rate_count + 1";
+
+    private static final String UPSERT_DAILY_STUDENT_SQL =
+            "INSERT INTO leftover_daily_student (student_pk, leftover_date, rate_sum, rate_count) " +
+            "VALUES (?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE rate_sum = rate_sum + VALUES(rate_sum), rate_count = rate_count + 1";
+
+    @Override
+    public void accumulate(List<Leftover> leftovers) {
+        if (leftovers.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_MENU_SQL, leftovers, leftovers.size(),
+                (ps, leftover) -> {
+                    ps.setLong(1, leftover.getStudent().getSchool().getId());
+                    ps.setDate(2, Date.valueOf(leftover.getLeftoverDate()));
+                    ps.setLong(3, leftover.getMenu().getId());
+                    ps.setString(4, truncateMenuName(leftover.getLeftMenuName()));
+                    ps.setDouble(5, leftover.getLeftoverRate());
+                });
+
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_STUDENT_SQL, leftovers, leftovers.size(),
+                (ps, leftover) -> {
+                    ps.setLong(1, leftover.getStudent().getId());
+                    ps.setDate(2, Date.valueOf(leftover.getLeftoverDate()));
+                    ps.setDouble(3, leftover.getLeftoverRate());
+                });
+    }
+
+    @Override
+    public List<LeftoverDateResponseDto.MenuLeftoverRate> findMenuAveragesBySchoolAndDate(Long schoolId, LocalDate date) {
+        return jdbcTemplate.query(
+                "SELECT menu_name, SUM(rate_sum) / SUM(rate_count) AS avg_rate " +
+                "FROM leftover_daily_menu " +
+                "WHERE school_pk = ? AND leftover_date = ? " +
+                "GROUP BY menu_name",
+                (rs, rowNum) -> new LeftoverDateResponseDto.MenuLeftoverRate(
+                        rs.getString("menu_name"), rs.getDouble("avg_rate")),
+                schoolId, Date.valueOf(date));
+    }
+
+    @Override
+    public List<DailyLeftoverAggregateDto> findDailyAggregatesBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                "SELECT leftover_date, SUM(rate_sum) AS rate_sum, SUM(rate_count) AS rate_count " +
+                "FROM leftover_daily_menu " +
+                "WHERE school_pk = ? AND leftover_date >= ? AND leftover_date < ? " +
+                "GROUP BY leftover_date " +
+                "ORDER BY leftover_date",
+                (rs, rowNum) -> new DailyLeftoverAggregateDto(
+                        rs.getDate("leftover_date").toLocalDate(),
+                        rs.getDouble("rate_sum"),
+                        rs.getLong("rate_count")),
+                schoolId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Override
+    public Optional<DailyLeftoverAggregateDto> findStudentAggregate(Long studentId, LocalDate startDate, LocalDate endDate) {
+        DailyLeftoverAggregateDto aggregate = jdbcTemplate.queryForObject(
+                "SELECT SUM(rate_sum) AS rate_sum, SUM(rate_count) AS rate_count " +
+                "FROM leftover_daily_student " +
+                "WHERE student_pk = ? AND leftover_date BETWEEN ? AND ?",
+                (rs, rowNum) -> new DailyLeftoverAggregateDto(
+                        startDate, rs.getDouble("rate_sum"), rs.getLong("rate_count")),
+                studentId, Date.valueOf(startDate), Date.valueOf(endDate));
+
+        return aggregate != null && aggregate.getCount() > 0 ? Optional.of(aggregate) : Optional.empty();
+    }
+
+    @Override
+    public Optional<LocalDate[]> findLeftoverDateBounds() {
+        return jdbcTemplate.query(
+                "SELECT MIN(leftover_date) AS min_date, MAX(leftover_date) AS max_date FROM leftover",
+                rs -> {
+                    if (!rs.next() || rs.getDate("min_date") == null) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(new LocalDate[]{
+                            rs.getDate("min_date").toLocalDate(),
+                            rs.getDate("max_date").toLocalDate()});
+                });
+    }
+
+    @Override
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        Date start = Date.valueOf(startDate);
+        Date end = Date.valueOf(endDate);
+
+        jdbcTemplate.update("DELETE FROM leftover_daily_menu WHERE leftover_date >= ? AND leftover_date < ?", start, end);
+        jdbcTemplate.update("DELETE FROM leftover_daily_student WHERE leftover_date >= ? AND leftover_date < ?", start, end);
+
+        int menuRows = jdbcTemplate.update(
+                "INSERT INTO leftover_daily_menu (school_pk, leftover_date, menu_pk, menu_name, rate_sum, rate_count) " +
+                "SELECT s.school_pk, l.leftover_date, l.menu_pk, LEFT(MAX(l.left_menu_name), 255), SUM(l.leftover_rate), COUNT(*) " +
+                "FROM leftover l JOIN student s ON s.student_pk = l.student_pk " +
+                "WHERE l.leftover_date >= ? AND l.leftover_date < ? " +
+                "GROUP BY s.school_pk, l.leftover_date, l.menu_pk",
+                start, end);
+
+        jdbcTemplate.update(
+                "INSERT INTO leftover_daily_student (student_pk, leftover_date, rate_sum, rate_count) " +
+                "SELECT l.student_pk, l.leftover_date, SUM(l.leftover_rate), COUNT(*) " +
+                "FROM leftover l " +
+                "WHERE l.leftover_date >= ? AND l.leftover_date < ? " +
+                "GROUP BY l.student_pk, l.leftover_date",
+                start, end);
+
+        return menuRows;
+    }
+
+    private static String truncateMenuName(String menuName) {
+        return menuName != null && menuName.length() > MAX_MENU_NAME_LENGTH
+                ? menuName.substring(0, MAX_MENU_NAME_LENGTH)
+                : menuName;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.cube.IntakeCube;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyIntakeDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학생별 일 섭취 영양소 집계 테이블 저장소
+ * student_daily_intake: (학생, 날짜) 단위 열량/탄단지 섭취량과 잔반율 합계
+ */
+public interface StudentDailyIntakeRepository {
+
+    // 잔반 데이터의 섭취량을 (학생, 날짜) 행에 누적 (UPSERT), 행별 증가분 반환
+    List<IntakeDelta> accumulate(List<Leftover> leftovers);
+
+    // 학생의 기간 내 일별 섭취량 (startDate, endDate 모두 포함, 날짜 오름차순)
+    List<DailyIntakeDto> findByStudentAndDateRange(Long studentId, LocalDate startDate, LocalDate endDate);
+
+    // 기간 내 집계를 원본 leftover 데이터로 재생성 (startDate 포함, endDate 미포함), 생성된 행 수 반환
+    int rebuild(LocalDate startDate, LocalDate endDate);
+
+    // 현재 트랜잭션의 읽기 스냅샷 고정 (REPEATABLE READ에서 첫 일관 읽기 시점이 스냅샷이 됨)
+    void openReadSnapshot();
+
+    // 학교의 기간 내 (학년, 반, 날짜) 합계를 한 번의 쿼리로 큐브에 적재 (startDate 포함, endDate 미포함)
+    void loadClassCube(Long schoolId, LocalDate startDate, LocalDate endDate, IntakeCube cube);
+
+    /**
+     * (학생, 날짜) 행 증가분
+     * newStudentDay: 이번 저장으로 행이 새로 생겼는지 (반 평균의 학생-일 수 계산용)
+     */
+    record IntakeDelta(Long studentId, LocalDate intakeDate, int kcal, int carbo, int protein, int fat,
+                       double rateSum, int rateCount, boolean newStudentDay) {
+    }
+}
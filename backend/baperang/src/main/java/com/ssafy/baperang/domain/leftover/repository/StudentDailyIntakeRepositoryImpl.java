@@ -0,0 +1,219 @@
+package com.ssafy.baperang.domain.leftover.repository;
+
+import com.ssafy.baperang.domain.leftover.cube.IntakeCube;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyIntakeDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class StudentDailyIntakeRepositoryImpl implements StudentDailyIntakeRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 메뉴별 열량/탄단지 값 (열량은 열량 > 에너지 > 칼로리 순으로 사용), 백필 SQL과 같은 규칙
+    private static final String MENU_NUTRIENT_VALUES_SQL =
+            "SELECT mn.menu_pk, " +
+            "COALESCE(MAX(CASE WHEN nu.nutrient_name = '열량' THEN mn.amount END), " +
+            "MAX(CASE WHEN nu.nutrient_name = '에너지' THEN mn.amount END), " +
+            "MAX(CASE WHEN nu.nutrient_name = '칼로리' THEN mn.amount END)) AS kcal, " +
+            "MAX(CASE WHEN nu.nutrient_name = '탄수화물' THEN mn.amount END) AS carbo, " +
+            "MAX(CASE WHEN nu.nutrient_name = '단백질' THEN mn.amount END) AS protein, " +
+            "MAX(CASE WHEN nu.nutrient_name = '지방' THEN mn.amount END) AS fat " +
+            "FROM menu_nutrient mn " +
+            "JOIN nutrient nu ON nu.nutrient_pk = mn.nutrient_pk " +
+            "WHERE nu.nutrient_name IN ('열량', '에너지', '칼로리', '탄수화물', '단백질', '지방') ";
+
+    private static final String[] NUTRIENT_COLUMNS = {"kcal", "carbo", "protein", "fat"};
+
+    private static final String UPSERT_INTAKE_SQL =
+            "INSERT INTO student_daily_intake " +
+            "(student_pk, intake_date, kcal, carbo, protein, fat, rate_sum, rate_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE kcal = kcal + VALUES(kcal), carbo = carbo + VALUES(carbo), " +
+            "protein = protein + VALUES(protein), fat = fat + VALUES(fat), " +
+            "rate_sum = rate_sum + VALUES(rate_sum), rate_count = rate_count + VALUES(rate_count)";
+
+    @Override
+    public List<IntakeDelta> accumulate(List<Leftover> leftovers) {
+        if (leftovers.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> menuIds = leftovers.stream()
+                .map(leftover -> leftover.getMenu().getId())
+                .collect(Collectors.toSet());
+        Map<Long, double[]> nutrientValues = findMenuNutrientValues(menuIds);
+
+        // 같은 학생/날짜 행은 메모리에서 먼저 합산 (행마다 반올림 후 합산, 백필과 같은 계산)
+        Map<IntakeKey, IntakeSum> sums = new LinkedHashMap<>();
+        for (Leftover leftover : leftovers) {
+            IntakeSum sum = sums.computeIfAbsent(
+                    new IntakeKey(leftover.getStudent().getId(), leftover.getLeftoverDate()),
+                    key -> new IntakeSum());
+
+            double consumptionRate = 1 - leftover.getLeftoverRate() / 100.0;
+            double[] values = nutrientValues.get(leftover.getMenu().getId());
+            if (values != null) {
+                for (int i = 0; i < values.length; i++) {
+                    if (!Double.isNaN(values[i])) {
+                        sum.nutrients[i] += roundIntake(values[i] * consumptionRate);
+                    }
+                }
+            }
+            sum.rateSum += leftover.getLeftoverRate();
+            sum.rateCount++;
+        }
+
+        // 행 생성 여부는 UPSERT 영향 행 수로 판단 (MySQL: 1 = INSERT, 2 = UPDATE)
+        // 재작성된 배치는 행별 건수 대신 SUCCESS_NO_INFO를 돌려주므로 PreparedStatement 하나로 행마다 실행
+        PreparedStatementCallback<List<IntakeDelta>> upsertEach = ps -> {
+            List<IntakeDelta> deltas = new ArrayList<>(sums.size());
+            for (Map.Entry<IntakeKey, IntakeSum> entry : sums.entrySet()) {
+                IntakeKey key = entry.getKey();
+                IntakeSum sum = entry.getValue();
+
+                ps.setLong(1, key.studentId());
+                ps.setDate(2, Date.valueOf(key.intakeDate()));
+                for (int i = 0; i < NUTRIENT_COLUMNS.length; i++) {
+                    ps.setInt(3 + i, (int) sum.nutrients[i]);
+                }
+                ps.setDouble(7, sum.rateSum);
+                ps.setInt(8, sum.rateCount);
+                int affectedRows = ps.executeUpdate();
+
+                deltas.add(new IntakeDelta(
+                        key.studentId(), key.intakeDate(),
+                        (int) sum.nutrients[0], (int) sum.nutrients[1], (int) sum.nutrients[2], (int) sum.nutrients[3],
+                        sum.rateSum, sum.rateCount, affectedRows == 1));
+            }
+            return deltas;
+        };
+        return jdbcTemplate.getJdbcTemplate().execute(UPSERT_INTAKE_SQL, upsertEach);
+    }
+
+    @Override
+    public List<DailyIntakeDto> findByStudentAndDateRange(Long studentId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                "SELECT intake_date, kcal, carbo, protein, fat, rate_sum, rate_count " +
+                "FROM student_daily_intake " +
+                "WHERE student_pk = :studentId AND intake_date BETWEEN :startDate AND :endDate " +
+                "ORDER BY intake_date",
+                new MapSqlParameterSource()
+                        .addValue("studentId", studentId)
+                        .addValue("startDate", Date.valueOf(startDate))
+                        .addValue("endDate", Date.valueOf(endDate)),
+                (rs, rowNum) -> new DailyIntakeDto(
+                        rs.getDate("intake_date").toLocalDate(),
+                        rs.getInt("kcal"),
+                        rs.getInt("carbo"),
+                        rs.getInt("protein"),
+                        rs.getInt("fat"),
+                        rs.getDouble("rate_sum"),
+                        rs.getLong("rate_count")));
+    }
+
+    @Override
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("startDate", Date.valueOf(startDate))
+                .addValue("endDate", Date.valueOf(endDate));
+
+        jdbcTemplate.update(
+                "DELETE FROM student_daily_intake WHERE intake_date >= :startDate AND intake_date < :endDate",
+                params);
+
+        return jdbcTemplate.update(
+                "INSERT INTO student_daily_intake " +
+                "(student_pk, intake_date, kcal, carbo, protein, fat, rate_sum, rate_count) " +
+                "SELECT l.student_pk, l.leftover_date, " +
+                intakeSumSql("kcal") + ", " +
+                intakeSumSql("carbo") + ", " +
+                intakeSumSql("protein") + ", " +
+                intakeSumSql("fat") + ", " +
+                "SUM(l.leftover_rate), COUNT(*) " +
+                "FROM leftover l " +
+                "LEFT JOIN (" + MENU_NUTRIENT_VALUES_SQL + "GROUP BY mn.menu_pk) n ON n.menu_pk = l.menu_pk " +
+                "WHERE l.leftover_date >= :startDate AND l.leftover_date < :endDate " +
+                "GROUP BY l.student_pk, l.leftover_date",
+                params);
+    }
+
+    @Override
+    public void openReadSnapshot() {
+        jdbcTemplate.getJdbcTemplate().query("SELECT 1 FROM student_daily_intake LIMIT 1", rs -> {
+        });
+    }
+
+    @Override
+    public void loadClassCube(Long schoolId, LocalDate startDate, LocalDate endDate, IntakeCube cube) {
+        jdbcTemplate.query(
+                "SELECT s.grade, s.class, i.intake_date, " +
+                "SUM(i.kcal) AS kcal, SUM(i.carbo) AS carbo, SUM(i.protein) AS protein, SUM(i.fat) AS fat, " +
+                "SUM(i.rate_sum) AS rate_sum, SUM(i.rate_count) AS rate_count, COUNT(*) AS student_days " +
+                "FROM student_daily_intake i " +
+                "JOIN student s ON s.student_pk = i.student_pk " +
+                "WHERE s.school_pk = :schoolId AND i.intake_date >= :startDate AND i.intake_date < :endDate " +
+                "GROUP BY s.grade, s.class, i.intake_date",
+                new MapSqlParameterSource()
+                        .addValue("schoolId", schoolId)
+                        .addValue("startDate", Date.valueOf(startDate))
+                        .addValue("endDate", Date.valueOf(endDate)),
+                rs -> {
+                    cube.add(rs.getInt("grade"), rs.getInt("class"), rs.getDate("intake_date").toLocalDate(),
+                            rs.getInt("kcal"), rs.getInt("carbo"), rs.getInt("protein"), rs.getInt("fat"),
+                            rs.getDouble("rate_sum"), rs.getInt("rate_count"), rs.getInt("student_days"));
+                });
+    }
+
+    // 섭취량 반올림 규칙: 저장(Java)과 재생성/마이그레이션(SQL) 모두 FLOOR(x + 0.5)
+    // (MySQL ROUND()는 DOUBLE 값에서 짝수 쪽으로 반올림될 수 있고, Math.round도 경계값에서 결과가 다를 수 있음)
+    private static long roundIntake(double intake) {
+        return (long) Math.floor(intake + 0.5);
+    }
+
+    private static String intakeSumSql(String nutrientColumn) {
+        return "COALESCE(SUM(FLOOR(n." + nutrientColumn + " * (1 - l.leftover_rate / 100) + 0.5)), 0)";
+    }
+
+    // 메뉴 ID -> [열량, 탄수화물, 단백질, 지방] (값이 없으면 NaN)
+    private Map<Long, double[]> findMenuNutrientValues(Set<Long> menuIds) {
+        Map<Long, double[]> result = new HashMap<>();
+        jdbcTemplate.query(
+                MENU_NUTRIENT_VALUES_SQL + "AND mn.menu_pk IN (:menuIds) GROUP BY mn.menu_pk",
+                new MapSqlParameterSource("menuIds", menuIds),
+                rs -> {
+                    double[] values = new double[NUTRIENT_COLUMNS.length];
+                    for (int i = 0; i < NUTRIENT_COLUMNS.length; i++) {
+                        // FLOAT 컬럼을 SQL과 같은 값으로 확장 (문자열로 전달된 값을 double로 바로 읽으면 자릿수가 달라짐)
+                        double value = rs.getFloat(NUTRIENT_COLUMNS[i]);
+                        values[i] = rs.wasNull() ? Double.NaN : value;
+                    }
+                    result.put(rs.getLong("menu_pk"), values);
+                });
+        return result;
+    }
+
+    private record IntakeKey(Long studentId, LocalDate intakeDate) {
+    }
+
+    private static final class IntakeSum {
+        private final long[] nutrients = new long[NUTRIENT_COLUMNS.length];
+        private double rateSum;
+        private int rateCount;
+    }
+}
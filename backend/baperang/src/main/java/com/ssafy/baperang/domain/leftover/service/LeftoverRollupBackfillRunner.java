@@ -0,0 +1,42 @@
+package com.ssafy.baperang.domain.leftover.service;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잔반 집계 테이블 백필 실행기 (운영자 전용)
+ * - 모든 학교의 집계/분포/섭취 테이블을 지우고 다시 만들기 때문에 HTTP로 노출하지 않음
+ * - leftover.rollup.backfill-on-startup=true로 기동한 인스턴스에서만 한 번 실행
+ *   예: java -jar baperang.jar --leftover.rollup.backfill-on-startup=true
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leftover.rollup.backfill-on-startup", havingValue = "true")
+public class LeftoverRollupBackfillRunner {
+
+    private final LeftoverRollupService leftoverRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInBackground() {
+        Thread backfill = new Thread(this::backfill, "rollup-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    private void backfill() {
+        try {
+            Map<String, Object> result = leftoverRollupService.backfill();
+            log.info("잔반 집계 백필 실행 결과: {}", result);
+        } catch (Exception e) {
+            log.error("잔반 집계 백필 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
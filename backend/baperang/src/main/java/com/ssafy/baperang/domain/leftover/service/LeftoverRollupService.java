@@ -0,0 +1,44 @@
+package com.ssafy.baperang.domain.leftover.service;
+
+import com.ssafy.baperang.domain.leftover.cube.IntakeCube;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyIntakeDto;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.sketch.LeftoverHistogram;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface LeftoverRollupService {
+
+    // 잔반 저장과 같은 트랜잭션에서 집계 테이블 갱신
+    void recordLeftovers(List<Leftover> leftovers);
+
+    // 학교별 특정 날짜 메뉴별 평균 잔반율
+    List<LeftoverDateResponseDto.MenuLeftoverRate> getMenuAverages(Long schoolId, LocalDate date);
+
+    // 학교별 월간 일자별 집계 (지난 달은 캐시)
+    List<DailyLeftoverAggregateDto> getMonthlyAggregates(Long schoolId, YearMonth yearMonth);
+
+    // 학생별 기간 평균 잔반율 (데이터 없으면 empty)
+    Optional<Double> getStudentAverage(Long studentId, LocalDate startDate, LocalDate endDate);
+
+    // 학생별 기간 내 일 섭취 영양소 (startDate, endDate 포함, 데이터 있는 날만)
+    List<DailyIntakeDto> getStudentDailyIntake(Long studentId, LocalDate startDate, LocalDate endDate);
+
+    // 학교의 기간 내 반별 섭취 영양소 합계 (startDate, endDate 포함, 섭취 집계 큐브에서 계산)
+    List<IntakeCube.ClassTotals> getClassIntakeTotals(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 학교의 메뉴명 기준 기간 내 잔반율 분포 (startDate, endDate 포함)
+    LeftoverHistogram getMenuDistribution(Long schoolId, String menuName, LocalDate startDate, LocalDate endDate);
+
+    // 학교 전체 기간 내 잔반율 분포 (startDate, endDate 포함)
+    LeftoverHistogram getSchoolDistribution(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 원본 leftover 데이터로 집계 테이블 재생성
+    Map<String, Object> backfill();
+}
@@ -0,0 +1,236 @@
+package com.ssafy.baperang.domain.leftover.service;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnCache;
+import com.ssafy.baperang.domain.leftover.cube.IntakeCube;
+import com.ssafy.baperang.domain.leftover.cube.IntakeCubeCache;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyIntakeDto;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.repository.LeftoverHistogramRepository;
+import com.ssafy.baperang.domain.leftover.repository.LeftoverRollupRepository;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository.IntakeDelta;
+import com.ssafy.baperang.domain.leftover.sketch.LeftoverHistogram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeftoverRollupServiceImpl implements LeftoverRollupService {
+
+    private final LeftoverRollupRepository leftoverRollupRepository;
+    private final LeftoverHistogramRepository leftoverHistogramRepository;
+    private final StudentDailyIntakeRepository studentDailyIntakeRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final LeftoverColumnCache leftoverColumnCache;
+    private final IntakeCubeCache intakeCubeCache;
+
+    @Value("${leftover.rollup.closed-month-cache.max-entries:2048}")
+    private int closedMonthCacheMaxEntries;
+
+    // 지난 달 집계 캐시 (키: "학교ID:yyyy-MM"), 지난 달 데이터가 새로 기록되면 무효화
+    // 접근 순서 LinkedHashMap (가장 오래 조회되지 않은 달부터 제거)
+    private final Map<String, List<DailyLeftoverAggregateDto>> closedMonthCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<DailyLeftoverAggregateDto>> eldest) {
+            return size() > closedMonthCacheMaxEntries;
+        }
+    };
+
+    // 지난 달 데이터가 커밋될 때마다 증가 (그 사이에 시작한 조회 결과는 캐시하지 않음)
+    private final AtomicLong closedMonthGeneration = new AtomicLong();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordLeftovers(List<Leftover> leftovers) {
+        if (leftovers.isEmpty()) {
+            return;
+        }
+
+        leftoverRollupRepository.accumulate(leftovers);
+        leftoverHistogramRepository.accumulate(leftovers);
+        List<IntakeDelta> intakeDeltas = studentDailyIntakeRepository.accumulate(leftovers);
+        leftoverColumnCache.appendAfterCommit(leftovers);
+        intakeCubeCache.applyAfterCommit(leftovers, intakeDeltas);
+
+        // 지난 달 데이터가 기록된 경우 커밋 후 해당 월 캐시 무효화
+        YearMonth currentMonth = YearMonth.now();
+        Set<String> staleKeys = new HashSet<>();
+        for (Leftover leftover : leftovers) {
+            YearMonth yearMonth = YearMonth.from(leftover.getLeftoverDate());
+            if (yearMonth.isBefore(currentMonth)) {
+                staleKeys.add(cacheKey(leftover.getStudent().getSchool().getId(), yearMonth));
+            }
+        }
+
+        if (!staleKeys.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    synchronized (closedMonthCache) {
+                        closedMonthGeneration.incrementAndGet();
+                        staleKeys.forEach(closedMonthCache::remove);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeftoverDateResponseDto.MenuLeftoverRate> getMenuAverages(Long schoolId, LocalDate date) {
+        return leftoverRollupRepository.findMenuAveragesBySchoolAndDate(schoolId, date);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyLeftoverAggregateDto> getMonthlyAggregates(Long schoolId, YearMonth yearMonth) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.plusMonths(1).atDay(1);
+
+        // 진행 중인 달은 매번 조회
+        if (!yearMonth.isBefore(YearMonth.now())) {
+            return leftoverRollupRepository.findDailyAggregatesBySchoolAndDateRange(schoolId, startDate, endDate);
+        }
+
+        String key = cacheKey(schoolId, yearMonth);
+        synchronized (closedMonthCache) {
+            List<DailyLeftoverAggregateDto> cached = closedMonthCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 순번을 먼저 읽고 새 트랜잭션에서 조회 (호출한 쪽 트랜잭션의 이전 스냅샷으로 읽으면 순번 비교가 무의미)
+        long loadGeneration = closedMonthGeneration.get();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        List<DailyLeftoverAggregateDto> loaded = transactionTemplate.execute(status -> List.copyOf(
+                leftoverRollupRepository.findDailyAggregatesBySchoolAndDateRange(schoolId, startDate, endDate)));
+
+        synchronized (closedMonthCache) {
+            if (closedMonthGeneration.get() == loadGeneration) {
+                closedMonthCache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Double> getStudentAverage(Long studentId, LocalDate startDate, LocalDate endDate) {
+        return leftoverRollupRepository.findStudentAggregate(studentId, startDate, endDate)
+                .map(DailyLeftoverAggregateDto::getAverageRate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyIntakeDto> getStudentDailyIntake(Long studentId, LocalDate startDate, LocalDate endDate) {
+        return studentDailyIntakeRepository.findByStudentAndDateRange(studentId, startDate, endDate);
+    }
+
+    @Override
+    public List<IntakeCube.ClassTotals> getClassIntakeTotals(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        return intakeCubeCache.sumByClass(schoolId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeftoverHistogram getMenuDistribution(Long schoolId, String menuName, LocalDate startDate, LocalDate endDate) {
+        return leftoverHistogramRepository.findMenuHistogram(schoolId, menuName, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeftoverHistogram getSchoolDistribution(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        return leftoverHistogramRepository.findSchoolHistogram(schoolId, startDate, endDate);
+    }
+
+    @Override
+    public Map<String, Object> backfill() {
+        log.info("잔반 집계 테이블 백필 시작");
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Object> result = new HashMap<>();
+        Optional<LocalDate[]> bounds = leftoverRollupRepository.findLeftoverDateBounds();
+
+        if (bounds.isEmpty()) {
+            log.info("잔반 데이터 없음 - 백필 생략");
+            result.put("months", 0);
+            result.put("menuRows", 0);
+            result.put("intakeRows", 0);
+            result.put("elapsedMs", System.currentTimeMillis() - startTime);
+            return result;
+        }
+
+        YearMonth from = YearMonth.from(bounds.get()[0]);
+        YearMonth to = YearMonth.from(bounds.get()[1]);
+
+        // 월 단위로 나누어 각각 별도 트랜잭션으로 재생성 (긴 락 방지)
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int months = 0;
+        int menuRows = 0;
+        int intakeRows = 0;
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate startDate = month.atDay(1);
+            LocalDate endDate = month.plusMonths(1).atDay(1);
+
+            int[] rows = transactionTemplate.execute(status -> {
+                leftoverHistogramRepository.rebuild(startDate, endDate);
+                return new int[]{
+                        leftoverRollupRepository.rebuild(startDate, endDate),
+                        studentDailyIntakeRepository.rebuild(startDate, endDate)};
+            });
+            menuRows += rows != null ? rows[0] : 0;
+            intakeRows += rows != null ? rows[1] : 0;
+            months++;
+            log.info("잔반 집계 백필 완료 - {}: 메뉴 집계 {}건, 학생 섭취 집계 {}건",
+                    month, rows != null ? rows[0] : 0, rows != null ? rows[1] : 0);
+        }
+
+        synchronized (closedMonthCache) {
+            closedMonthGeneration.incrementAndGet();
+            closedMonthCache.clear();
+        }
+        leftoverColumnCache.evictAll();
+        intakeCubeCache.evictAll();
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("잔반 집계 테이블 백필 종료 - {}개월, 메뉴 집계 {}건, 학생 섭취 집계 {}건, {}ms",
+                months, menuRows, intakeRows, elapsed);
+
+        result.put("months", months);
+        result.put("menuRows", menuRows);
+        result.put("intakeRows", intakeRows);
+        result.put("elapsedMs", elapsed);
+        return result;
+    }
+
+    private String cacheKey(Long schoolId, YearMonth yearMonth) {
+        return schoolId + ":" + yearMonth;
+    }
+}
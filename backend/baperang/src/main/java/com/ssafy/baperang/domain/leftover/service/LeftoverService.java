@@ -3,9 +3,18 @@ package com.ssafy.baperang.domain.leftover.service;
 import java.util.Map;
 
 public interface LeftoverService {
-    Object getLeftoversByDate(String dateStr);
+    Object getLeftoversByDate(Long userId, String dateStr);
 
-    Object getLeftoversByMonth(int year, int month);
+    Object getLeftoversByMonth(Long userId, int year, int month);
 
     Object saveLeftovers(Long studentId, Map<String, Object> aiResponse);
+
+    // 메뉴별(메뉴명 없으면 학교 전체) 기간 내 잔반율 분포
+    Object getLeftoverDistribution(Long userId, String menuName, String startDateStr, String endDateStr);
+
+    // 학교의 기간 내 학년/반별 평균 섭취 영양소 (grade 지정 시 해당 학년만)
+    Object getIntakeCube(Long userId, String startDateStr, String endDateStr, Integer grade);
+
+    // 학교의 기간 내 잔반 이력 내보내기 (format: csv, xlsx)
+    Object exportLeftovers(Long userId, String startDateStr, String endDateStr, String format);
 }
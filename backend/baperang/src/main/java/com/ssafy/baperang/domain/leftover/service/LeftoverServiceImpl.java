@@ -1,21 +1,33 @@
 package com.ssafy.baperang.domain.leftover.service;
 
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnCache;
+import com.ssafy.baperang.domain.leftover.cube.IntakeCube;
+import com.ssafy.baperang.domain.leftover.dto.response.DailyLeftoverAggregateDto;
 import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.leftover.dto.response.IntakeCubeResponseDto;
 import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDateResponseDto;
+import com.ssafy.baperang.domain.leftover.dto.response.LeftoverDistributionResponseDto;
 import com.ssafy.baperang.domain.leftover.dto.response.LeftoverMonthResponseDto;
 import com.ssafy.baperang.domain.leftover.entity.Leftover;
 import com.ssafy.baperang.domain.leftover.repository.LeftoverRepository;
+import com.ssafy.baperang.domain.leftover.sketch.LeftoverHistogram;
 import com.ssafy.baperang.domain.menu.entity.Menu;
 import com.ssafy.baperang.domain.menu.repository.MenuRepository;
 import com.ssafy.baperang.domain.school.entity.School;
 import com.ssafy.baperang.domain.student.entity.Student;
 import com.ssafy.baperang.domain.student.repository.StudentRepository;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.export.ExportFormat;
+import com.ssafy.baperang.global.export.ExportRowWriter;
+import com.ssafy.baperang.global.export.StreamingExport;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 import com.ssafy.baperang.domain.sse.service.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.text.DecimalFormatSymbols;
 import java.time.LocalDate;
@@ -36,22 +48,39 @@ public class LeftoverServiceImpl implements LeftoverService {
     private final LeftoverRepository leftoverRepository;
     private final MenuRepository menuRepository;
     private final StudentRepository studentRepository;
+    private final TenantResolver tenantResolver;
+    private final LeftoverRollupService leftoverRollupService;
+    private final LeftoverColumnCache leftoverColumnCache;
     private final DecimalFormat df = new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US));
     private final SseService sseService;
 
+    // 섭취 집계 조회 최대 기간 (일)
+    private static final int MAX_INTAKE_CUBE_DAYS = 366;
+
+    private static final List<String> EXPORT_HEADERS = List.of(
+            "날짜", "학년", "반", "번호", "이름", "메뉴", "잔반율");
+
 
     @Override
     @Transactional(readOnly = true)
-    public Object getLeftoversByDate(String dateStr) {
-        log.info("LeftoversByDate 함수 실행 - 날짜: {}", dateStr);
+    public Object getLeftoversByDate(Long userId, String dateStr) {
+        log.info("LeftoversByDate 함수 실행 - 사용자 ID: {}, 날짜: {}", userId, dateStr);
 
         try {
             // 문자열로 받은 날짜를 date로 변환
             LocalDate date = LocalDate.parse(dateStr, DateTimeFormatter.ISO_DATE);
 
-            // 메뉴별 평균 잔반율 조회
-            List<LeftoverDateResponseDto.MenuLeftoverRate> menuLeftoverRates
-                    = leftoverRepository.findAverageLeftoverRateByDate(date);
+            TenantContext tenant = tenantResolver.resolve(userId);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            // 메뉴별 평균 잔반율 조회 (컬럼 캐시, 비활성화 시 집계 테이블)
+            Long schoolId = tenant.schoolId();
+            List<LeftoverDateResponseDto.MenuLeftoverRate> menuLeftoverRates = leftoverColumnCache.isEnabled()
+                    ? leftoverColumnCache.getStore(schoolId).menuAverages(date, date.plusDays(1))
+                    : leftoverRollupService.getMenuAverages(schoolId, date);
 
             List<LeftoverDateResponseDto.MenuLeftoverRate> formattedRates = new ArrayList<>();
 
@@ -89,8 +118,8 @@ public class LeftoverServiceImpl implements LeftoverService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getLeftoversByMonth(int year, int month) {
-        log.info("getLeftoversByMonth 함수 실행 - 년도: {}, 월: {}", year, month);
+    public Object getLeftoversByMonth(Long userId, int year, int month) {
+        log.info("getLeftoversByMonth 함수 실행 - 사용자 ID: {}, 년도: {}, 월: {}", userId, year, month);
 
         try {
             // 유효한 월 범위 검증 (1-12)
@@ -98,38 +127,36 @@ public class LeftoverServiceImpl implements LeftoverService {
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
             }
 
-            // 해당 연도와 월의 데이터 조회
-            List<Leftover> leftovers = leftoverRepository.findByYearAndMonth(year, month);
-
-            // 날짜별로 그룹화하여 평균 계산
-            Map<LocalDate, List<Leftover>> leftoversByDate = leftovers.stream()
-                    .collect(Collectors.groupingBy(Leftover::getLeftoverDate));
+            TenantContext tenant = tenantResolver.resolve(userId);
 
-            List<LeftoverMonthResponseDto.DailyLeftoverRate> dailyRates = new ArrayList<>();
-
-            // 각 날짜별 평균 계산
-            for (Map.Entry<LocalDate, List<Leftover>> entry : leftoversByDate.entrySet()) {
-                LocalDate date = entry.getKey();
-                List<Leftover> dailyLeftovers = entry.getValue();
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
 
-                // 평균 계산
-                double avgRate = dailyLeftovers.stream()
-                        .mapToDouble(l -> l.getLeftoverRate())
-                        .average()
-                        .orElse(0.0);
+            // 학교별 일자 단위 합계/건수 조회 (컬럼 캐시, 비활성화 시 집계 테이블)
+            Long schoolId = tenant.schoolId();
+            YearMonth yearMonth = YearMonth.of(year, month);
+            List<DailyLeftoverAggregateDto> aggregates = leftoverColumnCache.isEnabled()
+                    ? leftoverColumnCache.getStore(schoolId)
+                            .dailyAggregates(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1))
+                    : leftoverRollupService.getMonthlyAggregates(schoolId, yearMonth);
 
-                float formattedAvgRate = Float.parseFloat(df.format(avgRate));
+            List<LeftoverMonthResponseDto.DailyLeftoverRate> dailyRates = new ArrayList<>();
+            double totalRateSum = 0.0;
+            long totalCount = 0;
 
+            // 각 날짜별 평균 및 월 전체 합계 계산
+            for (DailyLeftoverAggregateDto aggregate : aggregates) {
                 dailyRates.add(new LeftoverMonthResponseDto.DailyLeftoverRate(
-                        date.format(DateTimeFormatter.ISO_DATE),
-                        avgRate));
+                        aggregate.getDate().format(DateTimeFormatter.ISO_DATE),
+                        aggregate.getAverageRate()));
+
+                totalRateSum += aggregate.getRateSum();
+                totalCount += aggregate.getCount();
             }
 
-            // 전체 데이터의 평균 계산
-            float monthlyAverage = (float) leftovers.stream()
-                    .mapToDouble(l -> l.getLeftoverRate())
-                    .average()
-                    .orElse(0.0);
+            // 전체 데이터의 평균 계산 (일자별 합계/건수로 가중 평균)
+            float monthlyAverage = totalCount > 0 ? (float) (totalRateSum / totalCount) : 0.0f;
 
             // 해당 월의 모든 날짜 데이터 확인
             // (데이터가 없는 날짜는 0.0으로 채움)
@@ -151,6 +178,161 @@ public class LeftoverServiceImpl implements LeftoverService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Object getLeftoverDistribution(Long userId, String menuName, String startDateStr, String endDateStr) {
+        log.info("getLeftoverDistribution 함수 실행 - 사용자 ID: {}, 메뉴: {}, 기간: {} ~ {}",
+                userId, menuName, startDateStr, endDateStr);
+
+        try {
+            LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ISO_DATE);
+            LocalDate endDate = LocalDate.parse(endDateStr, DateTimeFormatter.ISO_DATE);
+
+            if (startDate.isAfter(endDate)) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            TenantContext tenant = tenantResolver.resolve(userId);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            // 원본 잔반 행을 읽지 않고 저장된 히스토그램 구간 건수만 합산
+            Long schoolId = tenant.schoolId();
+            boolean schoolWide = menuName == null || menuName.isBlank();
+            LeftoverHistogram histogram = schoolWide
+                    ? leftoverRollupService.getSchoolDistribution(schoolId, startDate, endDate)
+                    : leftoverRollupService.getMenuDistribution(schoolId, menuName, startDate, endDate);
+
+            List<LeftoverDistributionResponseDto.HistogramBucket> buckets = new ArrayList<>(LeftoverHistogram.BUCKET_COUNT);
+            for (int bucket = 0; bucket < LeftoverHistogram.BUCKET_COUNT; bucket++) {
+                buckets.add(LeftoverDistributionResponseDto.HistogramBucket.builder()
+                        .lowerBound(LeftoverHistogram.lowerBound(bucket))
+                        .upperBound(LeftoverHistogram.upperBound(bucket))
+                        .count(histogram.getCount(bucket))
+                        .build());
+            }
+
+            log.info("getLeftoverDistribution 함수 성공 종료 - 건수: {}", histogram.getTotal());
+
+            return LeftoverDistributionResponseDto.builder()
+                    .menuName(schoolWide ? null : menuName)
+                    .startDate(startDate.format(DateTimeFormatter.ISO_DATE))
+                    .endDate(endDate.format(DateTimeFormatter.ISO_DATE))
+                    .count(histogram.getTotal())
+                    .median(formatQuantile(histogram.quantile(0.5)))
+                    .p90(formatQuantile(histogram.quantile(0.9)))
+                    .histogram(buckets)
+                    .build();
+        } catch (DateTimeParseException e) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("getLeftoverDistribution 함수 실행 중 오류 발생", e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public Object getIntakeCube(Long userId, String startDateStr, String endDateStr, Integer grade) {
+        log.info("getIntakeCube 함수 실행 - 사용자 ID: {}, 기간: {} ~ {}, 학년: {}",
+                userId, startDateStr, endDateStr, grade);
+
+        try {
+            LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ISO_DATE);
+            LocalDate endDate = LocalDate.parse(endDateStr, DateTimeFormatter.ISO_DATE);
+
+            if (startDate.isAfter(endDate) || startDate.plusDays(MAX_INTAKE_CUBE_DAYS).isBefore(endDate)) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            TenantContext tenant = tenantResolver.resolve(userId);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            // 원본 잔반/영양소를 읽지 않고 섭취 집계 큐브의 반별 합계만 사용
+            List<IntakeCube.ClassTotals> classTotals = leftoverRollupService
+                    .getClassIntakeTotals(tenant.schoolId(), startDate, endDate)
+                    .stream()
+                    .filter(totals -> grade == null || totals.grade() == grade)
+                    .toList();
+
+            List<IntakeCubeResponseDto.IntakeSummary> classes = new ArrayList<>(classTotals.size());
+            Map<Integer, IntakeCube.ClassTotals> gradeTotals = new TreeMap<>();
+            IntakeCube.ClassTotals schoolTotals = null;
+
+            for (IntakeCube.ClassTotals totals : classTotals) {
+                classes.add(toIntakeSummary(totals, totals.grade(), totals.classNum()));
+                gradeTotals.merge(totals.grade(), totals, this::addIntakeTotals);
+                schoolTotals = schoolTotals == null ? totals : addIntakeTotals(schoolTotals, totals);
+            }
+
+            List<IntakeCubeResponseDto.IntakeSummary> grades = gradeTotals.entrySet().stream()
+                    .map(entry -> toIntakeSummary(entry.getValue(), entry.getKey(), null))
+                    .toList();
+
+            log.info("getIntakeCube 함수 성공 종료 - 반 수: {}", classes.size());
+
+            return IntakeCubeResponseDto.builder()
+                    .startDate(startDate.format(DateTimeFormatter.ISO_DATE))
+                    .endDate(endDate.format(DateTimeFormatter.ISO_DATE))
+                    .school(schoolTotals == null ? null : toIntakeSummary(schoolTotals, null, null))
+                    .grades(grades)
+                    .classes(classes)
+                    .build();
+        } catch (DateTimeParseException e) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("getIntakeCube 함수 실행 중 오류 발생", e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Object exportLeftovers(Long userId, String startDateStr, String endDateStr, String format) {
+        log.info("exportLeftovers 함수 실행 - 사용자 ID: {}, 기간: {} ~ {}, 형식: {}", userId, startDateStr, endDateStr, format);
+
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
+            LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ISO_DATE);
+            LocalDate endDate = LocalDate.parse(endDateStr, DateTimeFormatter.ISO_DATE);
+
+            if (exportFormat == null || startDate.isAfter(endDate)) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            TenantContext tenant = tenantResolver.resolve(userId);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            Long schoolId = tenant.schoolId();
+
+            // 응답 스트림에 쓰는 시점에 DB 커서를 열어 행 단위로 기록
+            return new StreamingExport("leftover_" + startDate + "_" + endDate, exportFormat, out -> {
+                long startTime = System.currentTimeMillis();
+                try (ExportRowWriter writer = ExportRowWriter.open(exportFormat, out, "잔반", EXPORT_HEADERS)) {
+                    leftoverRepository.exportBySchoolAndDateRange(schoolId, startDate, endDate, writer);
+                }
+                log.info("exportLeftovers 내보내기 완료 - 학교 ID: {}, {}ms", schoolId, System.currentTimeMillis() - startTime);
+            });
+        } catch (DateTimeParseException e) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("exportLeftovers 함수 실행 중 오류 발생", e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 분위수를 소수점 둘째 자리까지 포맷 (데이터 없으면 null)
+    private Float formatQuantile(Double value) {
+        return value != null ? Float.parseFloat(df.format(value)) : null;
+    }
+
     // 누락된 날짜 데이터를 0.0으로 채우는 헬퍼 메소드
     private List<LeftoverMonthResponseDto.DailyLeftoverRate> fillMissingDates(
             int year, int month, List<LeftoverMonthResponseDto.DailyLeftoverRate> existingData) {
@@ -290,12 +472,16 @@ public class LeftoverServiceImpl implements LeftoverService {
                             .leftoverRate(leftoverRate)
                             .build();
 
-                    savedLeftovers.add(leftoverRepository.save(leftover));
+                    savedLeftovers.add(leftover);
                     log.info("잔반 데이터 저장: 위치={}, 메뉴={}, 잔반율={}%",
                             position, menu.getMenuName(), leftoverRate);
                 }
             }
 
+            // 위치별 잔반 데이터를 한 번의 JDBC 배치로 저장하고 집계 테이블 갱신
+            leftoverRepository.saveAllInBatch(savedLeftovers);
+            leftoverRollupService.recordLeftovers(savedLeftovers);
+
             log.info("학생 ID: {}의 메뉴 {}개 잔반율 저장 완료", studentId, savedLeftovers.size());
 
             // 잔반 데이터 저장 후 SSE 알림 발송
@@ -317,7 +503,39 @@ public class LeftoverServiceImpl implements LeftoverService {
             return result;
         } catch (Exception e) {
             log.error("잔반 데이터 저장 중 오류 발생: {}", e.getMessage(), e);
+            // 집계 갱신(MANDATORY 전파)이 실패하면 트랜잭션이 이미 rollback-only이므로,
+            // 직접 롤백을 표시해 커밋 시 UnexpectedRollbackException 대신 오류 응답이 나가도록 함
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    private IntakeCube.ClassTotals addIntakeTotals(IntakeCube.ClassTotals a, IntakeCube.ClassTotals b) {
+        long[] totals = a.totals().clone();
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] += b.totals()[i];
+        }
+        return new IntakeCube.ClassTotals(a.grade(), a.classNum(), totals, a.rateSum() + b.rateSum());
+    }
+
+    private IntakeCubeResponseDto.IntakeSummary toIntakeSummary(IntakeCube.ClassTotals totals,
+                                                                Integer grade, Integer classNum) {
+        long studentDays = totals.get(IntakeCube.STUDENT_DAYS);
+        long rateCount = totals.get(IntakeCube.RATE_COUNT);
+
+        return IntakeCubeResponseDto.IntakeSummary.builder()
+                .grade(grade)
+                .classNum(classNum)
+                .studentDays(studentDays)
+                .avgKcal(perStudentDay(totals.get(IntakeCube.KCAL), studentDays))
+                .avgCarbo(perStudentDay(totals.get(IntakeCube.CARBO), studentDays))
+                .avgProtein(perStudentDay(totals.get(IntakeCube.PROTEIN), studentDays))
+                .avgFat(perStudentDay(totals.get(IntakeCube.FAT), studentDays))
+                .avgLeftoverRate(Float.parseFloat(df.format(rateCount > 0 ? totals.rateSum() / rateCount : 0.0)))
+                .build();
+    }
+
+    private Float perStudentDay(long total, long studentDays) {
+        return Float.parseFloat(df.format(studentDays > 0 ? (double) total / studentDays : 0.0));
+    }
+}
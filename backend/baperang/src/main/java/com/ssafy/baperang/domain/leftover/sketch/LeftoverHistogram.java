@@ -0,0 +1,79 @@
+package com.ssafy.baperang.domain.leftover.sketch;
+
+/**
+ * 잔반율 분포 고정 구간 히스토그램
+ * - 구간 0~99: [i, i+1)% , 구간 100: 정확히 100%
+ * - 구간별 건수만 가지므로 메모리가 일정하고, 여러 히스토그램을 건수 합산으로 병합 가능
+ */
+public class LeftoverHistogram {
+
+    public static final int BUCKET_COUNT = 101;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long total;
+
+    // 잔반율(%)이 속하는 구간 번호
+    public static int bucketOf(float leftoverRate) {
+        if (leftoverRate >= 100f) {
+            return BUCKET_COUNT - 1;
+        }
+        if (leftoverRate <= 0f) {
+            return 0;
+        }
+        return (int) leftoverRate;
+    }
+
+    public static float lowerBound(int bucket) {
+        return bucket;
+    }
+
+    public static float upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? 100f : bucket + 1;
+    }
+
+    public void add(int bucket, long count) {
+        counts[bucket] += count;
+        total += count;
+    }
+
+    public void merge(LeftoverHistogram other) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        total += other.total;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 분위수 추정 (구간 안에서는 균등 분포로 보고 선형 보간)
+     * @param quantile 0.0 ~ 1.0
+     * @return 잔반율(%), 데이터가 없으면 null
+     */
+    public Double quantile(double quantile) {
+        if (total == 0) {
+            return null;
+        }
+
+        double target = quantile * total;
+        long cumulative = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            long count = counts[bucket];
+            if (count == 0) {
+                continue;
+            }
+            if (cumulative + count >= target) {
+                double fraction = (target - cumulative) / count;
+                return lowerBound(bucket) + (upperBound(bucket) - lowerBound(bucket)) * fraction;
+            }
+            cumulative += count;
+        }
+        return 100.0;
+    }
+}
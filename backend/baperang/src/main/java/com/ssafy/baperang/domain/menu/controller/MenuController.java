@@ -1,13 +1,19 @@
 package com.ssafy.baperang.domain.menu.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.ssafy.baperang.domain.menu.dto.request.MenuRequestDto;
 import com.ssafy.baperang.domain.menu.dto.request.UpdateMenuRequestDto;
 import com.ssafy.baperang.domain.menu.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.menu.service.MenuImportJobService;
+import com.ssafy.baperang.domain.menu.service.MenuImportService;
 import com.ssafy.baperang.domain.menu.service.MenuService;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,24 +25,23 @@ import lombok.extern.slf4j.Slf4j;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuImportService menuImportService;
+    private final MenuImportJobService menuImportJobService;
 
     @GetMapping("/calendar")
     public ResponseEntity<?> getMenuCalendar(
             @RequestParam int year,
             @RequestParam int month,
-            @RequestHeader("Authorization") String authorizationHeader) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
 
         log.info("getMenuCalendar 컨트롤러 함수 호출 - 년: {}, 월: {}", year, month);
 
-        // "Bearer " 접두사 제거
-        String token = authorizationHeader.substring(7);
-
         MenuRequestDto requestDto = MenuRequestDto.builder()
                 .year(year)
                 .month(month)
                 .build();
 
-        Object result = menuService.getMenuCalendar(requestDto, token);
+        Object result = menuService.getMenuCalendar(requestDto, principal);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -51,13 +56,11 @@ public class MenuController {
 
     @GetMapping("/today")
     public ResponseEntity<?> getTodayMenu(
-            @RequestHeader("Authorization") String authorizationHeader) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
 
         log.info("getTodayMenu 컨트롤러 함수 호출");
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = menuService.getTodayMenu(token);
+        Object result = menuService.getTodayMenu(principal);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -71,14 +74,12 @@ public class MenuController {
 
     @GetMapping("/oneday")
     public ResponseEntity<?> getOneDayMenu(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String date) {
 
         log.info("getOneDayMenu 컨트롤러 함수 호출");
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = menuService.getOneDayMenu(token, date);
+        Object result = menuService.getOneDayMenu(principal, date);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -92,7 +93,7 @@ public class MenuController {
 
     @GetMapping("/menu_nutrient")
     public ResponseEntity<?> getmenunutrient(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam(required = true) String menu,
             @RequestParam(required = true) String date) {
 
@@ -106,8 +107,7 @@ public class MenuController {
             log.info("메뉴 영양소 조회 - 디코딩된 메뉴명: {}", decodedMenu);
             
             // 디코딩된 메뉴명으로 서비스 호출
-            String token = authorizationHeader.substring(7);
-            Object result = menuService.getMenuNutrient(token, decodedMenu, date);
+            Object result = menuService.getMenuNutrient(principal, decodedMenu, date);
             
             if (result instanceof ErrorResponseDto) {
                 ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -126,13 +126,11 @@ public class MenuController {
 
     @PostMapping("/make_month_menu")
     public ResponseEntity<?> makeMonthMenu(
-            @RequestHeader("Authorization") String authorizationHeader) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
 
         log.info("makeMonthMenu 컨트롤러 함수 호출");
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = menuService.makeMonthMenu(token);
+        Object result = menuService.makeMonthMenu(principal);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -146,15 +144,13 @@ public class MenuController {
 
     @GetMapping("/alternatives")
     public ResponseEntity<?> getAlternatives(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String menu,
             @RequestParam String date) {
 
         log.info("getAlternatives 컨트롤러 함수 호출");
 
-        String token = authorizationHeader.substring(7);
-
-        Object result = menuService.getAlternatives(token, menu, date);
+        Object result = menuService.getAlternatives(principal, menu, date);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -168,18 +164,16 @@ public class MenuController {
 
     @PatchMapping("/update_menu")
     public ResponseEntity<?> updateMenu(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody UpdateMenuRequestDto requestDto) {
 
         log.info("updateMenu 컨트롤러 함수 호출");
 
-        String token = authorizationHeader.substring(7);
-
         String menu = requestDto.getMenu();
         String date = requestDto.getDate();
         String alternative_menu = requestDto.getAlternative_menu();
 
-        Object result = menuService.updateMenu(token, menu, date, alternative_menu);
+        Object result = menuService.updateMenu(principal, menu, date, alternative_menu);
 
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponse = (ErrorResponseDto) result;
@@ -190,4 +184,62 @@ public class MenuController {
         log.info("updateMenu 컨트롤러 함수 정상 응답");
         return ResponseEntity.ok(result);
     }
+
+    // 식단 엑셀 가져오기 (헤더: city, school, menu_name, menu_date, category)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importMenus(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestPart("file") MultipartFile file) {
+
+        log.info("importMenus 컨트롤러 함수 호출");
+
+        Object result = menuImportService.importMenuFile(principal, file);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponse = (ErrorResponseDto) result;
+            log.info("importMenus 컨트롤러 함수 에러 응답");
+            return ResponseEntity.status(errorResponse.getStatus()).body(result);
+        }
+
+        log.info("importMenus 컨트롤러 함수 정상 응답");
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/import/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> startMenuImportJob(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestPart("file") MultipartFile file) {
+
+        log.info("startMenuImportJob 컨트롤러 함수 호출");
+
+        Object result = menuImportJobService.startImportJob(principal, file);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponse = (ErrorResponseDto) result;
+            log.info("startMenuImportJob 컨트롤러 함수 에러 응답");
+            return ResponseEntity.status(errorResponse.getStatus()).body(result);
+        }
+
+        log.info("startMenuImportJob 컨트롤러 함수 정상 응답");
+        return ResponseEntity.accepted().body(result);
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<?> getMenuImportJob(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable String jobId) {
+
+        log.info("getMenuImportJob 컨트롤러 함수 호출 - 작업 ID: {}", jobId);
+
+        Object result = menuImportJobService.getImportJob(principal, jobId);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponse = (ErrorResponseDto) result;
+            log.info("getMenuImportJob 컨트롤러 함수 에러 응답");
+            return ResponseEntity.status(errorResponse.getStatus()).body(result);
+        }
+
+        log.info("getMenuImportJob 컨트롤러 함수 정상 응답");
+        return ResponseEntity.ok(result);
+    }
 }
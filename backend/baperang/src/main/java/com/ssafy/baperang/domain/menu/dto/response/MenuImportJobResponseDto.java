@@ -0,0 +1,58 @@
+package com.ssafy.baperang.domain.menu.dto.response;
+
+import com.ssafy.baperang.domain.menu.importer.MenuImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuImportJobResponseDto {
+    private String jobId;
+    private String fileName;
+    private String status;
+    private String startedAt;
+    private String finishedAt;
+    private long elapsedMs;
+
+    // 학교 단위 진행 현황
+    private int totalPartitions;
+    private int completedPartitions;
+    private int failedPartitions;
+
+    // 행 단위 집계
+    private long totalRows;
+    private long savedRows;
+    private long duplicateRows;
+    private long invalidRows;
+    private long failedRows;
+    private double rowsPerSecond;
+
+    private List<String> failures;
+
+    public static MenuImportJobResponseDto from(MenuImportJob job) {
+        return MenuImportJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .fileName(job.getFileName())
+                .status(job.getStatus().name())
+                .startedAt(job.getStartedAt().toString())
+                .finishedAt(job.getFinishedAt() == null ? null : job.getFinishedAt().toString())
+                .elapsedMs(job.getElapsedMs())
+                .totalPartitions(job.getTotalPartitions().get())
+                .completedPartitions(job.getCompletedPartitions().get())
+                .failedPartitions(job.getFailedPartitions().get())
+                .totalRows(job.getTotalRows().get())
+                .savedRows(job.getSavedRows().get())
+                .duplicateRows(job.getDuplicateRows().get())
+                .invalidRows(job.getInvalidRows().get())
+                .failedRows(job.getFailedRows().get())
+                .rowsPerSecond(Math.round(job.getRowsPerSecond() * 10) / 10.0)
+                .failures(List.copyOf(job.getFailures()))
+                .build();
+    }
+}
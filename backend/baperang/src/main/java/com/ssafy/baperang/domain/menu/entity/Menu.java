@@ -1,5 +1,6 @@
 package com.ssafy.baperang.domain.menu.entity;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -8,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.util.DigestUtils;
 
 import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
 import com.ssafy.baperang.domain.school.entity.School;
@@ -51,6 +53,10 @@ public class Menu {
     @Column(name = "menu_name", nullable = false, columnDefinition = "TEXT")
     private String menuName;
 
+    // DB가 MD5(menu_name)으로 생성하는 컬럼 (TEXT 컬럼 대신 인덱스 조회에 사용)
+    @Column(name = "menu_name_hash", insertable = false, updatable = false, columnDefinition = "CHAR(32)")
+    private String menuNameHash;
+
     @Column(name = "category", nullable = false)
     private String category;
 
@@ -85,6 +91,18 @@ public class Menu {
         this.alternatives = alternatives != null ? alternatives : new ArrayList<>();
     }
 
+    /**
+     * menu_name_hash 생성 컬럼과 같은 방식으로 메뉴명 해시 계산
+     * @param menuName 메뉴명
+     * @return MD5 hex 문자열
+     */
+    public static String hashMenuName(String menuName) {
+        if (menuName == null) {
+            return null;
+        }
+        return DigestUtils.md5DigestAsHex(menuName.getBytes(StandardCharsets.UTF_8));
+    }
+
     // 메뉴 내용이 변경될 경우 사용
     public void updateMenuName(String menuName) {
         this.menuName = menuName;
@@ -0,0 +1,177 @@
+package com.ssafy.baperang.domain.menu.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * XSSF 이벤트(SAX) 방식 식단 엑셀 reader
+ * 워크북 전체를 DOM으로 올리지 않고 첫 번째 시트를 행 단위로 읽어 MenuImportRow로 전달
+ * 헤더: city, school, menu_name, menu_date, category(선택)
+ */
+@Slf4j
+@Component
+public class MenuExcelReader {
+
+    private static final String DEFAULT_CATEGORY = "기타";
+
+    private static final DateTimeFormatter[] DATE_FORMATTERS = {
+            DateTimeFormatter.ofPattern("yyyyMMdd"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd")
+    };
+
+    public void read(Path file, Consumer<MenuImportRow> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            // 첫 번째 시트만 처리
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowHandler(consumer), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+            try {
+                return LocalDate.parse(value, formatter);
+            } catch (DateTimeParseException e) {
+                // 다음 포맷 시도
+            }
+        }
+
+        log.warn("날짜 형식을 파싱할 수 없습니다: {}", value);
+        return null;
+    }
+
+    /**
+     * 행 단위 콜백: 첫 행은 헤더로 컬럼 위치를 기억하고 이후 행은 MenuImportRow로 변환
+     */
+    private static class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<MenuImportRow> consumer;
+        private final Map<String, Integer> headerIndex = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private boolean headerRead;
+        private int currentColumn;
+
+        private RowHandler(Consumer<MenuImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+            currentColumn = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 빈 셀은 이벤트가 오지 않으므로 셀 참조로 컬럼 위치를 계산
+            currentColumn = cellReference != null
+                    ? new CellReference(cellReference).getCol()
+                    : currentColumn + 1;
+            while (values.size() < currentColumn) {
+                values.add(null);
+            }
+            values.add(formattedValue != null ? formattedValue.trim() : null);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!headerRead) {
+                for (int i = 0; i < values.size(); i++) {
+                    if (values.get(i) != null) {
+                        headerIndex.put(values.get(i), i);
+                    }
+                }
+                headerRead = true;
+                log.info("엑셀 헤더: {}", headerIndex.keySet());
+                return;
+            }
+
+            String menuName = value("menu_name");
+            String dateValue = value("menu_date");
+            if (menuName == null && dateValue == null) {
+                return;
+            }
+
+            String category = value("category");
+            consumer.accept(new MenuImportRow(
+                    rowNum,
+                    value("city"),
+                    value("school"),
+                    parseDate(dateValue),
+                    menuName,
+                    category != null ? category : DEFAULT_CATEGORY));
+        }
+
+        private String value(String header) {
+            Integer index = headerIndex.get(header);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index);
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 날짜 서식 셀을 로케일 기본 서식(m/d/yy 등) 대신 yyyy-MM-dd로 변환
+     */
+    private static class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
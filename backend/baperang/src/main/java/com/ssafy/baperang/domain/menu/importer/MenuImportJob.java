@@ -0,0 +1,110 @@
+package com.ssafy.baperang.domain.menu.importer;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 학교 식단 가져오기 작업의 진행 상태
+ * - 학교(파티션) 단위 작업이 서로 다른 스레드에서 결과를 더하므로 카운터는 모두 원자적으로 갱신
+ */
+@Getter
+public class MenuImportJob {
+
+    public enum Status {
+        READING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId;
+    private final Long userId;
+    private final String fileName;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+
+    private volatile Status status = Status.READING;
+    private volatile LocalDateTime finishedAt;
+    private volatile long finishNanos;
+
+    private final AtomicInteger totalPartitions = new AtomicInteger();
+    private final AtomicInteger completedPartitions = new AtomicInteger();
+    private final AtomicInteger failedPartitions = new AtomicInteger();
+
+    private final AtomicLong totalRows = new AtomicLong();
+    private final AtomicLong savedRows = new AtomicLong();
+    private final AtomicLong duplicateRows = new AtomicLong();
+    private final AtomicLong invalidRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+
+    private final List<String> failures = new CopyOnWriteArrayList<>();
+
+    public MenuImportJob(String jobId, Long userId, String fileName) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.fileName = fileName;
+    }
+
+    // 파일 읽기가 끝나 학교별 작업 수가 정해짐
+    public void startPartitions(int partitionCount, long rowCount, long unassignedRows) {
+        totalPartitions.set(partitionCount);
+        totalRows.set(rowCount);
+        invalidRows.addAndGet(unassignedRows);
+        status = Status.RUNNING;
+    }
+
+    public void completePartition(MenuImportResult result) {
+        savedRows.addAndGet(result.getSavedRows());
+        duplicateRows.addAndGet(result.getDuplicateRows());
+        invalidRows.addAndGet(result.getInvalidRows());
+        completedPartitions.incrementAndGet();
+    }
+
+    public void failPartition(String partition, int rowCount, String message) {
+        failedRows.addAndGet(rowCount);
+        failures.add(partition + ": " + message);
+        failedPartitions.incrementAndGet();
+    }
+
+    // 모든 학교가 실패했으면(가져올 학교가 없던 경우 포함) 실패로 종료
+    public void finish() {
+        if (failedPartitions.get() == totalPartitions.get()) {
+            failures.add("저장된 학교가 없습니다.");
+            finish(Status.FAILED);
+            return;
+        }
+        finish(Status.COMPLETED);
+    }
+
+    public void fail(String message) {
+        failures.add(message);
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status finalStatus) {
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public long getElapsedMs() {
+        long end = isFinished() ? finishNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+
+    // 처리된(저장 + 중복 + 오류) 행 기준 초당 처리량
+    public double getRowsPerSecond() {
+        long elapsedMs = getElapsedMs();
+        if (elapsedMs == 0) {
+            return 0;
+        }
+        long processed = savedRows.get() + duplicateRows.get() + invalidRows.get() + failedRows.get();
+        return processed * 1000.0 / elapsedMs;
+    }
+}
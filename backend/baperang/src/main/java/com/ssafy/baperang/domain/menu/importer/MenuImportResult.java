@@ -0,0 +1,36 @@
+package com.ssafy.baperang.domain.menu.importer;
+
+import lombok.Getter;
+
+/**
+ * 식단 가져오기 결과 집계
+ */
+@Getter
+public class MenuImportResult {
+
+    private long totalRows;
+    private long savedRows;
+    private long duplicateRows;
+    private long invalidRows;
+    private long elapsedMs;
+
+    public void addTotal() {
+        totalRows++;
+    }
+
+    public void addSaved(long count) {
+        savedRows += count;
+    }
+
+    public void addDuplicate() {
+        duplicateRows++;
+    }
+
+    public void addInvalid() {
+        invalidRows++;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+}
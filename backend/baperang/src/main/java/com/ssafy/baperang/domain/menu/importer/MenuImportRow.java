@@ -0,0 +1,26 @@
+package com.ssafy.baperang.domain.menu.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 엑셀 식단 파일의 한 행
+ * menuDate 또는 menuName이 비어 있으면 유효하지 않은 행
+ */
+@Getter
+@AllArgsConstructor
+public class MenuImportRow {
+
+    private final int rowNum;
+    private final String city;
+    private final String schoolName;
+    private final LocalDate menuDate;
+    private final String menuName;
+    private final String category;
+
+    public boolean isValid() {
+        return menuDate != null && menuName != null && !menuName.isEmpty();
+    }
+}
@@ -33,16 +33,19 @@ public interface MenuJpaRepository extends JpaRepository<Menu, Long> {
             @Param("date") LocalDate date
     );
 
-    boolean existsBySchoolAndMenuDateAndMenuName(
+    // menu_name_hash 인덱스로 후보를 좁힌 뒤 메뉴명으로 해시 충돌 제거
+    boolean existsBySchoolAndMenuDateAndMenuNameHashAndMenuName(
             School school,
             LocalDate menuDate,
+            String menuNameHash,
             String menuName
     );
 
     // 특정 학교, 날짜, 메뉴명으로 메뉴 조회
-    Menu findBySchoolAndMenuDateAndMenuName(
+    Menu findBySchoolAndMenuDateAndMenuNameHashAndMenuName(
             School school,
             LocalDate menuDate,
+            String menuNameHash,
             String menuName
     );
 
@@ -56,8 +59,9 @@ public interface MenuJpaRepository extends JpaRepository<Menu, Long> {
     List<Menu> findAllByIdIn(Collection<Long> menuIds);
     
     // 학교와 메뉴 이름으로 조회 (날짜 상관없이)
-    List<Menu> findBySchoolAndMenuName(
+    List<Menu> findBySchoolAndMenuNameHashAndMenuName(
             School school,
+            String menuNameHash,
             String menuName
     );
 }
@@ -3,6 +3,8 @@ package com.ssafy.baperang.domain.menu.repository;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,7 +19,17 @@ public interface MenuRepository {
     Menu saveAndFlush(Menu menu);
     
     List<Menu> saveAll(List<Menu> menus);
+
+    // 메뉴 일괄 저장 (JDBC batch insert, 생성된 ID는 재조회 필요)
+    int saveAllInBatch(List<Menu> menus);
     
+    // 학교의 기간 내 날짜별 메뉴명 집합 (중복 확인용, startDate, endDate 포함)
+    Map<LocalDate, Set<String>> findMenuNamesByDateBySchoolAndDateRange(
+            Long schoolId,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
     // 날짜로 잔반율 조회
     List<Menu> findByMenuDate(LocalDate menuDate);
 
@@ -1,13 +1,21 @@
 package com.ssafy.baperang.domain.menu.repository;
 
+import java.sql.Date;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import com.ssafy.baperang.domain.menu.entity.Menu;
 import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.global.converter.StringListConverter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +24,13 @@ import lombok.RequiredArgsConstructor;
 public class MenuRepositoryImpl implements MenuRepository {
 
     private final MenuJpaRepository menuJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringListConverter alternativesConverter = new StringListConverter();
+
+    // IDENTITY 키는 Hibernate 배치가 불가능하므로 JDBC 배치로 직접 삽입
+    private static final String INSERT_MENU_SQL =
+            "INSERT INTO menu (school_pk, menu_date, menu_name, category, amount, favorite, votes, alternatives) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
     
     @Override
     public Menu saveAndFlush(Menu menu) {
@@ -27,6 +42,51 @@ public class MenuRepositoryImpl implements MenuRepository {
         return menuJpaRepository.saveAll(menus);
     }
 
+    @Override
+    public int saveAllInBatch(List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return 0;
+        }
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_MENU_SQL, menus, menus.size(),
+                (ps, menu) -> {
+                    ps.setLong(1, menu.getSchool().getId());
+                    ps.setDate(2, Date.valueOf(menu.getMenuDate()));
+                    ps.setString(3, menu.getMenuName());
+                    if (menu.getCategory() != null) {
+                        ps.setString(4, menu.getCategory());
+                    } else {
+                        ps.setNull(4, Types.VARCHAR);
+                    }
+                    ps.setInt(5, menu.getAmount());
+                    ps.setFloat(6, menu.getFavorite());
+                    ps.setInt(7, menu.getVotes());
+                    ps.setString(8, alternativesConverter.convertToDatabaseColumn(menu.getAlternatives()));
+                });
+
+        // rewriteBatchedStatements 사용 시 드라이버가 SUCCESS_NO_INFO(-2)를 반환하므로 요청 건수 기준으로 계산
+        int inserted = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                inserted += count > 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public Map<LocalDate, Set<String>> findMenuNamesByDateBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Set<String>> namesByDate = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT menu_date, menu_name FROM menu WHERE school_pk = ? AND menu_date BETWEEN ? AND ?",
+                rs -> {
+                    namesByDate.computeIfAbsent(rs.getDate(1).toLocalDate(), k -> new HashSet<>())
+                            .add(rs.getString(2));
+                },
+                schoolId, Date.valueOf(startDate), Date.valueOf(endDate));
+        return namesByDate;
+    }
+
     @Override
     public List<Menu> findByMenuDate(LocalDate menuDate) {
         return menuJpaRepository.findByMenuDate(menuDate);
@@ -44,7 +104,8 @@ public class MenuRepositoryImpl implements MenuRepository {
 
     @Override
     public boolean existsBySchoolAndMenuDateAndMenuName(School school, LocalDate menuDate, String menuName) {
-        return menuJpaRepository.existsBySchoolAndMenuDateAndMenuName(school, menuDate, menuName);
+        return menuJpaRepository.existsBySchoolAndMenuDateAndMenuNameHashAndMenuName(
+                school, menuDate, Menu.hashMenuName(menuName), menuName);
     }
     
     @Override
@@ -54,7 +115,8 @@ public class MenuRepositoryImpl implements MenuRepository {
     
     @Override
     public Menu findBySchoolAndMenuDateAndMenuName(School school, LocalDate menuDate, String menuName) {
-        return menuJpaRepository.findBySchoolAndMenuDateAndMenuName(school, menuDate, menuName);
+        return menuJpaRepository.findBySchoolAndMenuDateAndMenuNameHashAndMenuName(
+                school, menuDate, Menu.hashMenuName(menuName), menuName);
     }
     
     @Override
@@ -69,6 +131,6 @@ public class MenuRepositoryImpl implements MenuRepository {
     
     @Override
     public List<Menu> findBySchoolAndMenuName(School school, String menuName) {
-        return menuJpaRepository.findBySchoolAndMenuName(school, menuName);
+        return menuJpaRepository.findBySchoolAndMenuNameHashAndMenuName(school, Menu.hashMenuName(menuName), menuName);
     }
 }
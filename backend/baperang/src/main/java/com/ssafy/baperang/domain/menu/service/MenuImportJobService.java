@@ -0,0 +1,14 @@
+package com.ssafy.baperang.domain.menu.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+
+public interface MenuImportJobService {
+
+    // 여러 학교가 섞인 식단 엑셀을 학교별로 나눠 병렬 가져오기 작업 시작
+    Object startImportJob(JwtPrincipal principal, MultipartFile file);
+
+    // 가져오기 작업 진행 상태 조회
+    Object getImportJob(JwtPrincipal principal, String jobId);
+}
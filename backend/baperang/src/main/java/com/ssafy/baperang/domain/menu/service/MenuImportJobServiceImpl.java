@@ -0,0 +1,307 @@
+package com.ssafy.baperang.domain.menu.service;
+
+import com.ssafy.baperang.domain.menu.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.menu.dto.response.MenuImportJobResponseDto;
+import com.ssafy.baperang.domain.menu.importer.MenuExcelReader;
+import com.ssafy.baperang.domain.menu.importer.MenuImportJob;
+import com.ssafy.baperang.domain.menu.importer.MenuImportRow;
+import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.domain.school.repository.SchoolRepository;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 학교 식단 엑셀 병렬 가져오기
+ * - 파일을 한 번 읽어 city/school 열 기준으로 학교별 파티션을 만들고
+ * - 파티션마다 별도 트랜잭션으로 제한된 크기의 스레드 풀에서 저장
+ * - 진행 상황은 작업 ID로 조회 (메모리 보관, 완료 후 일정 시간 뒤 정리)
+ * - 대기 작업 수는 max-queued-jobs로 제한하고, 가득 차면 503 응답
+ * - 사용자의 소속 학교와 관리 학교(user_managed_school, 교육청/지원청 담당자) 파티션만 저장
+ *   그 밖의 학교 행은 읽으면서 건수만 세고 보관하지 않으며, 파티션 실패로 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuImportJobServiceImpl implements MenuImportJobService {
+
+    // 완료된 작업 상태 보관 시간
+    private static final long FINISHED_JOB_RETENTION_MINUTES = 60;
+
+    private final MenuImportService menuImportService;
+    private final MenuExcelReader menuExcelReader;
+    private final SchoolRepository schoolRepository;
+    private final TenantResolver tenantResolver;
+
+    @Value("${menu.import.parallelism:4}")
+    private int parallelism;
+
+    @Value("${menu.import.max-running-jobs:2}")
+    private int maxRunningJobs;
+
+    @Value("${menu.import.max-queued-jobs:4}")
+    private int maxQueuedJobs;
+
+    private final Map<String, MenuImportJob> jobs = new ConcurrentHashMap<>();
+
+    // 파일 읽기와 파티션 분배를 맡는 작업 스레드
+    private ExecutorService jobExecutor;
+    // 학교별 파티션 저장 스레드 (DB 커넥션 풀보다 작게 유지)
+    private ExecutorService partitionExecutor;
+
+    @PostConstruct
+    public void init() {
+        // 대기열을 제한해 대기 작업과 임시 파일이 무한히 쌓이지 않게 함 (가득 차면 RejectedExecutionException)
+        this.jobExecutor = new ThreadPoolExecutor(maxRunningJobs, maxRunningJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), namedThreadFactory("menu-import-job-"));
+        this.partitionExecutor = Executors.newFixedThreadPool(parallelism, namedThreadFactory("menu-import-worker-"));
+        log.info("식단 가져오기 스레드 풀 초기화 완료 (작업 {}개, 대기 {}개, 파티션 병렬도 {})",
+                maxRunningJobs, maxQueuedJobs, parallelism);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        partitionExecutor.shutdownNow();
+        log.info("식단 가져오기 스레드 풀 종료");
+    }
+
+    @Override
+    public Object startImportJob(JwtPrincipal principal, MultipartFile file) {
+        log.info("startImportJob 함수 실행 - 파일: {}, 크기: {}", file.getOriginalFilename(), file.getSize());
+
+        Path tempFile = null;
+        try {
+            // 토큰 유효성
+            if (principal == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
+
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            if (file.isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            // 가져올 수 있는 학교 (소속 학교 + 관리 학교)
+            Map<String, Long> importableSchools = findImportableSchools(tenant);
+
+            pruneFinishedJobs();
+
+            // 요청이 끝나면 업로드 파일이 사라지므로 작업용 임시 파일로 옮김
+            tempFile = Files.createTempFile("menu-import-job-", ".xlsx");
+            file.transferTo(tempFile);
+
+            MenuImportJob job = new MenuImportJob(UUID.randomUUID().toString(), userPk, file.getOriginalFilename());
+            jobs.put(job.getJobId(), job);
+
+            Path jobFile = tempFile;
+            try {
+                jobExecutor.execute(() -> runJob(job, jobFile, importableSchools));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.getJobId());
+                throw e;
+            }
+            tempFile = null;
+
+            log.info("startImportJob 함수 성공 종료 - 작업 ID: {}", job.getJobId());
+            return MenuImportJobResponseDto.from(job);
+        } catch (RejectedExecutionException e) {
+            log.warn("식단 가져오기 대기열 포화 - 작업 등록 거절");
+            return ErrorResponseDto.of(BaperangErrorCode.MENU_IMPORT_BUSY);
+        } catch (IOException e) {
+            log.error("식단 엑셀 임시 저장 실패: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("식단 가져오기 작업 시작 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public Object getImportJob(JwtPrincipal principal, String jobId) {
+        log.info("getImportJob 함수 실행 - 작업 ID: {}", jobId);
+
+        if (principal == null) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+        }
+
+        MenuImportJob job = jobs.get(jobId);
+        if (job == null) {
+            return ErrorResponseDto.of(BaperangErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        // 작업을 시작한 사용자만 조회 가능
+        if (!job.getUserId().equals(principal.userId())) {
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_ACCESS);
+        }
+
+        return MenuImportJobResponseDto.from(job);
+    }
+
+    private void runJob(MenuImportJob job, Path file, Map<String, Long> importableSchools) {
+        Map<String, List<MenuImportRow>> partitions = new LinkedHashMap<>();
+        // 가져올 수 없는 학교는 행을 보관하지 않고 건수만 기록
+        Map<String, Integer> rejectedRows = new LinkedHashMap<>();
+        long[] rowCount = new long[1];
+        long[] unassignedRows = new long[1];
+
+        // 1. 파일을 한 번만 읽어 학교별로 분할
+        try {
+            menuExcelReader.read(file, row -> {
+                rowCount[0]++;
+                if (isBlank(row.getCity()) || isBlank(row.getSchoolName())) {
+                    unassignedRows[0]++;
+                    return;
+                }
+                String partition = partitionKey(row.getCity(), row.getSchoolName());
+                if (!importableSchools.containsKey(partition)) {
+                    rejectedRows.merge(partition, 1, Integer::sum);
+                    return;
+                }
+                partitions.computeIfAbsent(partition, key -> new ArrayList<>()).add(row);
+            });
+        } catch (Exception e) {
+            log.error("식단 가져오기 작업 파일 읽기 실패 - 작업 ID: {}, {}", job.getJobId(), e.getMessage(), e);
+            job.fail("파일 읽기 실패: " + e.getMessage());
+            return;
+        } finally {
+            deleteQuietly(file);
+        }
+
+        job.startPartitions(partitions.size() + rejectedRows.size(), rowCount[0], unassignedRows[0]);
+        log.info("식단 가져오기 작업 분할 완료 - 작업 ID: {}, 학교 {}곳 (권한 없음 {}곳), 전체 {}행",
+                job.getJobId(), partitions.size() + rejectedRows.size(), rejectedRows.size(), rowCount[0]);
+
+        rejectedRows.forEach((partition, rows) -> rejectPartition(job, partition, rows));
+
+        // 2. 학교별 파티션을 병렬 저장 (파티션마다 별도 트랜잭션), 저장이 끝난 파티션 행은 바로 해제
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
+        Iterator<Map.Entry<String, List<MenuImportRow>>> iterator = partitions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<MenuImportRow>> partition = iterator.next();
+            iterator.remove();
+            Long schoolId = importableSchools.get(partition.getKey());
+            futures.add(CompletableFuture.runAsync(
+                    () -> importPartition(job, partition.getKey(), partition.getValue(), schoolId), partitionExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            job.finish();
+        } catch (Exception e) {
+            log.error("식단 가져오기 작업 실패 - 작업 ID: {}, {}", job.getJobId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+            return;
+        }
+
+        log.info("식단 가져오기 작업 종료 - 작업 ID: {}, 상태: {}, 학교 {}곳 (실패 {}곳), 저장 {}건, 중복 {}건, 오류 {}건, {}ms, {}행/초",
+                job.getJobId(), job.getStatus(), job.getTotalPartitions().get(), job.getFailedPartitions().get(),
+                job.getSavedRows().get(), job.getDuplicateRows().get(), job.getInvalidRows().get(),
+                job.getElapsedMs(), String.format("%.1f", job.getRowsPerSecond()));
+    }
+
+    private void importPartition(MenuImportJob job, String partition, List<MenuImportRow> rows, Long schoolId) {
+        try {
+            job.completePartition(menuImportService.importRows(rows, schoolId));
+        } catch (Exception e) {
+            // 한 학교의 실패는 해당 파티션 트랜잭션만 롤백하고 다른 학교는 계속 진행
+            log.error("식단 가져오기 파티션 실패 - 작업 ID: {}, 학교: {}, {}", job.getJobId(), partition, e.getMessage(), e);
+            job.failPartition(partition, rows.size(), e.getMessage());
+        }
+    }
+
+    private void rejectPartition(MenuImportJob job, String partition, int rowCount) {
+        String[] cityAndSchool = partition.split("\\|", 2);
+        try {
+            if (schoolRepository.existsBySchoolNameAndCity(cityAndSchool[1], cityAndSchool[0])) {
+                job.failPartition(partition, rowCount, "관리 권한이 없는 학교의 식단은 가져올 수 없습니다.");
+            } else {
+                job.failPartition(partition, rowCount, "학교 정보를 찾을 수 없습니다.");
+            }
+        } catch (Exception e) {
+            log.error("식단 가져오기 학교 확인 실패 - 작업 ID: {}, 학교: {}, {}", job.getJobId(), partition, e.getMessage(), e);
+            job.failPartition(partition, rowCount, e.getMessage());
+        }
+    }
+
+    // "시도|학교명" -> 학교 ID (소속 학교 + 관리 학교)
+    private Map<String, Long> findImportableSchools(TenantContext tenant) {
+        Map<String, Long> schools = new HashMap<>();
+        schools.put(partitionKey(tenant.city(), tenant.schoolName()), tenant.schoolId());
+        for (School school : schoolRepository.findManagedByUserId(tenant.userId())) {
+            schools.put(partitionKey(school.getCity(), school.getSchoolName()), school.getId());
+        }
+        return schools;
+    }
+
+    private String partitionKey(String city, String schoolName) {
+        return city.trim() + "|" + schoolName.trim();
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
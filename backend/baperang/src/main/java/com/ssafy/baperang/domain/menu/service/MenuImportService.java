@@ -1,17 +1,22 @@
 package com.ssafy.baperang.domain.menu.service;
 
+import com.ssafy.baperang.domain.menu.importer.MenuImportResult;
+import com.ssafy.baperang.domain.menu.importer.MenuImportRow;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 public interface MenuImportService {
 
-    /** 엑셀 파일 → JSON 문자열 */
-    String convertExcelToJson(MultipartFile file) throws IOException;
+    /** 업로드된 식단 엑셀을 로그인한 사용자의 학교 메뉴로 저장 */
+    Object importMenuFile(JwtPrincipal principal, MultipartFile file);
 
-    /** 엑셀 Byte → JSON 문자열 */
-    String convertExcelToJsonFromBytes(byte[] fileData) throws IOException;
+    /** 엑셀 파일(첫 번째 시트)을 읽어 학교 메뉴로 저장 */
+    MenuImportResult importMenus(Path file, Long schoolId) throws IOException;
 
-    /** JSON 문자열 → Menu 엔티티 저장 */
-    void importMenusFromJson(String jsonData, Long schoolId) throws IOException;
-}
\ No newline at end of file
+    /** 이미 읽어 둔 한 학교의 행을 별도 트랜잭션으로 저장 */
+    MenuImportResult importRows(List<MenuImportRow> rows, Long schoolId);
+}
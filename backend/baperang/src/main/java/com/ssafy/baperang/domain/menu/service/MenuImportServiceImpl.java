@@ -1,277 +1,225 @@
 package com.ssafy.baperang.domain.menu.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.baperang.domain.menu.dto.response.ErrorResponseDto;
 import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.menu.importer.MenuExcelReader;
+import com.ssafy.baperang.domain.menu.importer.MenuImportResult;
+import com.ssafy.baperang.domain.menu.importer.MenuImportRow;
 import com.ssafy.baperang.domain.menu.repository.MenuRepository;
-//import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
-//import com.ssafy.baperang.domain.menunutrient.repository.MenuNutrientRepository;
-//import com.ssafy.baperang.domain.nutrient.entity.Nutrient;
-//import com.ssafy.baperang.domain.nutrient.repository.NutrientRepository;
 import com.ssafy.baperang.domain.school.entity.School;
 import com.ssafy.baperang.domain.school.repository.SchoolRepository;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MenuImportServiceImpl implements MenuImportService {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final MenuRepository menuRepository;
-//    private final NutrientRepository nutrientRepository;
-//    private final MenuNutrientRepository menuNutrientRepository;
     private final SchoolRepository schoolRepository;
-    private final ObjectMapper objectMapper;
+    private final TenantResolver tenantResolver;
+    private final MenuExcelReader menuExcelReader;
+    private final PlatformTransactionManager transactionManager;
 
-    /**
-     * 엑셀 파일을 JSON 형식으로 변환
-     */
     @Override
-    public String convertExcelToJson(MultipartFile file) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            return processWorkbookToJson(workbook);
-        }
-    }
-
-    /**
-     * 바이트 배열에서 엑셀 파일을 JSON 형식으로 변환
-     */
-    public String convertExcelToJsonFromBytes(byte[] fileData) throws IOException {
-        try (InputStream inputStream = new ByteArrayInputStream(fileData);
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
-            return processWorkbookToJson(workbook);
-        }
-    }
-
-    /**
-     * 워크북을 처리하여 JSON으로 변환
-     */
-    private String processWorkbookToJson(Workbook workbook) throws IOException {
-        List<Map<String, Object>> dataList = new ArrayList<>();
-
-        // 첫 번째 시트만 처리
-        Sheet sheet = workbook.getSheetAt(0);
-
-        // 헤더 행 처리
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            return objectMapper.writeValueAsString(dataList);
-        }
-
-        // 헤더 컬럼명 추출
-        List<String> headers = new ArrayList<>();
-        for (Cell cell : headerRow) {
-            headers.add(getCellStringValue(cell));
-        }
-
-        log.info("엑셀 헤더: {}", headers);
-
-        // 데이터 행 처리
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
+    public Object importMenuFile(JwtPrincipal principal, MultipartFile file) {
+        log.info("importMenuFile 함수 실행 - 파일: {}, 크기: {}", file.getOriginalFilename(), file.getSize());
 
-            Map<String, Object> rowData = new HashMap<>();
-            boolean hasData = false;
-
-            for (int j = 0; j < headers.size(); j++) {
-                Cell cell = row.getCell(j);
-                if (cell == null) continue;
+        Path tempFile = null;
+        try {
+            // 토큰 유효성
+            if (principal == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
 
-                String header = headers.get(j);
-                Object value = getCellValue(cell);
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-                if (value != null) {
-                    rowData.put(header, value);
-                    hasData = true;
-                }
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            if (hasData) {
-                dataList.add(rowData);
+            if (file.isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
             }
-        }
 
-        log.info("엑셀 데이터 파싱 완료: {}개 행 처리됨", dataList.size());
-        return objectMapper.writeValueAsString(dataList);
-    }
+            // SAX reader는 파일에서 직접 읽으므로 업로드 내용을 임시 파일로 옮김
+            tempFile = Files.createTempFile("menu-import-", ".xlsx");
+            file.transferTo(tempFile);
 
-    /**
-     * 셀 값을 문자열로 반환
-     */
-    private String getCellStringValue(Cell cell) {
-        if (cell == null) return "";
-
-        cell.setCellType(CellType.STRING);
-        return cell.getStringCellValue().trim();
-    }
-
-    /**
-     * 셀 값을 적절한 타입으로 반환
-     */
-    private Object getCellValue(Cell cell) {
-        if (cell == null) return null;
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getLocalDateTimeCellValue().toLocalDate();
-                } else {
-                    double value = cell.getNumericCellValue();
-                    // 정수값이면 정수로 반환, 아니면 실수로 반환
-                    if (value == Math.floor(value)) {
-                        return (int) value;
-                    }
-                    return value;
-                }
-            case BOOLEAN:
-                return cell.getBooleanCellValue();
-            case FORMULA:
-                try {
-                    cell.setCellType(CellType.STRING);
-                    return cell.getStringCellValue().trim();
-                } catch (Exception e) {
-                    try {
-                        return cell.getNumericCellValue();
-                    } catch (Exception ex) {
-                        return null;
-                    }
-                }
-            default:
-                return null;
+            return importMenus(tempFile, tenant.schoolId());
+        } catch (IOException e) {
+            log.error("식단 엑셀 읽기 실패: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+        } catch (Exception e) {
+            log.error("식단 가져오기 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(tempFile);
         }
     }
 
-    /**
-     * JSON 데이터를 파싱하여 DB에 저장
-     */
     @Override
-    @Transactional
-    public void importMenusFromJson(String jsonData, Long schoolId) throws IOException {
-        // 학교 정보 조회
+    public MenuImportResult importMenus(Path file, Long schoolId) throws IOException {
+        long startTime = System.currentTimeMillis();
+
         School school = schoolRepository.findById(schoolId)
                 .orElseThrow(() -> new IllegalArgumentException("학교 ID를 찾을 수 없습니다: " + schoolId));
 
-        // JSON 파싱
-        List<Map<String, Object>> dataList = objectMapper.readValue(jsonData,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class));
+        // 1차 읽기: 파일의 날짜 범위만 확인
+        LocalDate[] range = new LocalDate[2];
+        menuExcelReader.read(file, row -> extendRange(range, row));
 
-        log.info("총 {}개의 데이터를 처리합니다.", dataList.size());
+        MenuImportResult result = new MenuImportResult();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        int savedMenuCount = 0;
-        // 데이터 처리 및 저장
-        for (Map<String, Object> data : dataList) {
-            if (processMenuData(data, school)) {
-                savedMenuCount++;
+        // 2차 읽기: 미리 조회한 기존 메뉴 집합으로 중복을 거르고 BATCH_SIZE 단위로 저장
+        IOException[] readError = new IOException[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            MenuBatchWriter writer = new MenuBatchWriter(school, range, result);
+            try {
+                menuExcelReader.read(file, writer::accept);
+            } catch (IOException e) {
+                readError[0] = e;
+                status.setRollbackOnly();
+                return;
             }
+            writer.flush();
+        });
+
+        if (readError[0] != null) {
+            throw readError[0];
         }
 
-        log.info("✅ 신규 메뉴 {}건 저장 완료", savedMenuCount);
+        result.setElapsedMs(System.currentTimeMillis() - startTime);
+        log.info("✅ 식단 가져오기 완료 - 학교 ID: {}, 전체 {}행, 저장 {}건, 중복 {}건, 오류 {}건, {}ms",
+                schoolId, result.getTotalRows(), result.getSavedRows(), result.getDuplicateRows(),
+                result.getInvalidRows(), result.getElapsedMs());
+        return result;
     }
 
-    /**
-     * 메뉴 데이터 처리 및 저장
-     * @return 메뉴 저장 성공 여부
-     */
-    private boolean processMenuData(Map<String, Object> data, School school) {
-        try {
-            // 엑셀 컬럼에 맞게 데이터 추출
-            String city = getStringValue(data.get("city"));
-            String schoolName = getStringValue(data.get("school"));
-            String menuName = getStringValue(data.get("menu_name"));
-            LocalDate menuDate = parseDate(data.get("menu_date"));
-
-            // 필수 데이터 확인
-            if (menuName.isEmpty() || menuDate == null) {
-                log.warn("메뉴명 또는 날짜가 없는 데이터를 건너뜁니다.");
-                return false;
-            }
-
-            // 이미 존재하는 메뉴인지 확인
-            if (menuRepository.existsBySchoolAndMenuDateAndMenuName(school, menuDate, menuName)) {
-                log.info("이미 존재하는 메뉴입니다: {} ({})", menuName, menuDate);
-                return false;
-            }
+    @Override
+    public MenuImportResult importRows(List<MenuImportRow> rows, Long schoolId) {
+        long startTime = System.currentTimeMillis();
 
-            // 메뉴 엔티티 생성 및 저장
-            Menu menu = Menu.builder()
-                    .school(school)
-                    .menuDate(menuDate)
-                    .menuName(menuName)
-//                    .favorite(0.0f) // 기본값으로 0 설정
-                    .build();
+        School school = schoolRepository.findById(schoolId)
+                .orElseThrow(() -> new IllegalArgumentException("학교 ID를 찾을 수 없습니다: " + schoolId));
 
-            menu = menuRepository.saveAndFlush(menu);
-            log.info("메뉴 저장 완료: {} ({})", menuName, menuDate);
+        LocalDate[] range = new LocalDate[2];
+        rows.forEach(row -> extendRange(range, row));
 
-            return true;
+        MenuImportResult result = new MenuImportResult();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            MenuBatchWriter writer = new MenuBatchWriter(school, range, result);
+            rows.forEach(writer::accept);
+            writer.flush();
+        });
 
-        } catch (Exception e) {
-            log.error("메뉴 데이터 처리 중 오류 발생: {}", e.getMessage(), e);
-            return false;
-        }
+        result.setElapsedMs(System.currentTimeMillis() - startTime);
+        return result;
     }
 
-    /**
-     * 문자열 값 추출
-     */
-    private String getStringValue(Object value) {
-        return value != null ? value.toString().trim() : "";
+    private void extendRange(LocalDate[] range, MenuImportRow row) {
+        if (!row.isValid()) {
+            return;
+        }
+        if (range[0] == null || row.getMenuDate().isBefore(range[0])) {
+            range[0] = row.getMenuDate();
+        }
+        if (range[1] == null || row.getMenuDate().isAfter(range[1])) {
+            range[1] = row.getMenuDate();
+        }
     }
 
     /**
-     * 날짜 파싱
+     * 한 학교의 행을 받아 중복을 거르고 BATCH_SIZE 단위로 JDBC 배치 저장 (트랜잭션 안에서 사용)
      */
-    private LocalDate parseDate(Object value) {
-        if (value == null) {
-            return null;
+    private class MenuBatchWriter {
+
+        private final School school;
+        private final MenuImportResult result;
+        private final Map<LocalDate, Set<String>> existing;
+        private final Set<String> seen = new HashSet<>();
+        private final List<Menu> buffer = new ArrayList<>(BATCH_SIZE);
+
+        private MenuBatchWriter(School school, LocalDate[] range, MenuImportResult result) {
+            this.school = school;
+            this.result = result;
+            // 파일 날짜 범위의 기존 메뉴를 한 번에 조회
+            this.existing = range[0] == null
+                    ? Collections.emptyMap()
+                    : menuRepository.findMenuNamesByDateBySchoolAndDateRange(school.getId(), range[0], range[1]);
         }
 
-        if (value instanceof LocalDate) {
-            return (LocalDate) value;
-        }
+        private void accept(MenuImportRow row) {
+            result.addTotal();
 
-        String dateStr = value.toString().trim();
+            if (!row.isValid()) {
+                result.addInvalid();
+                return;
+            }
 
-        // YYYYMMDD 형식 처리
-        try {
-            if (dateStr.length() == 8 && dateStr.matches("\\d{8}")) {
-                return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyyMMdd"));
+            // 기존 DB 메뉴 또는 같은 파일 안의 중복 행
+            if (existing.getOrDefault(row.getMenuDate(), Collections.emptySet()).contains(row.getMenuName())
+                    || !seen.add(row.getMenuDate() + "|" + row.getMenuName())) {
+                result.addDuplicate();
+                return;
             }
-        } catch (Exception e) {
-            // 다른 형식 시도
-        }
 
-        // 다양한 날짜 형식 시도
-        DateTimeFormatter[] formatters = {
-                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-                DateTimeFormatter.ofPattern("yyyy/MM/dd"),
-                DateTimeFormatter.ofPattern("yyyy.MM.dd")
-        };
+            buffer.add(toMenu(row, school));
+            if (buffer.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
 
-        for (DateTimeFormatter formatter : formatters) {
-            try {
-                return LocalDate.parse(dateStr, formatter);
-            } catch (Exception e) {
-                // 다음 포맷 시도
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
             }
+            result.addSaved(menuRepository.saveAllInBatch(buffer));
+            buffer.clear();
         }
+    }
+
+    private Menu toMenu(MenuImportRow row, School school) {
+        return Menu.builder()
+                .school(school)
+                .menuDate(row.getMenuDate())
+                .menuName(row.getMenuName())
+                .category(row.getCategory())
+                .build();
+    }
 
-        log.warn("날짜 형식을 파싱할 수 없습니다: {}", dateStr);
-        return null;
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,20 @@
 package com.ssafy.baperang.domain.menu.service;
 
 import com.ssafy.baperang.domain.menu.dto.request.MenuRequestDto;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 
 public interface MenuService {
-    Object getMenuCalendar(MenuRequestDto requestDto, String token);
+    Object getMenuCalendar(MenuRequestDto requestDto, JwtPrincipal principal);
 
-    Object getOneDayMenu(String token, String date);  
+    Object getOneDayMenu(JwtPrincipal principal, String date);  
 
-    Object getTodayMenu(String token);
+    Object getTodayMenu(JwtPrincipal principal);
 
-    Object getMenuNutrient(String token, String menu, String date);
+    Object getMenuNutrient(JwtPrincipal principal, String menu, String date);
 
-    Object makeMonthMenu(String token);
+    Object makeMonthMenu(JwtPrincipal principal);
 
-    Object getAlternatives(String token, String menu, String date);
+    Object getAlternatives(JwtPrincipal principal, String menu, String date);
 
-    Object updateMenu(String token, String menu, String date, String alternative_menu);
+    Object updateMenu(JwtPrincipal principal, String menu, String date, String alternative_menu);
 }
\ No newline at end of file
@@ -32,10 +32,10 @@ import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
 import com.ssafy.baperang.domain.menunutrient.repository.MenuNutrientRepository;
 import com.ssafy.baperang.domain.school.entity.School;
 import com.ssafy.baperang.domain.school.repository.SchoolRepository;
-import com.ssafy.baperang.domain.user.entity.User;
-import com.ssafy.baperang.domain.user.repository.UserRepository;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
-import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,10 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
-    private final UserRepository userRepository;
+    private final TenantResolver tenantResolver;
     private final MenuNutrientRepository menuNutrientRepository;
     private final HolidayRepository holidayRepository;
-    private final JwtService jwtService;
 
     @Value("${AI_SERVER_BASE_URL}")
     private String aiServerBaseUrl;
@@ -59,30 +58,29 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getMenuCalendar(MenuRequestDto requestDto, String token) {
+    public Object getMenuCalendar(MenuRequestDto requestDto, JwtPrincipal principal) {
         int year = requestDto.getYear();
         int month = requestDto.getMonth();
 
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("getMenuCalendar - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             log.info("getMenuCalendar - 사용자ID: {}", userPk);
 
             // 현재 로그인한 사용자의 학교 정보 조회
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("getMenuCalendar - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
             // 해당 월의 시작일과 마지막 일 계산
             YearMonth yearMonth = YearMonth.of(year, month);
@@ -198,25 +196,24 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getOneDayMenu(String token, String date) { 
+    public Object getOneDayMenu(JwtPrincipal principal, String date) { 
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("getOneDayMenu - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
 
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("getOneDayMenu - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
             LocalDate parsedDate = LocalDate.parse(date);
 
             List<String> menu = menuRepository.findDistinctMenuNamesBySchoolAndMenuDate(school, parsedDate);
@@ -284,27 +281,26 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getTodayMenu(String token) { 
+    public Object getTodayMenu(JwtPrincipal principal) { 
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("getOneDayMenu - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
 
             LocalDate today = LocalDate.now();
 
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("getOneDayMenu - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
             List<String> menu = menuRepository.findDistinctMenuNamesBySchoolAndMenuDate(school, today);
 
@@ -324,26 +320,25 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getMenuNutrient(String token, String menu, String date) {
+    public Object getMenuNutrient(JwtPrincipal principal, String menu, String date) {
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("getMenuNutrient - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
+            Long userPk = principal.userId();
             log.info("getMenuNutrient - 사용자ID: {}", userPk);
 
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("getMenuNutrient - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
             log.info("getMenuNutrient - 학교ID: {}", school.getId());
             
             LocalDate parsedDate;
@@ -400,24 +395,23 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional
-    public Object makeMonthMenu(String token) {
+    public Object makeMonthMenu(JwtPrincipal principal) {
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("makeMonthMenu - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("makeMonthMenu - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
             Integer schoolMakeMonth = school.getMakeMonth();
             if (schoolMakeMonth != null && schoolMakeMonth == LocalDate.now().getMonthValue()) {
@@ -700,24 +694,23 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getAlternatives(String token, String menu, String date) {
+    public Object getAlternatives(JwtPrincipal principal, String menu, String date) {
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("getAlternatives - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("getAlternatives - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
             LocalDate menuDate = LocalDate.parse(date);
 
@@ -753,24 +746,23 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional
-    public Object updateMenu(String token, String menu, String date, String alternative_menu) {
+    public Object updateMenu(JwtPrincipal principal, String menu, String date, String alternative_menu) {
         try {
             // 토큰 유효성
-            if (!jwtService.validateToken(token)) {
+            if (principal == null) {
                 log.info("updateMenu - 토큰 유효하지 않음");
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
             }
 
-            Long userPk = jwtService.getUserId(token);
-            User user = userRepository.findById(userPk)
-                    .orElse(null);
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
 
-            if (user == null) {
+            if (tenant == null) {
                 log.info("updateMenu - 사용자 정보 없음");
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
             
             LocalDate menuDate = LocalDate.parse(date);
 
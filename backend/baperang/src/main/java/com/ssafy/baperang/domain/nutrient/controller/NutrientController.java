@@ -1,4 +1,41 @@
 package com.ssafy.baperang.domain.nutrient.controller;
 
+import com.ssafy.baperang.domain.nutrient.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.nutrient.service.NutrientService;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/nutrient")
+@RequiredArgsConstructor
 public class NutrientController {
+
+    private final NutrientService nutrientService;
+
+    @PostMapping("/admin/load")
+    public ResponseEntity<?> loadNutrientDataset(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(defaultValue = "false") boolean force) {
+
+        log.info("loadNutrientDataset 컨트롤러 함수 호출 - force: {}", force);
+
+        Object result = nutrientService.loadNutrientDataset(principal, force);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponse = (ErrorResponseDto) result;
+            log.info("loadNutrientDataset 컨트롤러 함수 에러 응답");
+            return ResponseEntity.status(errorResponse.getStatus()).body(result);
+        }
+
+        log.info("loadNutrientDataset 컨트롤러 함수 정상 응답");
+        return ResponseEntity.ok(result);
+    }
 }
@@ -0,0 +1,26 @@
+package com.ssafy.baperang.domain.nutrient.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NutrientLoadResponseDto {
+    private String seedName;
+    private String checksum;
+    // 파일 내용이 마지막 적재와 같아 건너뛰었는지 여부
+    private boolean skipped;
+
+    private int totalRows;
+    private int matchedRows;
+    // 학교 또는 메뉴를 찾지 못한 행
+    private int unmatchedRows;
+    private int invalidRows;
+    private int nutrientCount;
+    private int savedValues;
+    private long elapsedMs;
+}
@@ -0,0 +1,30 @@
+package com.ssafy.baperang.domain.nutrient.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영양 정보 데이터셋 일괄 적재용 저장소 (JdbcTemplate)
+ */
+public interface NutrientBulkRepository {
+
+    // 없는 영양소만 추가하고 전체 영양소 이름 -> nutrient_pk 반환
+    Map<String, Long> upsertNutrients(Map<String, String> unitsByName);
+
+    // 학교명 -> (시도명 -> school_pk)
+    Map<String, Map<String, Long>> findSchoolIdsByNames(Collection<String> schoolNames);
+
+    // 학교의 기간 내 메뉴 "날짜|메뉴명" -> menu_pk (startDate, endDate 모두 포함)
+    Map<String, Long> findMenuIdsBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 가장 큰 menu_pk (메뉴가 없으면 0), 마지막 적재 이후 메뉴가 추가됐는지 판단용
+    long findMaxMenuId();
+
+    // menu_nutrient 일괄 저장 (이미 있으면 amount 갱신), 반영된 행 수 반환
+    int upsertMenuNutrients(List<MenuNutrientValue> values);
+
+    record MenuNutrientValue(long menuId, long nutrientId, float amount) {
+    }
+}
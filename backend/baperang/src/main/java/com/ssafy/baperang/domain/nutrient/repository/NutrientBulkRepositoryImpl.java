@@ -0,0 +1,117 @@
+package com.ssafy.baperang.domain.nutrient.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NutrientBulkRepositoryImpl implements NutrientBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPSERT_MENU_NUTRIENT_SQL =
+            "INSERT INTO menu_nutrient (menu_pk, nutrient_pk, amount) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = VALUES(amount)";
+
+    @Override
+    public Map<String, Long> upsertNutrients(Map<String, String> unitsByName) {
+        Map<String, Long> nutrientIds = findNutrientIds();
+
+        List<Object[]> missing = new ArrayList<>();
+        unitsByName.forEach((name, unit) -> {
+            if (!nutrientIds.containsKey(name)) {
+                missing.add(new Object[]{name, unit});
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO nutrient (nutrient_name, unit) VALUES (?, ?)", missing);
+            return findNutrientIds();
+        }
+        return nutrientIds;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> findSchoolIdsByNames(Collection<String> schoolNames) {
+        Map<String, Map<String, Long>> schoolIds = new HashMap<>();
+        if (schoolNames.isEmpty()) {
+            return schoolIds;
+        }
+
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT school_pk, school_name, city FROM school WHERE school_name IN (:names)",
+                new MapSqlParameterSource("names", schoolNames),
+                rs -> {
+                    schoolIds.computeIfAbsent(rs.getString("school_name"), name -> new HashMap<>())
+                            .put(rs.getString("city"), rs.getLong("school_pk"));
+                });
+        return schoolIds;
+    }
+
+    @Override
+    public Map<String, Long> findMenuIdsBySchoolAndDateRange(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> menuIds = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT menu_pk, menu_date, menu_name FROM menu " +
+                "WHERE school_pk = ? AND menu_date BETWEEN ? AND ?",
+                rs -> {
+                    menuIds.put(rs.getDate("menu_date").toLocalDate() + "|" + rs.getString("menu_name"),
+                            rs.getLong("menu_pk"));
+                },
+                schoolId, Date.valueOf(startDate), Date.valueOf(endDate));
+        return menuIds;
+    }
+
+    @Override
+    public long findMaxMenuId() {
+        Long maxMenuId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(menu_pk), 0) FROM menu", Long.class);
+        return maxMenuId != null ? maxMenuId : 0L;
+    }
+
+    @Override
+    public int upsertMenuNutrients(List<MenuNutrientValue> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_MENU_NUTRIENT_SQL, values, values.size(),
+                (ps, value) -> {
+                    ps.setLong(1, value.menuId());
+                    ps.setLong(2, value.nutrientId());
+                    ps.setFloat(3, value.amount());
+                });
+
+        // ON DUPLICATE KEY UPDATE는 갱신 시 2를 돌려주므로 행 단위로 1건씩 계산
+        int saved = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    saved++;
+                }
+            }
+        }
+        return saved;
+    }
+
+    private Map<String, Long> findNutrientIds() {
+        Map<String, Long> nutrientIds = new HashMap<>();
+        jdbcTemplate.query("SELECT nutrient_pk, nutrient_name FROM nutrient ORDER BY nutrient_pk",
+                rs -> {
+                    // 같은 이름이 여러 개면 먼저 등록된 영양소 사용
+                    nutrientIds.putIfAbsent(rs.getString("nutrient_name"), rs.getLong("nutrient_pk"));
+                });
+        return nutrientIds;
+    }
+}
@@ -1,4 +1,14 @@
 package com.ssafy.baperang.domain.nutrient.service;
 
-public class NutrientService {
+import com.ssafy.baperang.domain.nutrient.dto.response.NutrientLoadResponseDto;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+
+import java.io.IOException;
+
+public interface NutrientService {
+
+    // 관리자용: 메뉴별 영양 정보 데이터셋 적재 (force가 아니면 내용이 같은 파일은 건너뜀)
+    Object loadNutrientDataset(JwtPrincipal principal, boolean force);
+
+    NutrientLoadResponseDto loadBundledDataset(boolean force) throws IOException;
 }
@@ -0,0 +1,298 @@
+package com.ssafy.baperang.domain.nutrient.service;
+
+import com.ssafy.baperang.domain.nutrient.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.nutrient.dto.response.NutrientLoadResponseDto;
+import com.ssafy.baperang.domain.nutrient.repository.NutrientBulkRepository;
+import com.ssafy.baperang.domain.nutrient.repository.NutrientBulkRepository.MenuNutrientValue;
+import com.ssafy.baperang.domain.user.repository.UserRepository;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import com.ssafy.baperang.global.seed.SeedChecksum;
+import com.ssafy.baperang.global.seed.SeedMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메뉴별 영양 정보 데이터셋(final_school_food_0509.csv) 일괄 적재
+ * - 파일 내용 SHA-256과 최대 menu_pk가 마지막 적재와 같으면 건너뜀
+ *   (메뉴명으로 매칭하므로 이후 가져온 메뉴가 있으면 같은 파일이라도 다시 적재)
+ * - 한 번의 스트리밍 파싱으로 학교별 행을 모으고, 영양소/학교/메뉴는 각각 한 번의 조회로 매칭
+ * - menu_nutrient는 BATCH_SIZE 단위 JDBC 배치로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NutrientServiceImpl implements NutrientService {
+
+    private static final String DATASET = "final_school_food_0509.csv";
+    private static final Charset DATASET_CHARSET = Charset.forName("MS949");
+    private static final int BATCH_SIZE = 1000;
+
+    // 열 구성: 번호, 시도명, 학교명, 급식날짜, 메뉴이름, 분류, 중량(g), 영양소(단위)...
+    private static final int CITY_COLUMN = 1;
+    private static final int SCHOOL_COLUMN = 2;
+    private static final int DATE_COLUMN = 3;
+    private static final int MENU_NAME_COLUMN = 4;
+    private static final int FIRST_NUTRIENT_COLUMN = 7;
+
+    private static final Pattern NUTRIENT_HEADER = Pattern.compile("^(.+)\\((.+)\\)$");
+    // 데이터셋 열 이름과 nutrient 테이블 이름이 다른 경우
+    private static final Map<String, String> NUTRIENT_ALIASES = Map.of("에너지", "열량");
+
+    private final NutrientBulkRepository nutrientBulkRepository;
+    private final SeedMetadataRepository seedMetadataRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public Object loadNutrientDataset(JwtPrincipal principal, boolean force) {
+        log.info("loadNutrientDataset 함수 실행 - force: {}", force);
+
+        try {
+            // 토큰 유효성
+            if (principal == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
+
+            Long userPk = principal.userId();
+            if (userRepository.findById(userPk).isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            return loadBundledDataset(force);
+        } catch (IOException e) {
+            log.error("영양 정보 데이터셋 읽기 실패: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (Exception e) {
+            log.error("영양 정보 데이터셋 적재 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public NutrientLoadResponseDto loadBundledDataset(boolean force) throws IOException {
+        long startNanos = System.nanoTime();
+
+        // 약 300KB 파일이므로 한 번 읽어 해시 계산과 파싱에 함께 사용
+        byte[] content;
+        try (InputStream in = new ClassPathResource(DATASET).getInputStream()) {
+            content = in.readAllBytes();
+        }
+        String checksum = SeedChecksum.sha256(content);
+        // 파일 해시와 적재 시점의 최대 menu_pk를 묶어 기록
+        long maxMenuId = nutrientBulkRepository.findMaxMenuId();
+        String loadKey = SeedChecksum.sha256((checksum + ":" + maxMenuId).getBytes(StandardCharsets.US_ASCII));
+
+        if (!force && loadKey.equals(seedMetadataRepository.findChecksum(DATASET).orElse(null))) {
+            log.info("영양 정보 데이터셋과 메뉴가 마지막 적재와 같아 건너뜀 - checksum: {}, 최대 메뉴 ID: {}",
+                    checksum, maxMenuId);
+            return NutrientLoadResponseDto.builder()
+                    .seedName(DATASET)
+                    .checksum(checksum)
+                    .skipped(true)
+                    .elapsedMs(elapsedMs(startNanos))
+                    .build();
+        }
+
+        ParsedDataset dataset = parse(content);
+
+        int[] counters = new int[2]; // 0: 매칭된 행, 1: 저장된 값
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<String, Long> nutrientIds = nutrientBulkRepository.upsertNutrients(dataset.units());
+            long[] columnNutrientIds = dataset.nutrientNames().stream()
+                    .mapToLong(nutrientIds::get)
+                    .toArray();
+
+            Map<String, Map<String, Long>> schoolIds =
+                    nutrientBulkRepository.findSchoolIdsByNames(dataset.schoolNames());
+
+            List<MenuNutrientValue> buffer = new ArrayList<>(BATCH_SIZE);
+            for (Map.Entry<String, List<ParsedRow>> school : dataset.rowsBySchool().entrySet()) {
+                List<ParsedRow> rows = school.getValue();
+                Long schoolId = resolveSchool(schoolIds, rows.get(0));
+                if (schoolId == null) {
+                    log.warn("영양 정보 학교 매칭 실패 - {} ({}행)", school.getKey(), rows.size());
+                    continue;
+                }
+
+                LocalDate start = rows.stream().map(ParsedRow::menuDate).min(LocalDate::compareTo).orElseThrow();
+                LocalDate end = rows.stream().map(ParsedRow::menuDate).max(LocalDate::compareTo).orElseThrow();
+                Map<String, Long> menuIds = nutrientBulkRepository.findMenuIdsBySchoolAndDateRange(schoolId, start, end);
+
+                for (ParsedRow row : rows) {
+                    Long menuId = menuIds.get(row.menuDate() + "|" + row.menuName());
+                    if (menuId == null) {
+                        continue;
+                    }
+                    counters[0]++;
+
+                    for (int i = 0; i < columnNutrientIds.length; i++) {
+                        if (Float.isNaN(row.amounts()[i])) {
+                            continue;
+                        }
+                        buffer.add(new MenuNutrientValue(menuId, columnNutrientIds[i], row.amounts()[i]));
+                        if (buffer.size() >= BATCH_SIZE) {
+                            counters[1] += nutrientBulkRepository.upsertMenuNutrients(buffer);
+                            buffer.clear();
+                        }
+                    }
+                }
+            }
+            counters[1] += nutrientBulkRepository.upsertMenuNutrients(buffer);
+        });
+
+        long elapsedMs = elapsedMs(startNanos);
+        seedMetadataRepository.save(DATASET, loadKey, dataset.totalRows(), elapsedMs);
+
+        log.info("✅ 영양 정보 데이터셋 적재 완료 - 전체 {}행, 매칭 {}행, 오류 {}행, 저장 {}건, {}ms",
+                dataset.totalRows(), counters[0], dataset.invalidRows(), counters[1], elapsedMs);
+
+        return NutrientLoadResponseDto.builder()
+                .seedName(DATASET)
+                .checksum(checksum)
+                .skipped(false)
+                .totalRows(dataset.totalRows())
+                .matchedRows(counters[0])
+                .unmatchedRows(dataset.totalRows() - dataset.invalidRows() - counters[0])
+                .invalidRows(dataset.invalidRows())
+                .nutrientCount(dataset.nutrientNames().size())
+                .savedValues(counters[1])
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private ParsedDataset parse(byte[] content) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(content), DATASET_CHARSET))) {
+
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("영양 정보 데이터셋이 비어 있습니다.");
+            }
+
+            // 헤더의 "영양소(단위)" 열에서 영양소 이름과 단위 추출
+            String[] headerColumns = header.split(",", -1);
+            Map<String, String> units = new LinkedHashMap<>();
+            List<String> nutrientNames = new ArrayList<>();
+            for (int i = FIRST_NUTRIENT_COLUMN; i < headerColumns.length; i++) {
+                Matcher matcher = NUTRIENT_HEADER.matcher(headerColumns[i].trim());
+                if (!matcher.matches()) {
+                    throw new IOException("영양소 열 형식이 올바르지 않습니다: " + headerColumns[i]);
+                }
+                String name = NUTRIENT_ALIASES.getOrDefault(matcher.group(1).trim(), matcher.group(1).trim());
+                units.put(name, matcher.group(2).trim());
+                nutrientNames.add(name);
+            }
+
+            Map<String, List<ParsedRow>> rowsBySchool = new LinkedHashMap<>();
+            int totalRows = 0;
+            int invalidRows = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                totalRows++;
+
+                ParsedRow row = parseRow(line.split(",", -1), nutrientNames.size());
+                if (row == null) {
+                    invalidRows++;
+                    continue;
+                }
+                rowsBySchool.computeIfAbsent(row.city() + "|" + row.schoolName(), key -> new ArrayList<>()).add(row);
+            }
+
+            return new ParsedDataset(units, nutrientNames, rowsBySchool, totalRows, invalidRows);
+        }
+    }
+
+    private ParsedRow parseRow(String[] columns, int nutrientCount) {
+        if (columns.length < FIRST_NUTRIENT_COLUMN + nutrientCount) {
+            return null;
+        }
+
+        String schoolName = columns[SCHOOL_COLUMN].trim();
+        String menuName = columns[MENU_NAME_COLUMN].trim();
+        if (schoolName.isEmpty() || menuName.isEmpty()) {
+            return null;
+        }
+
+        LocalDate menuDate;
+        try {
+            menuDate = LocalDate.parse(columns[DATE_COLUMN].trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        // 값이 비어 있거나 숫자가 아니면 NaN으로 두고 저장하지 않음
+        float[] amounts = new float[nutrientCount];
+        for (int i = 0; i < nutrientCount; i++) {
+            String value = columns[FIRST_NUTRIENT_COLUMN + i].trim();
+            try {
+                amounts[i] = value.isEmpty() ? Float.NaN : Float.parseFloat(value);
+            } catch (NumberFormatException e) {
+                amounts[i] = Float.NaN;
+            }
+        }
+
+        return new ParsedRow(columns[CITY_COLUMN].trim(), schoolName, menuDate, menuName, amounts);
+    }
+
+    /**
+     * 데이터셋의 시도명은 "부산광역시교육청" 형식이고 school.city는 "부산광역시" 형식이므로
+     * 같은 이름의 학교가 여러 곳이면 시도명 접두어로 구분
+     */
+    private Long resolveSchool(Map<String, Map<String, Long>> schoolIds, ParsedRow row) {
+        Map<String, Long> byCity = schoolIds.get(row.schoolName());
+        if (byCity == null || byCity.isEmpty()) {
+            return null;
+        }
+        if (byCity.size() == 1) {
+            return byCity.values().iterator().next();
+        }
+        return byCity.entrySet().stream()
+                .filter(entry -> row.city().startsWith(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private record ParsedRow(String city, String schoolName, LocalDate menuDate, String menuName, float[] amounts) {
+    }
+
+    private record ParsedDataset(Map<String, String> units, List<String> nutrientNames,
+                                 Map<String, List<ParsedRow>> rowsBySchool, int totalRows, int invalidRows) {
+
+        List<String> schoolNames() {
+            return rowsBySchool.values().stream()
+                    .map(rows -> rows.get(0).schoolName())
+                    .distinct()
+                    .toList();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ssafy.baperang.domain.school.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.ssafy.baperang.domain.school.entity.School;
 
@@ -20,4 +21,9 @@ public interface SchoolJpaRepository extends JpaRepository<School, Long> {
     List<String> findCities();
     
     List<School> findByCityAndSchoolNameStartingWith(String city, String schoolName);
+
+    // 사용자가 관리하는 학교 (교육청/지원청 담당자용, 소속 학교 제외)
+    @Query(value = "SELECT s.* FROM school s JOIN user_managed_school m ON m.school_pk = s.school_pk " +
+            "WHERE m.user_pk = :userId", nativeQuery = true)
+    List<School> findManagedByUserId(@Param("userId") Long userId);
 }
@@ -16,4 +16,5 @@ public interface SchoolRepository {
     boolean existsBySchoolNameAndCity(String schoolName, String city);
     List<String> findCities();
     List<School> findByCityAndSchoolNameStartingWith(String city, String schoolName);
+    List<School> findManagedByUserId(Long userId);
 }
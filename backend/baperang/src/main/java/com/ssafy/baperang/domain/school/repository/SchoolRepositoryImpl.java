@@ -54,5 +54,10 @@ public class SchoolRepositoryImpl implements SchoolRepository {
     public List<School> findByCityAndSchoolNameStartingWith(String city, String schoolName) {
         return schoolJpaRepository.findByCityAndSchoolNameStartingWith(city, schoolName);
     }
+
+    @Override
+    public List<School> findManagedByUserId(Long userId) {
+        return schoolJpaRepository.findManagedByUserId(userId);
+    }
     
 }
\ No newline at end of file
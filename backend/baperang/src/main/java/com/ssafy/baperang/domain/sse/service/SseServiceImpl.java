@@ -26,11 +26,11 @@ import com.ssafy.baperang.domain.sse.dto.response.LeftoverResponseDto.MenuLeftov
 import com.ssafy.baperang.domain.sse.dto.response.SatisfactionResponseDto;
 import com.ssafy.baperang.domain.sse.dto.response.SatisfactionResponseDto.MenuSatisfactionDto;
 import com.ssafy.baperang.domain.student.repository.StudentRepository;
-import com.ssafy.baperang.domain.user.entity.User;
-import com.ssafy.baperang.domain.user.repository.UserRepository;
 import com.ssafy.baperang.global.exception.BaperangCustomException;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
 import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -46,7 +46,7 @@ public class SseServiceImpl implements SseService {
 
     private final SchoolRepository schoolRepository;
     private final MenuRepository menuRepository;
-    private final UserRepository userRepository;
+    private final TenantResolver tenantResolver;
     private final LeftoverRepository leftoverRepository;
     private final JwtService jwtService;
     private final StudentRepository studentRepository;
@@ -465,10 +465,9 @@ public class SseServiceImpl implements SseService {
         });
 
         Long userPk = jwtService.getUserId(token);
-        User user = userRepository.findById(userPk)
-                .orElse(null);
+        TenantContext tenant = tenantResolver.resolve(userPk);
 
-        if (user == null) {
+        if (tenant == null) {
             log.info("processLeftoverRate - 사용자 정보 없음");
             throw new BaperangCustomException(BaperangErrorCode.USER_NOT_FOUND);
         }
@@ -492,7 +491,7 @@ public class SseServiceImpl implements SseService {
             }
 
             // 초기 연결 시 실시간 잔반율 정보 전송
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
             LocalDate today = LocalDate.now();
             
             // 해당 학교의 오늘 메뉴 조회
@@ -658,16 +657,13 @@ public class SseServiceImpl implements SseService {
     @Override
     public LeftoverResponseDto processLeftoverRate(Long userPk) {
         // 사용자와 학교 정보 조회
-        User user = userRepository.findById(userPk)
-                .orElseThrow(() -> new BaperangCustomException(BaperangErrorCode.USER_NOT_FOUND));
-
-        School school = user.getSchool();
-        if (school == null) {
-            log.info("processLeftoverRate - 학교 정보 없음");
-            throw new BaperangCustomException(BaperangErrorCode.SCHOOL_NOT_FOUND);
+        TenantContext tenant = tenantResolver.resolve(userPk);
+        if (tenant == null) {
+            throw new BaperangCustomException(BaperangErrorCode.USER_NOT_FOUND);
         }
-        
-        String schoolName = school.getSchoolName();
+
+        School school = schoolRepository.getReferenceById(tenant.schoolId());
+        String schoolName = tenant.schoolName();
         log.info("잔반율 정보 조회 및 SSE 전송 - 학교: {}", schoolName);
         LocalDate today = LocalDate.now();
         
@@ -0,0 +1,99 @@
+package com.ssafy.baperang.domain.student.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.baperang.domain.student.dto.response.StudentNamesResponseDto;
+import com.ssafy.baperang.domain.student.entity.Student;
+import com.ssafy.baperang.domain.student.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학교별 학생 명단 캐시 (직렬화된 JSON 바이트)
+ * - 학교마다 버전을 두고 학생 저장/수정/삭제가 커밋되면 버전 증가 (StudentRosterListener)
+ * - 조회 시 버전이 바뀌었으면 다시 만들고, 내용이 같으면 ETag는 유지 (식전 이미지 저장 등 명단과 무관한 수정)
+ * - ETag에 기동 시각을 넣어 재기동 후 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentRosterCache {
+
+    private final StudentRepository studentRepository;
+    private final ObjectMapper objectMapper;
+
+    private final long epoch = System.currentTimeMillis();
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Roster> rosters = new ConcurrentHashMap<>();
+
+    public Roster getRoster(Long schoolId) {
+        long version = versionOf(schoolId);
+
+        Roster cached = rosters.get(schoolId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        byte[] json = serialize(studentRepository.findBySchoolIdOrderByGradeAscClassNumAscNumberAsc(schoolId));
+
+        long contentVersion = cached != null && Arrays.equals(cached.json(), json)
+                ? cached.contentVersion()
+                : version;
+        Roster roster = new Roster(version, contentVersion,
+                "\"" + schoolId + "-" + epoch + "-" + contentVersion + "\"", json);
+
+        // 동시에 더 최신 버전으로 만든 명단이 있으면 그것을 유지
+        rosters.merge(schoolId, roster, (existing, created) ->
+                created.version() >= existing.version() ? created : existing);
+
+        log.info("학생 명단 캐시 갱신 - 학교 ID: {}, 버전: {}, {}bytes", schoolId, version, json.length);
+        return roster;
+    }
+
+    // 학생 변경 커밋 후 호출
+    public void markChanged(Long schoolId) {
+        versions.computeIfAbsent(schoolId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private long versionOf(Long schoolId) {
+        AtomicLong version = versions.get(schoolId);
+        return version != null ? version.get() : 0L;
+    }
+
+    private byte[] serialize(List<Student> students) {
+        List<StudentNamesResponseDto.StudentInfo> studentInfos = students.stream()
+                .map(student -> StudentNamesResponseDto.StudentInfo.builder()
+                        .studentId(student.getId())
+                        .studentName(student.getStudentName())
+                        .gender(student.getGender())
+                        .grade(student.getGrade())
+                        .classNum(student.getClassNum())
+                        .number(student.getNumber())
+                        .build())
+                .toList();
+
+        try {
+            return objectMapper.writeValueAsBytes(StudentNamesResponseDto.builder()
+                    .students(studentInfos)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("학생 명단 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * @param version 만들 때의 학교 버전
+     * @param contentVersion 내용이 마지막으로 바뀐 버전 (ETag 기준)
+     * @param etag 따옴표 포함 ETag
+     */
+    public record Roster(long version, long contentVersion, String etag, byte[] json) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.baperang.domain.student.cache;
+
+import com.ssafy.baperang.domain.student.entity.Student;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 학생 엔티티 저장/수정/삭제 시 학교 명단 버전 증가 (커밋 후)
+ * EntityManagerFactory 생성 중에 만들어지므로 명단 캐시는 ObjectProvider로 늦게 가져옴
+ */
+@Component
+public class StudentRosterListener {
+
+    private final ObjectProvider<StudentRosterCache> rosterCache;
+
+    public StudentRosterListener(ObjectProvider<StudentRosterCache> rosterCache) {
+        this.rosterCache = rosterCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Student student) {
+        Long schoolId = student.getSchool().getId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rosterCache.getObject().markChanged(schoolId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rosterCache.getObject().markChanged(schoolId);
+            }
+        });
+    }
+}
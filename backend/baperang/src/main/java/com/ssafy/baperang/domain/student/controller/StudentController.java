@@ -1,17 +1,23 @@
 package com.ssafy.baperang.domain.student.controller;
 
 import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.student.cache.StudentRosterCache;
 import com.ssafy.baperang.domain.student.dto.request.GetStudentLeftoverRequestDto;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportBatchRequestDto;
 import com.ssafy.baperang.domain.student.dto.request.NfcStudentRequestDto;
 import com.ssafy.baperang.domain.student.dto.request.SaveStudentLeftoverRequestDto;
+import com.ssafy.baperang.domain.student.service.HealthReportBatchService;
 import com.ssafy.baperang.domain.student.service.HealthReportService;
 import com.ssafy.baperang.domain.student.service.NfcService;
 import com.ssafy.baperang.domain.student.service.StudentService;
-import com.ssafy.baperang.global.exception.BaperangErrorCode;
-import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -24,17 +30,17 @@ import java.util.HashMap;
 public class StudentController {
 
     private final StudentService studentService;
-    private final JwtService jwtService;
     private final NfcService nfcService;
     private final HealthReportService healthReportService;
+    private final HealthReportBatchService healthReportBatchService;
 
     @GetMapping("/studentname/all")
-    public ResponseEntity<?> getAllStudentNames(@RequestHeader("Authorization") String authorizationHeader) {
+    public ResponseEntity<?> getAllStudentNames(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("getAllStudentNames 함수 호출");
 
-        // JWT 토큰에서 사용자 ID 추출
-        String token = authorizationHeader.substring(7); // "Bearer " 제거
-        Long userId = jwtService.getUserId(token);
+        Long userId = principal.userId();
 
         Object result = studentService.getAllStudentNames(userId);
 
@@ -43,19 +49,27 @@ public class StudentController {
             return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
         }
 
+        // 명단이 바뀌지 않았으면 본문 없이 304
+        StudentRosterCache.Roster roster = (StudentRosterCache.Roster) result;
+        if (roster.etag().equals(ifNoneMatch)) {
+            log.info("getAllStudentNames 변경 없음 응답");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(roster.etag()).build();
+        }
+
         log.info("getAllStudentNames 정상 응답");
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok()
+                .eTag(roster.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(roster.json());
     }
 
     @GetMapping("/studentname/{studentpk}")
     public ResponseEntity<?> getStudentDetail(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable("studentpk") Long studentId) {
         log.info("getStudentDetail 컨트롤러 호출 - 학생 ID: {}", studentId);
 
-        // JWT 토큰에서 사용자 ID 추출
-        String token = authorizationHeader.substring(7); // "Bearer " 제거
-        Long userId = jwtService.getUserId(token);
+        Long userId = principal.userId();
 
         Object result = studentService.getStudentDetail(userId, studentId);
 
@@ -70,19 +84,12 @@ public class StudentController {
 
     @PostMapping("/saveleft")
     public ResponseEntity<?> saveStudentLeftover(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody SaveStudentLeftoverRequestDto requestDto) {
         log.info("saveStudentLeftover 함수 호출 - 학생 ID: {}, 학교 ID{}",
                 requestDto.getStudentPk(), requestDto.getSchoolPk());
 
-        String token = authorizationHeader.substring(7);
-
-        if (!jwtService.validateToken(token)) {
-            return ResponseEntity.status(401).body(ErrorResponseDto.of(
-                    BaperangErrorCode.INVALID_TOKEN));
-        }
-
-        Long userId = jwtService.getUserId(token);
+        Long userId = principal.userId();
         log.info("saveStudentLeftover - 사용자 ID: {}", userId);
 
         Object result = studentService.saveStudentLeftover(userId, requestDto);
@@ -96,27 +103,38 @@ public class StudentController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/{studentId}/intake")
+    public ResponseEntity<?> getStudentIntake(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable("studentId") Long studentId,
+            @RequestParam("startDate") String startDate,
+            @RequestParam("endDate") String endDate) {
+        log.info("getStudentIntake 컨트롤러 호출 - 학생 ID: {}, 기간: {} ~ {}", studentId, startDate, endDate);
+
+        Long userId = principal.userId();
+
+        Object result = studentService.getStudentIntake(userId, studentId, startDate, endDate);
+
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        log.info("getStudentIntake 컨트롤러 정상 응답");
+        return ResponseEntity.ok(result);
+    }
+
     // 잔반 조회 API 추가
     @PostMapping("/getleft")
     public ResponseEntity<?> getStudentLeftover(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody GetStudentLeftoverRequestDto requestDto) {
 
         log.info("getStudentLeftover 컨트롤러 호출 - 날짜: {}, 학년: {}, 반: {}, 번호: {}",
                 requestDto.getLeftoverDate(), requestDto.getGrade(),
                 requestDto.getClassNum(), requestDto.getNumber());
 
-        // JWT 토큰에서 사용자 ID 추출
-        String token = authorizationHeader.substring(7); // "Bearer " 제거
-
-        // 토큰 유효성 검사
-        if (!jwtService.validateToken(token)) {
-            log.info("getStudentLeftover - 토큰 유효하지 않음");
-            return ResponseEntity.status(401).body(ErrorResponseDto.of(
-                    BaperangErrorCode.INVALID_TOKEN));
-        }
-
-        Long userId = jwtService.getUserId(token);
+        Long userId = principal.userId();
         log.info("getStudentLeftover - 사용자 ID: {}", userId);
 
         Object result = studentService.getStudentLeftover(userId, requestDto.getLeftoverDate(), requestDto.getGrade(),
@@ -170,19 +188,12 @@ public class StudentController {
     // ai 리포트 생성
     @GetMapping("/{studentId}/health-report")
     public ResponseEntity<?> getHealthReport(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable("studentId") Long studentId) {
 
         log.info("건강 리포트 요청 - 학생 ID: {}", studentId);
 
-        String token = authorizationHeader.substring(7);
-
-        if (!jwtService.validateToken(token)) {
-            return ResponseEntity.status(401).body(ErrorResponseDto.of(
-                    BaperangErrorCode.INVALID_TOKEN));
-        }
-
-        Object result = healthReportService.generateReport(token, studentId);
+        Object result = healthReportService.generateReport(principal, studentId);
         if (result instanceof ErrorResponseDto) {
             ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
             log.info("건강 리포트 함수 에러 - 상태: {}, 코드: {}, 메시지: {}",
@@ -194,5 +205,55 @@ public class StudentController {
         return ResponseEntity.ok(result);
     }
 
+    // 학급 전체 ai 리포트 일괄 생성
+    @PostMapping("/health-report/batch")
+    public ResponseEntity<?> startClassHealthReports(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestBody HealthReportBatchRequestDto requestDto) {
 
-}
\ No newline at end of file
+        log.info("학급 건강 리포트 일괄 생성 요청 - {}학년 {}반", requestDto.getGrade(), requestDto.getClassNum());
+
+        Object result = healthReportBatchService.startClassReports(principal, requestDto);
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            log.info("학급 건강 리포트 일괄 생성 함수 에러 - 상태: {}, 코드: {}, 메시지: {}",
+                    errorResponseDto.getStatus(), errorResponseDto.getCode(), errorResponseDto.getMessage());
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        log.info("학급 건강 리포트 일괄 생성 정상 응답");
+        return ResponseEntity.accepted().body(result);
+    }
+
+    // 학급 ai 리포트 일괄 생성 진행 상태
+    @GetMapping("/health-report/batch/{jobId}")
+    public ResponseEntity<?> getClassHealthReportJob(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @PathVariable("jobId") Long jobId) {
+
+        log.info("학급 건강 리포트 일괄 생성 상태 요청 - 작업 ID: {}", jobId);
+
+        Object result = healthReportBatchService.getClassReportJob(principal, jobId);
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/health-report/ai-cache")
+    public ResponseEntity<?> getHealthReportAiCacheStats(
+            @AuthenticationPrincipal JwtPrincipal principal) {
+
+        log.info("AI 건강 리포트 응답 캐시 통계 요청");
+
+        Object result = healthReportService.getAiCacheStats(principal);
+        if (result instanceof ErrorResponseDto) {
+            ErrorResponseDto errorResponseDto = (ErrorResponseDto) result;
+            return ResponseEntity.status(errorResponseDto.getStatus()).body(result);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+}
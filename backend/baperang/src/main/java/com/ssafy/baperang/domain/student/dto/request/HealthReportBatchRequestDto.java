@@ -0,0 +1,15 @@
+package com.ssafy.baperang.domain.student.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthReportBatchRequestDto {
+    private int grade;
+    private int classNum;
+}
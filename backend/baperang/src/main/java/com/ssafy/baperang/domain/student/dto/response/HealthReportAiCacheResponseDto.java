@@ -0,0 +1,20 @@
+package com.ssafy.baperang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthReportAiCacheResponseDto {
+    private long hits;
+    private long misses;
+    // 적중률 (0.0 ~ 1.0)
+    private double hitRatio;
+    // 캐시 적중으로 생략된 AI 요청의 원래 소요 시간 합계
+    private long savedMillis;
+    private int entries;
+}
@@ -0,0 +1,39 @@
+package com.ssafy.baperang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthReportBatchResponseDto {
+    private Long jobId;
+    private int grade;
+    private int classNum;
+    private String reportDate;
+    private String status;
+    private String createdAt;
+    private String updatedAt;
+
+    // 학생 단위 진행 현황
+    private int totalCount;
+    private int doneCount;
+    private int failedCount;
+    private int pendingCount;
+
+    private List<Failure> failures;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Failure {
+        private Long studentId;
+        private String message;
+    }
+}
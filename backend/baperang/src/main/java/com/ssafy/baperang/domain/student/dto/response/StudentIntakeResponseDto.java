@@ -0,0 +1,40 @@
+package com.ssafy.baperang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentIntakeResponseDto {
+    private Long studentId;
+    private String startDate;
+    private String endDate;
+    // 기간 합계 (kcal, g)
+    private long totalKcal;
+    private long totalCarbo;
+    private long totalProtein;
+    private long totalFat;
+    // 기간 전체 평균 잔반율 (%), 데이터가 없으면 0
+    private Float averageLeftoverRate;
+    // 잔반 기록이 있는 날만 포함
+    private List<DailyIntake> days;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DailyIntake {
+        private String date;
+        private int kcal;
+        private int carbo;
+        private int protein;
+        private int fat;
+        private Float averageLeftoverRate;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.baperang.domain.student.report;
+
+import com.ssafy.baperang.domain.student.dto.request.HealthReportRequestDto;
+import com.ssafy.baperang.domain.student.dto.response.HealthReportResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * health_report.payload에 저장되는 리포트 본문
+ * - request: 리포트 생성 시점의 AI 요청 데이터 (bmi, 잔반, 영양소), 이전 student.content에서 이관된 리포트는 null
+ * - report : AI 분석 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthReportPayload {
+    private HealthReportRequestDto request;
+    private HealthReportResponseDto report;
+}
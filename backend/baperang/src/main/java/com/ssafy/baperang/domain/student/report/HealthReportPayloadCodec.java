@@ -0,0 +1,65 @@
+package com.ssafy.baperang.domain.student.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 리포트 JSON 압축/해제
+ * MySQL COMPRESS()와 같은 형식 (4바이트 little-endian 원본 길이 + zlib 스트림)이라
+ * 마이그레이션에서 COMPRESS()로 넣은 값도 그대로 읽고, DB에서 UNCOMPRESS(payload)로 내용 확인 가능
+ */
+public final class HealthReportPayloadCodec {
+
+    private static final int LENGTH_BYTES = 4;
+
+    private HealthReportPayloadCodec() {
+    }
+
+    public static byte[] compress(String json) {
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        if (raw.length == 0) {
+            return new byte[0];
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 16);
+        out.write(raw.length);
+        out.write(raw.length >>> 8);
+        out.write(raw.length >>> 16);
+        out.write(raw.length >>> 24);
+
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static String decompress(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            return "";
+        }
+        if (payload.length <= LENGTH_BYTES) {
+            throw new IllegalArgumentException("리포트 압축 데이터 형식이 올바르지 않습니다.");
+        }
+
+        int length = (payload[0] & 0xFF)
+                | (payload[1] & 0xFF) << 8
+                | (payload[2] & 0xFF) << 16
+                | (payload[3] & 0xFF) << 24;
+
+        try (InputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(payload, LENGTH_BYTES, payload.length - LENGTH_BYTES))) {
+            byte[] raw = in.readNBytes(length);
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
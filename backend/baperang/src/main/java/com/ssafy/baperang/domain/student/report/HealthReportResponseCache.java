@@ -0,0 +1,157 @@
+package com.ssafy.baperang.domain.student.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportRequestDto;
+import com.ssafy.baperang.domain.student.dto.response.HealthReportResponseDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 건강 리포트 응답 캐시 (요청 내용 해시 기준)
+ * - 요청 데이터를 정규화한 JSON의 SHA-256을 키로 사용하므로 입력이 같으면 학생이 달라도 AI 서버를 호출하지 않음
+ * - 정규화는 맵 키 정렬만 수행 (BMI, 날짜 라벨 등 값은 그대로 비교해 다른 요청이 같은 응답을 받지 않도록)
+ * - ttl-hours가 지난 응답은 사용하지 않고, max-entries를 넘으면 가장 오래 조회되지 않은 응답부터 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthReportResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${health-report.ai-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${health-report.ai-cache.ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${health-report.ai-cache.max-entries:5000}")
+    private int maxEntries;
+
+    private ObjectMapper canonicalMapper;
+    private long ttlMillis;
+
+    // 접근 순서 LinkedHashMap (가장 오래 조회되지 않은 항목부터 제거)
+    private final Map<String, CachedResponse> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // 캐시 적중으로 생략된 AI 요청의 원래 소요 시간 합계
+    private final LongAdder savedMillis = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.canonicalMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.ttlMillis = TimeUnit.HOURS.toMillis(ttlHours);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 요청 데이터 정규화 후 SHA-256 (64자리 16진수)
+    public String keyOf(HealthReportRequestDto requestDto) {
+        Map<String, Object> canonical = new TreeMap<>();
+        canonical.put("bmi", requestDto.getBmi());
+        canonical.put("leftover", sorted(requestDto.getLeftover()));
+        canonical.put("leftoverMost", sorted(requestDto.getLeftoverMost()));
+        canonical.put("leftoverLeast", sorted(requestDto.getLeftoverLeast()));
+
+        // 날짜 라벨까지 키에 포함
+        Map<String, Map<String, Integer>> dailyNutrients = null;
+        if (requestDto.getNutrient() != null) {
+            dailyNutrients = new TreeMap<>();
+            for (Map.Entry<String, Map<String, Integer>> daily : requestDto.getNutrient().entrySet()) {
+                dailyNutrients.put(daily.getKey(), sorted(daily.getValue()));
+            }
+        }
+        canonical.put("nutrient", dailyNutrients);
+
+        try {
+            return sha256(canonicalMapper.writeValueAsBytes(canonical));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("건강 리포트 요청 정규화 실패", e);
+        }
+    }
+
+    public Optional<HealthReportResponseDto> get(String key) {
+        CachedResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && System.currentTimeMillis() - cached.createdAtMillis() > ttlMillis) {
+                cache.remove(key);
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        savedMillis.add(cached.elapsedMillis());
+        return Optional.of(cached.response());
+    }
+
+    public void put(String key, HealthReportResponseDto response, long elapsedMillis) {
+        synchronized (cache) {
+            cache.put(key, new CachedResponse(response, System.currentTimeMillis(), elapsedMillis));
+        }
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), savedMillis.sum(), size);
+    }
+
+    private static <V> Map<String, V> sorted(Map<String, V> map) {
+        return map == null ? null : new TreeMap<>(map);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedResponse(HealthReportResponseDto response, long createdAtMillis, long elapsedMillis) {
+    }
+
+    public record CacheStats(long hits, long misses, long savedMillis, int entries) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.ssafy.baperang.domain.student.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.baperang.domain.student.repository.HealthReportRepository;
+import com.ssafy.baperang.domain.student.repository.HealthReportRepository.ReportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학생별 주간 건강 리포트 저장/조회
+ * - health_report 테이블에 (학생, 주 시작일) 단위로 압축 저장하고 지난 주 리포트는 이력으로 남김
+ * - 파싱된 리포트를 (학생, 주) 키의 LRU 캐시에 보관해서 같은 리포트 재조회 시 DB 조회와 JSON 파싱 생략
+ * - 학생 상세 조회용 최근 리포트는 학생 키의 LRU 캐시에 (주 시작일, 직렬화된 JSON)으로 보관하고 리포트 저장 커밋 시 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthReportStore {
+
+    private final HealthReportRepository healthReportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${health-report.cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 접근 순서 LinkedHashMap (가장 오래 조회되지 않은 항목부터 제거)
+    private final Map<ReportKey, StoredHealthReport> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ReportKey, StoredHealthReport> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // 학생 ID -> 가장 최근 주 리포트 (리포트가 없는 학생도 빈 항목으로 보관)
+    private final Map<Long, LatestReport> latestCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LatestReport> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // 리포트 저장 커밋마다 증가, 조회 전후 값이 다르면 조회 결과를 최근 리포트 캐시에 넣지 않음
+    private final AtomicLong latestGeneration = new AtomicLong();
+
+    // 리포트 기준 주 (해당 날짜가 속한 주의 월요일)
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public Optional<StoredHealthReport> find(Long studentId, LocalDate weekStart) {
+        ReportKey key = new ReportKey(studentId, weekStart);
+
+        StoredHealthReport cached = getCached(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return healthReportRepository.find(studentId, weekStart)
+                .map(this::decode)
+                .map(report -> {
+                    putCached(key, report);
+                    return report;
+                });
+    }
+
+    /**
+     * 가장 최근 주 리포트의 분석 결과 JSON (학생 상세 조회용)
+     * 캐시에 있으면 DB 조회와 직렬화 없이 반환
+     */
+    public Optional<String> findLatestReportJson(Long studentId) {
+        synchronized (latestCache) {
+            LatestReport cached = latestCache.get(studentId);
+            if (cached != null) {
+                return Optional.ofNullable(cached.reportJson());
+            }
+        }
+
+        long generation = latestGeneration.get();
+        LatestReport latest = healthReportRepository.findLatest(studentId)
+                .map(row -> {
+                    ReportKey key = new ReportKey(row.studentId(), row.weekStart());
+                    StoredHealthReport report = getCached(key);
+                    if (report == null) {
+                        report = decode(row);
+                        putCached(key, report);
+                    }
+                    return new LatestReport(row.weekStart(), serializeReport(report));
+                })
+                .orElse(new LatestReport(null, null));
+
+        // 조회하는 동안 커밋된 저장이 있으면 이번 결과는 이 조회에만 사용
+        synchronized (latestCache) {
+            if (latestGeneration.get() == generation) {
+                latestCache.put(studentId, latest);
+            }
+        }
+        return Optional.ofNullable(latest.reportJson());
+    }
+
+    /**
+     * 리포트 저장 (같은 주 리포트는 덮어씀)
+     * 트랜잭션 안에서 호출되면 커밋 후에 캐시에 반영
+     */
+    public StoredHealthReport save(Long studentId, LocalDate reportDate, HealthReportPayload payload) {
+        LocalDate weekStart = weekStartOf(reportDate);
+
+        byte[] compressed;
+        try {
+            compressed = HealthReportPayloadCodec.compress(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("건강 리포트 직렬화 실패", e);
+        }
+
+        healthReportRepository.save(studentId, weekStart, reportDate, compressed);
+
+        StoredHealthReport report = new StoredHealthReport(studentId, weekStart, reportDate, payload);
+        ReportKey key = new ReportKey(studentId, weekStart);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putCached(key, report);
+            invalidateLatest(studentId, weekStart);
+            return report;
+        }
+
+        // 롤백된 리포트가 캐시에 남지 않도록 기존 항목은 지우고 커밋 후에 넣음
+        removeCached(key);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putCached(key, report);
+                invalidateLatest(studentId, weekStart);
+            }
+        });
+        return report;
+    }
+
+    public void evictAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        synchronized (latestCache) {
+            latestGeneration.incrementAndGet();
+            latestCache.clear();
+        }
+        log.info("건강 리포트 캐시 전체 제거");
+    }
+
+    // 저장한 주가 캐시된 최근 주보다 이전이면 최근 리포트는 그대로 유지
+    private void invalidateLatest(Long studentId, LocalDate weekStart) {
+        synchronized (latestCache) {
+            latestGeneration.incrementAndGet();
+            LatestReport cached = latestCache.get(studentId);
+            if (cached != null && (cached.weekStart() == null || !cached.weekStart().isAfter(weekStart))) {
+                latestCache.remove(studentId);
+            }
+        }
+    }
+
+    private String serializeReport(StoredHealthReport report) {
+        try {
+            return objectMapper.writeValueAsString(report.payload().getReport());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("건강 리포트 직렬화 실패 - 학생 ID: " + report.studentId(), e);
+        }
+    }
+
+    private StoredHealthReport decode(ReportRow row) {
+        try {
+            HealthReportPayload payload = objectMapper.readValue(
+                    HealthReportPayloadCodec.decompress(row.payload()), HealthReportPayload.class);
+            return new StoredHealthReport(row.studentId(), row.weekStart(), row.reportDate(), payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 건강 리포트 파싱 실패 - 학생 ID: " + row.studentId(), e);
+        }
+    }
+
+    private StoredHealthReport getCached(ReportKey key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private void putCached(ReportKey key, StoredHealthReport report) {
+        synchronized (cache) {
+            cache.put(key, report);
+        }
+    }
+
+    private void removeCached(ReportKey key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    private record ReportKey(Long studentId, LocalDate weekStart) {
+    }
+
+    // weekStart, reportJson 모두 null이면 리포트가 없는 학생
+    private record LatestReport(LocalDate weekStart, String reportJson) {
+    }
+
+    public record StoredHealthReport(Long studentId, LocalDate weekStart, LocalDate reportDate,
+                                     HealthReportPayload payload) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.baperang.domain.student.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 학급 건강 리포트 일괄 생성 작업 저장소
+ * health_report_job      : 작업 (학교, 학년, 반, 기준일, 상태)
+ * health_report_job_item : 작업별 학생 처리 상태
+ */
+public interface HealthReportJobRepository {
+
+    String JOB_RUNNING = "RUNNING";
+    String JOB_COMPLETED = "COMPLETED";
+    // 일부 학생 실패
+    String JOB_COMPLETED_WITH_ERRORS = "PARTIAL_FAILED";
+    // 성공한 학생 없음
+    String JOB_FAILED = "FAILED";
+
+    String ITEM_PENDING = "PENDING";
+    String ITEM_DONE = "DONE";
+    String ITEM_FAILED = "FAILED";
+
+    // 작업과 학생별 PENDING 항목 생성, 작업 ID 반환
+    Long createJob(Long schoolId, int grade, int classNum, LocalDate reportDate, List<Long> studentIds);
+
+    Optional<HealthReportJob> findById(Long jobId);
+
+    // 같은 학급/기준일로 진행 중인 작업
+    Optional<HealthReportJob> findRunningJob(Long schoolId, int grade, int classNum, LocalDate reportDate);
+
+    List<Long> findJobIdsByStatus(String status);
+
+    List<Long> findStudentIdsByItemStatus(Long jobId, String itemStatus);
+
+    // 항목 상태별 학생 수
+    Map<String, Integer> countItemsByStatus(Long jobId);
+
+    List<JobItemFailure> findFailures(Long jobId);
+
+    void updateItem(Long jobId, Long studentId, String itemStatus, String errorMessage);
+
+    void updateStatus(Long jobId, String status);
+
+    record HealthReportJob(Long id, Long schoolId, int grade, int classNum, LocalDate reportDate,
+                           String status, int totalCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    record JobItemFailure(Long studentId, String errorMessage) {
+    }
+}
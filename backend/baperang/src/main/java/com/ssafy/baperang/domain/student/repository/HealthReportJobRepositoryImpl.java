@@ -0,0 +1,139 @@
+package com.ssafy.baperang.domain.student.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class HealthReportJobRepositoryImpl implements HealthReportJobRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String SELECT_JOB_SQL =
+            "SELECT job_pk, school_pk, grade, class, report_date, status, total_count, created_at, updated_at " +
+            "FROM health_report_job ";
+
+    private static final RowMapper<HealthReportJob> JOB_ROW_MAPPER = (rs, rowNum) -> new HealthReportJob(
+            rs.getLong("job_pk"),
+            rs.getLong("school_pk"),
+            rs.getInt("grade"),
+            rs.getInt("class"),
+            rs.getDate("report_date").toLocalDate(),
+            rs.getString("status"),
+            rs.getInt("total_count"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long createJob(Long schoolId, int grade, int classNum, LocalDate reportDate, List<Long> studentIds) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO health_report_job (school_pk, grade, class, report_date, status, total_count) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, schoolId);
+            ps.setInt(2, grade);
+            ps.setInt(3, classNum);
+            ps.setDate(4, Date.valueOf(reportDate));
+            ps.setString(5, JOB_RUNNING);
+            ps.setInt(6, studentIds.size());
+            return ps;
+        }, keyHolder);
+
+        Long jobId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO health_report_job_item (job_pk, student_pk, status) VALUES (?, ?, ?)",
+                studentIds, studentIds.size(),
+                (ps, studentId) -> {
+                    ps.setLong(1, jobId);
+                    ps.setLong(2, studentId);
+                    ps.setString(3, ITEM_PENDING);
+                });
+
+        return jobId;
+    }
+
+    @Override
+    public Optional<HealthReportJob> findById(Long jobId) {
+        return jdbcTemplate.query(SELECT_JOB_SQL + "WHERE job_pk = ?", JOB_ROW_MAPPER, jobId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<HealthReportJob> findRunningJob(Long schoolId, int grade, int classNum, LocalDate reportDate) {
+        return jdbcTemplate.query(SELECT_JOB_SQL +
+                        "WHERE school_pk = ? AND grade = ? AND class = ? AND report_date = ? AND status = ? " +
+                        "ORDER BY job_pk DESC LIMIT 1",
+                JOB_ROW_MAPPER, schoolId, grade, classNum, Date.valueOf(reportDate), JOB_RUNNING)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Long> findJobIdsByStatus(String status) {
+        return jdbcTemplate.queryForList(
+                "SELECT job_pk FROM health_report_job WHERE status = ? ORDER BY job_pk", Long.class, status);
+    }
+
+    @Override
+    public List<Long> findStudentIdsByItemStatus(Long jobId, String itemStatus) {
+        return jdbcTemplate.queryForList(
+                "SELECT student_pk FROM health_report_job_item WHERE job_pk = ? AND status = ?",
+                Long.class, jobId, itemStatus);
+    }
+
+    @Override
+    public Map<String, Integer> countItemsByStatus(Long jobId) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT status, COUNT(*) AS item_count FROM health_report_job_item WHERE job_pk = ? GROUP BY status",
+                rs -> {
+                    counts.put(rs.getString("status"), rs.getInt("item_count"));
+                },
+                jobId);
+        return counts;
+    }
+
+    @Override
+    public List<JobItemFailure> findFailures(Long jobId) {
+        return jdbcTemplate.query(
+                "SELECT student_pk, error_message FROM health_report_job_item " +
+                "WHERE job_pk = ? AND status = ? ORDER BY student_pk",
+                (rs, rowNum) -> new JobItemFailure(rs.getLong("student_pk"), rs.getString("error_message")),
+                jobId, ITEM_FAILED);
+    }
+
+    @Override
+    public void updateItem(Long jobId, Long studentId, String itemStatus, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+        jdbcTemplate.update(
+                "UPDATE health_report_job_item SET status = ?, error_message = ? WHERE job_pk = ? AND student_pk = ?",
+                itemStatus, message, jobId, studentId);
+    }
+
+    @Override
+    public void updateStatus(Long jobId, String status) {
+        jdbcTemplate.update("UPDATE health_report_job SET status = ? WHERE job_pk = ?", status, jobId);
+    }
+}
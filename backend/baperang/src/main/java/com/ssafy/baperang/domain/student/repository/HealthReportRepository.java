@@ -0,0 +1,27 @@
+package com.ssafy.baperang.domain.student.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 학생별 주간 건강 리포트 저장소
+ * health_report: (학생, 주 시작일) 단위 압축 리포트, 지난 주 리포트도 그대로 보관
+ */
+public interface HealthReportRepository {
+
+    Optional<ReportRow> find(Long studentId, LocalDate weekStart);
+
+    // 가장 최근 주의 리포트
+    Optional<ReportRow> findLatest(Long studentId);
+
+    // 해당 주 리포트가 이미 있는 학생 ID
+    List<Long> findStudentIdsWithReport(Collection<Long> studentIds, LocalDate weekStart);
+
+    // 같은 주 리포트가 있으면 덮어씀 (UPSERT)
+    void save(Long studentId, LocalDate weekStart, LocalDate reportDate, byte[] payload);
+
+    record ReportRow(Long studentId, LocalDate weekStart, LocalDate reportDate, byte[] payload) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.baperang.domain.student.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class HealthReportRepositoryImpl implements HealthReportRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private static final RowMapper<ReportRow> REPORT_ROW_MAPPER = (rs, rowNum) -> new ReportRow(
+            rs.getLong("student_pk"),
+            rs.getDate("week_start").toLocalDate(),
+            rs.getDate("report_date").toLocalDate(),
+            rs.getBytes("payload"));
+
+    @Override
+    public Optional<ReportRow> find(Long studentId, LocalDate weekStart) {
+        return jdbcTemplate.query(
+                "SELECT student_pk, week_start, report_date, payload FROM health_report " +
+                "WHERE student_pk = :studentId AND week_start = :weekStart",
+                new MapSqlParameterSource()
+                        .addValue("studentId", studentId)
+                        .addValue("weekStart", Date.valueOf(weekStart)),
+                REPORT_ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<ReportRow> findLatest(Long studentId) {
+        return jdbcTemplate.query(
+                "SELECT student_pk, week_start, report_date, payload FROM health_report " +
+                "WHERE student_pk = :studentId ORDER BY week_start DESC LIMIT 1",
+                new MapSqlParameterSource("studentId", studentId),
+                REPORT_ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Long> findStudentIdsWithReport(Collection<Long> studentIds, LocalDate weekStart) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.queryForList(
+                "SELECT student_pk FROM health_report " +
+                "WHERE week_start = :weekStart AND student_pk IN (:studentIds)",
+                new MapSqlParameterSource()
+                        .addValue("weekStart", Date.valueOf(weekStart))
+                        .addValue("studentIds", studentIds),
+                Long.class);
+    }
+
+    @Override
+    public void save(Long studentId, LocalDate weekStart, LocalDate reportDate, byte[] payload) {
+        jdbcTemplate.update(
+                "INSERT INTO health_report (student_pk, week_start, report_date, payload) " +
+                "VALUES (:studentId, :weekStart, :reportDate, :payload) " +
+                "ON DUPLICATE KEY UPDATE report_date = VALUES(report_date), payload = VALUES(payload)",
+                new MapSqlParameterSource()
+                        .addValue("studentId", studentId)
+                        .addValue("weekStart", Date.valueOf(weekStart))
+                        .addValue("reportDate", Date.valueOf(reportDate))
+                        .addValue("payload", payload));
+    }
+}
@@ -33,6 +33,9 @@ public interface StudentJpaRepository extends JpaRepository<Student, Long> {
 
     List<Student> findBySchoolIdOrderByGradeAscClassNumAscNumberAsc(Long schoolId);
 
+    // 학급 학생 목록 (번호순)
+    List<Student> findBySchoolIdAndGradeAndClassNumOrderByNumberAsc(Long schoolId, int grade, int classNum);
+
     // 학교별 전체 학생 수 카운트
     long countBySchool(School school);
 }
\ No newline at end of file
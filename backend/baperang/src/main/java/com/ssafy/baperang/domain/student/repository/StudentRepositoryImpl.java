@@ -54,6 +54,11 @@ public class StudentRepositoryImpl implements StudentRepository {
         return studentJpaRepository.findBySchoolIdOrderByGradeAscClassNumAscNumberAsc(schoolId);
     }
 
+    @Override
+    public List<Student> findBySchoolIdAndGradeAndClassNumOrderByNumberAsc(Long schoolId, int grade, int classNum) {
+        return studentJpaRepository.findBySchoolIdAndGradeAndClassNumOrderByNumberAsc(schoolId, grade, classNum);
+    }
+
     @Override
     public long countBySchool(School school) {
         return studentJpaRepository.countBySchool(school);
@@ -0,0 +1,188 @@
+package com.ssafy.baperang.domain.student.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportRequestDto;
+import com.ssafy.baperang.domain.student.dto.response.HealthReportResponseDto;
+import com.ssafy.baperang.domain.student.report.HealthReportResponseCache;
+import com.ssafy.baperang.global.exception.BaperangCustomException;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버 건강 리포트 분석 요청
+ * - AI 서버 동시 요청 수는 max-concurrency로 제한되며, 그중 interactive-reserved개는 단건(화면) 요청 전용
+ * - 일괄 생성 작업은 나머지 허용만 사용하고 acquire-timeout 동안 대기
+ * - 단건 요청은 남는 일괄 허용을 먼저 쓰고, 없으면 전용 허용을 interactive-acquire-timeout만큼만 기다린 뒤 503
+ *   (일괄 작업 중에도 요청 스레드가 몇 분씩 묶이지 않도록)
+ * - 입력이 같은 요청은 HealthReportResponseCache의 응답을 사용 (허용도 얻지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthReportAiClient {
+
+    private static final String HEALTH_REPORT_ENDPOINT = "/ai/health-report";
+
+    private final ObjectMapper objectMapper;
+    private final HealthReportResponseCache responseCache;
+
+    @Value("${AI_SERVER_BASE_URL}")
+    private String aiServerBaseUrl;
+
+    @Value("${health-report.ai.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${health-report.ai.interactive-reserved:1}")
+    private int interactiveReserved;
+
+    @Value("${health-report.ai.acquire-timeout-seconds:300}")
+    private long acquireTimeoutSeconds;
+
+    @Value("${health-report.ai.interactive-acquire-timeout-seconds:5}")
+    private long interactiveAcquireTimeoutSeconds;
+
+    @Value("${health-report.ai.read-timeout-seconds:120}")
+    private long readTimeoutSeconds;
+
+    // 일괄 생성 작업이 쓰는 허용 (단건 요청도 남는 허용은 빌려 씀)
+    private Semaphore batchPermits;
+    // 단건 요청 전용 허용
+    private Semaphore interactivePermits;
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        int reserved = maxConcurrency - getBatchConcurrency();
+        this.batchPermits = new Semaphore(getBatchConcurrency(), true);
+        this.interactivePermits = new Semaphore(reserved, true);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+        requestFactory.setReadTimeout(Duration.ofSeconds(readTimeoutSeconds));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        log.info("AI 건강 리포트 클라이언트 초기화 - 동시 요청 {}개 (단건 전용 {}개)", maxConcurrency, reserved);
+    }
+
+    // 일괄 생성 작업이 동시에 보낼 수 있는 요청 수 (worker 수 상한), 전용 허용은 1개 이상 max-concurrency - 1개 이하
+    public int getBatchConcurrency() {
+        if (maxConcurrency < 2) {
+            return maxConcurrency;
+        }
+        return maxConcurrency - Math.max(1, Math.min(interactiveReserved, maxConcurrency - 1));
+    }
+
+    /**
+     * 단건(화면) 요청
+     * @throws BaperangCustomException 허용을 짧은 시간 안에 얻지 못하면 AI_SERVER_BUSY
+     */
+    public HealthReportResponseDto analyze(HealthReportRequestDto requestDto) throws JsonProcessingException {
+        return analyze(requestDto, false);
+    }
+
+    // 일괄 생성 작업 요청 (일괄 허용만 사용하고 acquire-timeout 동안 대기)
+    public HealthReportResponseDto analyzeForBatch(HealthReportRequestDto requestDto) throws JsonProcessingException {
+        return analyze(requestDto, true);
+    }
+
+    private HealthReportResponseDto analyze(HealthReportRequestDto requestDto, boolean batch) throws JsonProcessingException {
+        if (!responseCache.isEnabled()) {
+            return requestWithPermit(requestDto, batch);
+        }
+
+        // 같은 입력으로 받은 응답이 있으면 AI 서버 호출 생략
+        String cacheKey = responseCache.keyOf(requestDto);
+        Optional<HealthReportResponseDto> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI 건강 리포트 응답 캐시 적중 - 키: {}", cacheKey.substring(0, 12));
+            return cached.get();
+        }
+
+        long startNanos = System.nanoTime();
+        HealthReportResponseDto responseDto = requestWithPermit(requestDto, batch);
+        responseCache.put(cacheKey, responseDto, (System.nanoTime() - startNanos) / 1_000_000);
+        return responseDto;
+    }
+
+    private HealthReportResponseDto requestWithPermit(HealthReportRequestDto requestDto, boolean batch)
+            throws JsonProcessingException {
+        Semaphore permit = batch ? acquireBatch() : acquireInteractive();
+        try {
+            return request(requestDto);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private Semaphore acquireBatch() {
+        try {
+            if (!batchPermits.tryAcquire(acquireTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("AI 서버 요청 대기 시간 초과");
+            }
+            return batchPermits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 서버 요청 대기 중 중단", e);
+        }
+    }
+
+    private Semaphore acquireInteractive() {
+        // 일괄 작업이 없으면 일괄 허용을 바로 사용
+        if (batchPermits.tryAcquire()) {
+            return batchPermits;
+        }
+        // 전용 허용이 없는 설정(max-concurrency 1)이면 일괄 허용을 짧게 기다림
+        Semaphore permit = maxConcurrency >= 2 ? interactivePermits : batchPermits;
+        try {
+            if (!permit.tryAcquire(interactiveAcquireTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("AI 서버 단건 요청 허용 대기 시간 초과 - 503 응답");
+                throw new BaperangCustomException(BaperangErrorCode.AI_SERVER_BUSY);
+            }
+            return permit;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaperangCustomException(BaperangErrorCode.AI_SERVER_BUSY);
+        }
+    }
+
+    private HealthReportResponseDto request(HealthReportRequestDto requestDto) throws JsonProcessingException {
+        log.info("AI 서버에 분석 요청 전송");
+
+        // 요청 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // 요청 바디 생성
+        String requestBody = objectMapper.writeValueAsString(requestDto);
+        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+
+        String aiServerUrl = aiServerBaseUrl + HEALTH_REPORT_ENDPOINT;
+
+        // AI 서버에 요청 전송
+        ResponseEntity<String> response = restTemplate.postForEntity(aiServerUrl, entity, String.class);
+
+        // 응답 처리
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            return objectMapper.readValue(response.getBody(), HealthReportResponseDto.class);
+        } else {
+            log.error("AI 서버 응답 실패: {}", response.getStatusCode());
+            throw new RuntimeException("AI 서버 응답 실패");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.baperang.domain.student.service;
+
+import com.ssafy.baperang.domain.student.dto.request.HealthReportBatchRequestDto;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+
+public interface HealthReportBatchService {
+
+    // 학급 전체 건강 리포트 일괄 생성 작업 시작 (같은 학급/날짜로 진행 중인 작업이 있으면 그 작업 반환)
+    Object startClassReports(JwtPrincipal principal, HealthReportBatchRequestDto requestDto);
+
+    // 일괄 생성 작업 진행 상태 조회
+    Object getClassReportJob(JwtPrincipal principal, Long jobId);
+}
@@ -0,0 +1,347 @@
+package com.ssafy.baperang.domain.student.service;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnCache;
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
+import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportBatchRequestDto;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportRequestDto;
+import com.ssafy.baperang.domain.student.dto.response.HealthReportBatchResponseDto;
+import com.ssafy.baperang.domain.student.dto.response.HealthReportResponseDto;
+import com.ssafy.baperang.domain.student.entity.Student;
+import com.ssafy.baperang.domain.student.report.HealthReportPayload;
+import com.ssafy.baperang.domain.student.report.HealthReportStore;
+import com.ssafy.baperang.domain.student.repository.HealthReportJobRepository;
+import com.ssafy.baperang.domain.student.repository.HealthReportJobRepository.HealthReportJob;
+import com.ssafy.baperang.domain.student.repository.HealthReportRepository;
+import com.ssafy.baperang.domain.student.repository.StudentRepository;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 학급 단위 건강 리포트 일괄 생성
+ * - 학급 학생, 주간 잔반, 메뉴/영양소를 각각 한 번에 조회해서 학생별 AI 요청 데이터를 계산
+ * - AI 요청은 HealthReportAiClient의 동시 요청 제한 안에서 worker 스레드로 병렬 실행
+ * - 리포트는 HealthReportStore에 (학생, 주) 단위로 저장하고 이번 주 리포트가 이미 있는 학생은 건너뜀
+ * - 학생별 진행 상태는 health_report_job_item에 기록하고, 재기동 시 RUNNING 작업의 PENDING 학생부터 이어서 진행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HealthReportBatchServiceImpl implements HealthReportBatchService {
+
+    private final HealthReportJobRepository healthReportJobRepository;
+    private final HealthReportRepository healthReportRepository;
+    private final HealthReportStore healthReportStore;
+    private final StudentRepository studentRepository;
+    private final TenantResolver tenantResolver;
+    private final LeftoverColumnCache leftoverColumnCache;
+    private final HealthReportCalculator healthReportCalculator;
+    private final HealthReportAiClient healthReportAiClient;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${health-report.batch.workers:4}")
+    private int workers;
+
+    // 이 인스턴스에서 실행 중인 작업 (같은 작업 중복 실행 방지)
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    // 작업 단위 조회/계산을 맡는 스레드
+    private ExecutorService jobExecutor;
+    // 학생별 AI 요청 스레드 (실제 동시 요청 수는 HealthReportAiClient가 제한)
+    private ExecutorService workerExecutor;
+
+    @PostConstruct
+    public void init() {
+        this.jobExecutor = Executors.newSingleThreadExecutor(namedThreadFactory("health-report-job-"));
+        // 단건 요청 전용 허용을 남기도록 worker 수를 일괄 허용 수 이하로 제한
+        int workerCount = Math.max(1, Math.min(workers, healthReportAiClient.getBatchConcurrency()));
+        this.workerExecutor = Executors.newFixedThreadPool(workerCount, namedThreadFactory("health-report-worker-"));
+        log.info("건강 리포트 일괄 생성 스레드 풀 초기화 - worker {}개", workerCount);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+        log.info("건강 리포트 일괄 생성 스레드 풀 종료");
+    }
+
+    /**
+     * 재기동 시 중단된 작업 이어서 진행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        List<Long> jobIds = healthReportJobRepository.findJobIdsByStatus(HealthReportJobRepository.JOB_RUNNING);
+        if (!jobIds.isEmpty()) {
+            log.info("중단된 건강 리포트 일괄 생성 작업 재개 - 작업 ID: {}", jobIds);
+        }
+        jobIds.forEach(this::submit);
+    }
+
+    @Override
+    public Object startClassReports(JwtPrincipal principal, HealthReportBatchRequestDto requestDto) {
+        log.info("startClassReports 함수 실행 - {}학년 {}반", requestDto.getGrade(), requestDto.getClassNum());
+
+        try {
+            // 토큰 유효성
+            if (principal == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
+
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            Long schoolId = tenant.schoolId();
+            LocalDate reportDate = LocalDate.now();
+
+            // 같은 학급/날짜로 진행 중인 작업이 있으면 새로 만들지 않음
+            Optional<HealthReportJob> running = healthReportJobRepository.findRunningJob(
+                    schoolId, requestDto.getGrade(), requestDto.getClassNum(), reportDate);
+            if (running.isPresent()) {
+                submit(running.get().id());
+                return toResponse(running.get());
+            }
+
+            List<Long> studentIds = studentRepository.findBySchoolIdAndGradeAndClassNumOrderByNumberAsc(
+                            schoolId, requestDto.getGrade(), requestDto.getClassNum())
+                    .stream()
+                    .map(Student::getId)
+                    .toList();
+
+            if (studentIds.isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.STUDENT_NOT_FOUND);
+            }
+
+            Long jobId = new TransactionTemplate(transactionManager).execute(status ->
+                    healthReportJobRepository.createJob(
+                            schoolId, requestDto.getGrade(), requestDto.getClassNum(), reportDate, studentIds));
+
+            submit(jobId);
+
+            log.info("startClassReports 함수 성공 종료 - 작업 ID: {}, 학생 {}명", jobId, studentIds.size());
+            return toResponse(healthReportJobRepository.findById(jobId).orElseThrow());
+        } catch (Exception e) {
+            log.error("건강 리포트 일괄 생성 시작 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public Object getClassReportJob(JwtPrincipal principal, Long jobId) {
+        log.info("getClassReportJob 함수 실행 - 작업 ID: {}", jobId);
+
+        try {
+            if (principal == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_TOKEN);
+            }
+
+            Long userPk = principal.userId();
+            TenantContext tenant = tenantResolver.resolve(userPk);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            Optional<HealthReportJob> job = healthReportJobRepository.findById(jobId);
+            if (job.isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.RESOURCE_NOT_FOUND);
+            }
+
+            // 같은 학교 사용자만 조회 가능
+            if (!job.get().schoolId().equals(tenant.schoolId())) {
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_ACCESS);
+            }
+
+            return toResponse(job.get());
+        } catch (Exception e) {
+            log.error("건강 리포트 일괄 생성 작업 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void submit(Long jobId) {
+        if (!activeJobs.add(jobId)) {
+            return;
+        }
+        jobExecutor.execute(() -> {
+            try {
+                runJob(jobId);
+            } finally {
+                activeJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void runJob(Long jobId) {
+        long startNanos = System.nanoTime();
+
+        HealthReportJob job = healthReportJobRepository.findById(jobId).orElse(null);
+        if (job == null || !HealthReportJobRepository.JOB_RUNNING.equals(job.status())) {
+            return;
+        }
+
+        Set<Long> pendingIds = new HashSet<>(
+                healthReportJobRepository.findStudentIdsByItemStatus(jobId, HealthReportJobRepository.ITEM_PENDING));
+
+        try {
+            if (!pendingIds.isEmpty()) {
+                generatePending(job, pendingIds);
+            }
+        } catch (Exception e) {
+            // 조회 단계 실패 시 RUNNING으로 남겨 두고 다음 요청/재기동 때 다시 시도
+            log.error("건강 리포트 일괄 생성 작업 실패 - 작업 ID: {}, {}", jobId, e.getMessage(), e);
+            return;
+        }
+
+        Map<String, Integer> counts = healthReportJobRepository.countItemsByStatus(jobId);
+        int doneCount = counts.getOrDefault(HealthReportJobRepository.ITEM_DONE, 0);
+        int failedCount = counts.getOrDefault(HealthReportJobRepository.ITEM_FAILED, 0);
+
+        String finalStatus;
+        if (doneCount == 0) {
+            finalStatus = HealthReportJobRepository.JOB_FAILED;
+        } else if (failedCount > 0) {
+            finalStatus = HealthReportJobRepository.JOB_COMPLETED_WITH_ERRORS;
+        } else {
+            finalStatus = HealthReportJobRepository.JOB_COMPLETED;
+        }
+        healthReportJobRepository.updateStatus(jobId, finalStatus);
+
+        log.info("건강 리포트 일괄 생성 종료 - 작업 ID: {}, 상태: {}, 성공 {}명, 실패 {}명, {}ms",
+                jobId, finalStatus, doneCount, failedCount, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void generatePending(HealthReportJob job, Set<Long> pendingIds) {
+        // 1. 학급 학생 한 번에 조회
+        List<Student> students = studentRepository.findBySchoolIdAndGradeAndClassNumOrderByNumberAsc(
+                        job.schoolId(), job.grade(), job.classNum())
+                .stream()
+                .filter(student -> pendingIds.contains(student.getId()))
+                .collect(Collectors.toList());
+
+        // 학급에서 빠진 학생은 실패로 기록
+        Set<Long> foundIds = students.stream().map(Student::getId).collect(Collectors.toSet());
+        for (Long studentId : pendingIds) {
+            if (!foundIds.contains(studentId)) {
+                healthReportJobRepository.updateItem(job.id(), studentId,
+                        HealthReportJobRepository.ITEM_FAILED, "학급에서 학생을 찾을 수 없습니다.");
+            }
+        }
+
+        // 2. 주간 잔반 데이터를 학생별로 한 번에 분류
+        List<LocalDate> allDates = HealthReportCalculator.reportDates(job.reportDate());
+        Map<Long, LeftoverColumnStore.StudentRows> rowsByStudent = leftoverColumnCache.findClassRows(
+                job.schoolId(), job.grade(), job.classNum(), foundIds,
+                allDates.get(0), allDates.get(allDates.size() - 1));
+
+        // 3. 등장하는 메뉴/영양소 한 번에 조회
+        HealthReportCalculator.ReportMenuData menuData = healthReportCalculator.loadMenuData(rowsByStudent.values());
+
+        // 4. 이번 주 리포트가 이미 있는 학생 (개별 생성분 포함) 한 번에 조회
+        Set<Long> reportedIds = new HashSet<>(healthReportRepository.findStudentIdsWithReport(
+                foundIds, HealthReportStore.weekStartOf(job.reportDate())));
+
+        // 5. 학생별 요청 데이터 계산 후 AI 요청은 병렬로
+        List<CompletableFuture<Void>> futures = new ArrayList<>(students.size());
+        for (Student student : students) {
+            if (reportedIds.contains(student.getId())) {
+                healthReportJobRepository.updateItem(job.id(), student.getId(), HealthReportJobRepository.ITEM_DONE, null);
+                continue;
+            }
+
+            HealthReportRequestDto requestDto = healthReportCalculator.buildRequest(
+                    student, rowsByStudent.get(student.getId()), menuData, allDates);
+
+            futures.add(CompletableFuture.runAsync(
+                    () -> generateOne(job, student.getId(), requestDto), workerExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void generateOne(HealthReportJob job, Long studentId, HealthReportRequestDto requestDto) {
+        try {
+            HealthReportResponseDto responseDto = healthReportAiClient.analyzeForBatch(requestDto);
+            HealthReportPayload payload = HealthReportPayload.builder()
+                    .request(requestDto)
+                    .report(responseDto)
+                    .build();
+
+            // 리포트 저장과 항목 완료 기록을 한 트랜잭션으로
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                healthReportStore.save(studentId, job.reportDate(), payload);
+                healthReportJobRepository.updateItem(job.id(), studentId, HealthReportJobRepository.ITEM_DONE, null);
+            });
+        } catch (Exception e) {
+            log.error("건강 리포트 생성 실패 - 작업 ID: {}, 학생 ID: {}, {}", job.id(), studentId, e.getMessage());
+            healthReportJobRepository.updateItem(job.id(), studentId, HealthReportJobRepository.ITEM_FAILED, e.getMessage());
+        }
+    }
+
+    private HealthReportBatchResponseDto toResponse(HealthReportJob job) {
+        Map<String, Integer> counts = healthReportJobRepository.countItemsByStatus(job.id());
+
+        List<HealthReportBatchResponseDto.Failure> failures = healthReportJobRepository.findFailures(job.id())
+                .stream()
+                .map(failure -> HealthReportBatchResponseDto.Failure.builder()
+                        .studentId(failure.studentId())
+                        .message(failure.errorMessage())
+                        .build())
+                .toList();
+
+        return HealthReportBatchResponseDto.builder()
+                .jobId(job.id())
+                .grade(job.grade())
+                .classNum(job.classNum())
+                .reportDate(job.reportDate().toString())
+                .status(job.status())
+                .createdAt(job.createdAt().toString())
+                .updatedAt(job.updatedAt().toString())
+                .totalCount(job.totalCount())
+                .doneCount(counts.getOrDefault(HealthReportJobRepository.ITEM_DONE, 0))
+                .failedCount(counts.getOrDefault(HealthReportJobRepository.ITEM_FAILED, 0))
+                .pendingCount(counts.getOrDefault(HealthReportJobRepository.ITEM_PENDING, 0))
+                .failures(failures)
+                .build();
+    }
+
+    private ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
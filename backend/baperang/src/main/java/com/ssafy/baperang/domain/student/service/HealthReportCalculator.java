@@ -0,0 +1,224 @@
+package com.ssafy.baperang.domain.student.service;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.menu.repository.MenuRepository;
+import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
+import com.ssafy.baperang.domain.menunutrient.repository.MenuNutrientRepository;
+import com.ssafy.baperang.domain.student.dto.request.HealthReportRequestDto;
+import com.ssafy.baperang.domain.student.entity.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 건강 리포트 AI 요청 데이터 계산
+ * 단건 생성(HealthReportServiceImpl)과 학급 일괄 생성(HealthReportBatchServiceImpl)이 같은 계산을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthReportCalculator {
+
+    private final MenuRepository menuRepository;
+    private final MenuNutrientRepository menuNutrientRepository;
+
+    // 분석 기간: 기준일 전날부터 7일
+    private static final int REPORT_DAYS = 7;
+
+    // DecimalFormat은 스레드 안전하지 않으므로 스레드별로 사용
+    private static final ThreadLocal<DecimalFormat> DF =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US)));
+
+    /**
+     * 리포트 분석 기간의 날짜 목록 (기준일 전날까지 7일, 오름차순)
+     */
+    public static List<LocalDate> reportDates(LocalDate reportDate) {
+        LocalDate endDate = reportDate.minusDays(1);
+        LocalDate startDate = endDate.minusDays(REPORT_DAYS - 1);
+
+        List<LocalDate> allDates = new ArrayList<>();
+        LocalDate currentDate = startDate;
+        while (!currentDate.isAfter(endDate)) {
+            allDates.add(currentDate);
+            currentDate = currentDate.plusDays(1);
+        }
+        return allDates;
+    }
+
+    /**
+     * 잔반 행들에 등장하는 메뉴와 탄단지 영양소를 한 번에 조회
+     * (영양소 이름 지연 로딩을 위해 트랜잭션 안에서 맵 생성)
+     */
+    @Transactional(readOnly = true)
+    public ReportMenuData loadMenuData(Collection<LeftoverColumnStore.StudentRows> rowsList) {
+        Set<Long> menuIds = new HashSet<>();
+        for (LeftoverColumnStore.StudentRows rows : rowsList) {
+            for (int i = 0; i < rows.size(); i++) {
+                menuIds.add(rows.getMenuId(i));
+            }
+        }
+
+        if (menuIds.isEmpty()) {
+            return new ReportMenuData(Collections.emptyMap(), NutrientIntakeTable.EMPTY);
+        }
+
+        // 모든 메뉴 정보 한 번에 조회하여 Map에 저장
+        Map<Long, Menu> menuMap = menuRepository.findAllByIdIn(new ArrayList<>(menuIds)).stream()
+                .collect(Collectors.toMap(
+                        Menu::getId,
+                        menu -> menu,
+                        (existing, replacement) -> replacement
+                ));
+
+        // 탄단지 영양소 한 번에 조회 후 메뉴 순번 기준 배열 표로 변환
+        List<MenuNutrient> allNutrients = menuNutrientRepository.findByMenuIdInAndNutrient_NutrientNameIn(
+                new ArrayList<>(menuIds), NutrientIntakeTable.NUTRIENT_NAMES);
+
+        return new ReportMenuData(menuMap, NutrientIntakeTable.of(allNutrients));
+    }
+
+    /**
+     * 학생 한 명의 AI 요청 데이터 (BMI, 카테고리별 잔반율, 잔반 순위, 날짜별 섭취 영양소)
+     */
+    public HealthReportRequestDto buildRequest(Student student, LeftoverColumnStore.StudentRows leftoverRows,
+                                               ReportMenuData menuData, List<LocalDate> allDates) {
+        // BMI 계산
+        Float height = student.getHeight() / 100f;
+        Float weight = student.getWeight();
+        Float bmi = weight / (height * height);
+        String formattedBmi = DF.get().format(bmi);
+        log.info("학생 BMI 계산: {}", formattedBmi);
+
+        // 카테고리별 평균 잔반율
+        Map<String, Float> categoryLeftoverMap = calcLeftoverByCategory(leftoverRows, menuData.getMenuMap());
+
+        // 잔반율 top3 bottom3 계산
+        Map<String, Map<String, String>> leftoverRankingMap = getRankings(leftoverRows);
+
+        // 일주일간 섭취한 영양소 계산 (AI 요청용)
+        Map<String, Map<String, Integer>> dailyNutrientData =
+                menuData.getIntakeTable().dailyIntake(leftoverRows, allDates);
+
+        return HealthReportRequestDto.builder()
+                .bmi(Float.parseFloat(formattedBmi))
+                .leftover(categoryLeftoverMap)
+                .leftoverMost(leftoverRankingMap.get("most"))
+                .leftoverLeast(leftoverRankingMap.get("least"))
+                .nutrient(dailyNutrientData)
+                .build();
+    }
+
+    // 카테고리별 평균 잔반율 계산
+    private Map<String, Float> calcLeftoverByCategory(LeftoverColumnStore.StudentRows leftoverRows, Map<Long, Menu> menuMap) {
+        Map<String, List<Float>> categoryRates = new HashMap<>();
+
+        for (int i = 0; i < leftoverRows.size(); i++) {
+            // 미리 조회한 메뉴 정보에서 카테고리 가져오기
+            Menu menu = menuMap.get(leftoverRows.getMenuId(i));
+            if (menu != null) {
+                String category = menu.getCategory();
+                Float rate = leftoverRows.getLeftoverRate(i);
+                categoryRates.computeIfAbsent(category, k -> new ArrayList<>()).add(rate);
+            }
+        }
+
+        Map<String, Float> result = new HashMap<>();
+        for (Map.Entry<String, List<Float>> entry : categoryRates.entrySet()) {
+            List<Float> rates = entry.getValue();
+            double average = rates.stream().mapToDouble(Float::doubleValue).average().orElse(0.0);
+            result.put(entry.getKey(), Float.parseFloat(DF.get().format(average)));
+        }
+
+        // 카테고리가 없는 경우 기본값 설정
+        result.putIfAbsent("rice", 0.0f);
+        result.putIfAbsent("soup", 0.0f);
+        result.putIfAbsent("main", 0.0f);
+        result.putIfAbsent("side", 0.0f);
+
+        return result;
+    }
+
+    // 잔반율 TOP3, BOTTOM3 계산
+    private Map<String, Map<String, String>> getRankings(LeftoverColumnStore.StudentRows leftoverRows) {
+        // 메뉴별 평균 잔반율 계산
+        Map<String, List<Float>> menuRates = new HashMap<>();
+
+        for (int i = 0; i < leftoverRows.size(); i++) {
+            String menuName = leftoverRows.getMenuName(i);
+            Float rate = leftoverRows.getLeftoverRate(i);
+            menuRates.computeIfAbsent(menuName, k -> new ArrayList<>()).add(rate);
+        }
+
+        // 메뉴별 평균 계산
+        Map<String, Float> menuAverages = new HashMap<>();
+        for (Map.Entry<String, List<Float>> entry : menuRates.entrySet()) {
+            double average = entry.getValue() // 현재 메뉴의 모든 잔반율 가져오기
+                    .stream() // 스트림으로 변환
+                    .mapToDouble(Float::doubleValue) // float을 double로 변환
+                    .average()
+                    .orElse(0.0); // 목록이 비어있으면 0.0
+
+            menuAverages.put(
+                    entry.getKey(),
+                    Float.parseFloat(
+                            DF.get().format(average)));
+        }
+
+        // 잔반율 기준 정렬
+        List<Map.Entry<String, Float>> sortedEntries = new ArrayList<>(menuAverages.entrySet());
+
+        // 내림차순 정렬 (가장 많이 남긴 순)
+        sortedEntries.sort(Map.Entry.<String, Float>comparingByValue().reversed());
+
+        // TOP3 (가장 많이 남긴 음식)
+        Map<String, String> most = new HashMap<>();
+        for (int i = 0; i < Math.min(3, sortedEntries.size()); i++) {
+            most.put(String.valueOf(i + 1), sortedEntries.get(i).getKey());
+        }
+
+        // 오름차순 정렬 (가장 적게 남긴 순)
+        sortedEntries.sort(Map.Entry.comparingByValue());
+
+        // BOTTOM3 (가장 적게 남긴 음식)
+        Map<String, String> least = new HashMap<>();
+        for (int i = 0; i < Math.min(3, sortedEntries.size()); i++) {
+            least.put(String.valueOf(i + 1), sortedEntries.get(i).getKey());
+        }
+
+        Map<String, Map<String, String>> result = new HashMap<>();
+        result.put("most", most);
+        result.put("least", least);
+
+        return result;
+    }
+
+    /**
+     * 리포트 계산에 필요한 메뉴/영양소 조회 결과
+     */
+    public static class ReportMenuData {
+
+        private final Map<Long, Menu> menuMap;
+        private final NutrientIntakeTable intakeTable;
+
+        public ReportMenuData(Map<Long, Menu> menuMap, NutrientIntakeTable intakeTable) {
+            this.menuMap = menuMap;
+            this.intakeTable = intakeTable;
+        }
+
+        public Map<Long, Menu> getMenuMap() {
+            return menuMap;
+        }
+
+        public NutrientIntakeTable getIntakeTable() {
+            return intakeTable;
+        }
+    }
+}
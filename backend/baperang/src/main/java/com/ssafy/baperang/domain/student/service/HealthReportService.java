@@ -1,6 +1,9 @@
 package com.ssafy.baperang.domain.student.service;
 
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
+
 public interface HealthReportService {
-    Object generateReport(String token, Long studentId);
+    Object generateReport(JwtPrincipal principal, Long studentId);
     Object saveReport(Long studentId, String reportContent);
+    Object getAiCacheStats(JwtPrincipal principal);
 }
@@ -0,0 +1,128 @@
+package com.ssafy.baperang.domain.student.service;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
+import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴별 탄단지 영양소 값 표와 날짜별 섭취량 계산
+ * - 메뉴 ID는 정렬된 배열의 순번(ordinal)으로 바꾸고, 값은 [순번 * 3 + 영양소 순번] 위치의 float 배열에 저장 (없는 값은 NaN)
+ * - 섭취량은 [날짜 순번 * 3 + 영양소 순번] int 배열에 누적하므로 잔반 행마다 객체를 만들지 않음
+ */
+public final class NutrientIntakeTable {
+
+    public static final String CARBO_NUTRIENT_NAME = "탄수화물";     // 탄수화물 (g)
+    public static final String PROTEIN_NUTRIENT_NAME = "단백질";   // 단백질 (g)
+    public static final String FAT_NUTRIENT_NAME = "지방";       // 지방 (g)
+
+    public static final List<String> NUTRIENT_NAMES =
+            List.of(CARBO_NUTRIENT_NAME, PROTEIN_NUTRIENT_NAME, FAT_NUTRIENT_NAME);
+
+    // AI 요청의 영양소 키 (NUTRIENT_NAMES와 같은 순서)
+    private static final String[] OUTPUT_KEYS = {"carbo", "protein", "fat"};
+
+    private static final int NUTRIENT_COUNT = OUTPUT_KEYS.length;
+
+    public static final NutrientIntakeTable EMPTY = new NutrientIntakeTable(new long[0], new float[0]);
+
+    private final long[] menuIds;
+    private final float[] amounts;
+
+    private NutrientIntakeTable(long[] menuIds, float[] amounts) {
+        this.menuIds = menuIds;
+        this.amounts = amounts;
+    }
+
+    /**
+     * 메뉴 영양소 목록으로 표 생성 (같은 메뉴/영양소가 여러 개면 나중 값 사용)
+     * 영양소 이름 지연 로딩이 필요하므로 트랜잭션 안에서 호출
+     */
+    public static NutrientIntakeTable of(Collection<MenuNutrient> menuNutrients) {
+        if (menuNutrients.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] ids = menuNutrients.stream()
+                .mapToLong(menuNutrient -> menuNutrient.getMenu().getId())
+                .sorted()
+                .distinct()
+                .toArray();
+
+        float[] values = new float[ids.length * NUTRIENT_COUNT];
+        Arrays.fill(values, Float.NaN);
+
+        for (MenuNutrient menuNutrient : menuNutrients) {
+            int nutrient = NUTRIENT_NAMES.indexOf(menuNutrient.getNutrient().getNutrientName());
+            if (nutrient < 0) {
+                continue;
+            }
+            int ordinal = Arrays.binarySearch(ids, menuNutrient.getMenu().getId());
+            values[ordinal * NUTRIENT_COUNT + nutrient] = menuNutrient.getAmount();
+        }
+
+        return new NutrientIntakeTable(ids, values);
+    }
+
+    public int menuCount() {
+        return menuIds.length;
+    }
+
+    /**
+     * 날짜별 섭취 영양소 (섭취량 = 영양소 값 * (1 - 잔반율), 행마다 반올림 후 합산)
+     * @param allDates 연속된 분석 기간 날짜 (오름차순), 기간 밖의 행은 제외
+     * @return 날짜 문자열 -> {carbo, protein, fat}
+     */
+    public Map<String, Map<String, Integer>> dailyIntake(LeftoverColumnStore.StudentRows rows, List<LocalDate> allDates) {
+        int days = allDates.size();
+        int[] totals = accumulate(rows, days == 0 ? 0 : (int) allDates.get(0).toEpochDay(), days);
+
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+        for (int day = 0; day < days; day++) {
+            Map<String, Integer> dailyNutrients = new HashMap<>();
+            for (int nutrient = 0; nutrient < NUTRIENT_COUNT; nutrient++) {
+                dailyNutrients.put(OUTPUT_KEYS[nutrient], totals[day * NUTRIENT_COUNT + nutrient]);
+            }
+            result.put(allDates.get(day).toString(), dailyNutrients);
+        }
+        return result;
+    }
+
+    // [날짜 순번 * 3 + 영양소 순번] 섭취량 합계
+    int[] accumulate(LeftoverColumnStore.StudentRows rows, int startEpochDay, int days) {
+        int[] totals = new int[days * NUTRIENT_COUNT];
+        if (rows == null) {
+            return totals;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            int day = rows.getDayEpoch(i) - startEpochDay;
+            if (day < 0 || day >= days) {
+                continue;
+            }
+
+            int ordinal = Arrays.binarySearch(menuIds, rows.getMenuId(i));
+            if (ordinal < 0) {
+                continue;
+            }
+
+            float leftoverRate = rows.getLeftoverRate(i) / 100f;
+            float consumptionRate = 1 - leftoverRate;
+
+            int valueBase = ordinal * NUTRIENT_COUNT;
+            int totalBase = day * NUTRIENT_COUNT;
+            for (int nutrient = 0; nutrient < NUTRIENT_COUNT; nutrient++) {
+                float amount = amounts[valueBase + nutrient];
+                if (!Float.isNaN(amount)) {
+                    totals[totalBase + nutrient] += Math.round(amount * consumptionRate);
+                }
+            }
+        }
+        return totals;
+    }
+}
@@ -3,7 +3,7 @@ package com.ssafy.baperang.domain.student.service;
 import com.ssafy.baperang.domain.student.dto.request.SaveStudentLeftoverRequestDto;
 
 public interface StudentService {
-    // 학생 이름 목록 조회
+    // 학생 이름 목록 조회 (StudentRosterCache.Roster 또는 ErrorResponseDto)
     Object getAllStudentNames(Long userId);
 
     // 학생 상세 정보 조회
@@ -12,4 +12,7 @@ public interface StudentService {
     Object saveStudentLeftover(Long userId, SaveStudentLeftoverRequestDto requestDto);
 
     Object getStudentLeftover(Long userId, String leftoverDateStr, int grade, int classNum, int number);
-}
\ No newline at end of file
+
+    // 학생 기간 내 일별 섭취 영양소 조회
+    Object getStudentIntake(Long userId, Long studentId, String startDateStr, String endDateStr);
+}
@@ -10,23 +10,29 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.ssafy.baperang.domain.leftover.dto.response.DailyIntakeDto;
 import com.ssafy.baperang.domain.leftover.dto.response.ErrorResponseDto;
 import com.ssafy.baperang.domain.leftover.entity.Leftover;
 import com.ssafy.baperang.domain.leftover.repository.LeftoverRepository;
+import com.ssafy.baperang.domain.leftover.service.LeftoverRollupService;
 import com.ssafy.baperang.domain.menu.entity.Menu;
 import com.ssafy.baperang.domain.menu.repository.MenuRepository;
 import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.domain.school.repository.SchoolRepository;
+import com.ssafy.baperang.domain.student.cache.StudentRosterCache;
 import com.ssafy.baperang.domain.student.dto.request.SaveStudentLeftoverRequestDto;
 import com.ssafy.baperang.domain.student.dto.response.GetStudentLeftoverResponseDto;
 import com.ssafy.baperang.domain.student.dto.response.SaveLeftoverResponseDto;
 import com.ssafy.baperang.domain.student.dto.response.StudentDetailResponseDto;
-import com.ssafy.baperang.domain.student.dto.response.StudentNamesResponseDto;
+import com.ssafy.baperang.domain.student.dto.response.StudentIntakeResponseDto;
 import com.ssafy.baperang.domain.student.entity.Student;
+import com.ssafy.baperang.domain.student.report.HealthReportStore;
 import com.ssafy.baperang.domain.student.repository.StudentRepository;
-import com.ssafy.baperang.domain.user.entity.User;
-import com.ssafy.baperang.domain.user.repository.UserRepository;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
+import com.ssafy.baperang.global.tenant.TenantContext;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,11 +43,18 @@ import lombok.extern.slf4j.Slf4j;
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
-    private final UserRepository userRepository;
+    private final TenantResolver tenantResolver;
+    private final SchoolRepository schoolRepository;
     private final LeftoverRepository leftoverRepository;
     private final MenuRepository menuRepository;
+    private final LeftoverRollupService leftoverRollupService;
+    private final StudentRosterCache studentRosterCache;
+    private final HealthReportStore healthReportStore;
     private final DecimalFormat df = new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US));
 
+    // 섭취 영양소 조회 최대 기간 (일)
+    private static final int MAX_INTAKE_DAYS = 366;
+
     @Override
     @Transactional(readOnly = true)
     public Object getAllStudentNames(Long userId) {
@@ -49,33 +62,18 @@ public class StudentServiceImpl implements StudentService {
 
         try {
             // 현재 로그인한 사용자 정보 조회
-            User user = userRepository.findById(userId)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userId);
 
-            if (user == null) {
+            if (tenant == null) {
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            // 사용자의 학교 ID로 학생 이름 목록 조회
-            List<Student> students = studentRepository.findBySchoolIdOrderByGradeAscClassNumAscNumberAsc(user.getSchool().getId());
-
-            List<StudentNamesResponseDto.StudentInfo> studentInfos = students.stream()
-                    .map(student -> StudentNamesResponseDto.StudentInfo.builder()
-                            .studentId(student.getId())
-                            .studentName(student.getStudentName())
-                            .gender(student.getGender())
-                            .grade(student.getGrade())
-                            .classNum(student.getClassNum())
-                            .number(student.getNumber())
-                            .build())
-                    .collect(Collectors.toList());
-
-            log.info("getAllStudentNames 함수 성공 종료 - 학생 수: {}", studentInfos.size());
-
-            // 결과 반환
-            return StudentNamesResponseDto.builder()
-                    .students(studentInfos)
-                    .build();
+            // 사용자의 학교 학생 명단 (직렬화된 캐시, 학생 변경 시에만 다시 조회)
+            StudentRosterCache.Roster roster = studentRosterCache.getRoster(tenant.schoolId());
+
+            log.info("getAllStudentNames 함수 성공 종료 - 명단 버전: {}", roster.version());
+
+            return roster;
 
         } catch (Exception e) {
             log.error("getAllStudentNames 함수 실행 중 오류 발생", e);
@@ -90,11 +88,13 @@ public class StudentServiceImpl implements StudentService {
 
         try {
             // 현재 로그인한 사용자 정보 조회
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            TenantContext tenant = tenantResolver.resolve(userId);
+            if (tenant == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
 
             // 학교 ID와 학생 ID로 학생 조회 (권한 확인)
-            Optional<Student> studentOpt = studentRepository.findByIdAndSchoolId(studentId, user.getSchool().getId());
+            Optional<Student> studentOpt = studentRepository.findByIdAndSchoolId(studentId, tenant.schoolId());
 
             // 학생이 존재하지 않거나 다른 학교의 학생인 경우
             if (studentOpt.isEmpty()) {
@@ -112,6 +112,10 @@ public class StudentServiceImpl implements StudentService {
             // 한 주간 잔반율 평균 계산
             Float weeklyLeftoverAverage = calculateWeeklyLeftoverAverage(student);
 
+            // 가장 최근 주간 건강 리포트 (health_report 이관 전 데이터는 student.content 사용)
+            String content = healthReportStore.findLatestReportJson(student.getId())
+                    .orElse(student.getContent());
+
             // Entity를 DTO로 변환하여 반환
             StudentDetailResponseDto responseDto = StudentDetailResponseDto.fromEntity(student);
 
@@ -125,7 +129,7 @@ public class StudentServiceImpl implements StudentService {
                     .height(responseDto.getHeight())
                     .weight(responseDto.getWeight())
                     .date(responseDto.getDate())
-                    .content(responseDto.getContent())
+                    .content(content)
                     .schoolName(responseDto.getSchoolName())
                     .bmi(bmi)
                     .weeklyLeftoverAverage(weeklyLeftoverAverage)
@@ -151,15 +155,15 @@ public class StudentServiceImpl implements StudentService {
 
         try {
             // 사용자 확인
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> {
-                        log.error("사용자를 찾을 수 없음. 사용자 ID: {}", userId);
-                        return new RuntimeException("사용자를 찾을 수 없습니다.");
-                    });
+            TenantContext tenant = tenantResolver.resolve(userId);
+            if (tenant == null) {
+                log.error("사용자를 찾을 수 없음. 사용자 ID: {}", userId);
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
 
-            if (!user.getSchool().getId().equals(requestDto.getSchoolPk())) {
+            if (!tenant.schoolId().equals(requestDto.getSchoolPk())) {
                 log.warn("saveStudentLeftover 권한 오류 - 학교 ID: {}, 사용자 학교 ID: {}",
-                        requestDto.getSchoolPk(), user.getSchool().getId());
+                        requestDto.getSchoolPk(), tenant.schoolId());
                 return ErrorResponseDto.of(BaperangErrorCode.UNAUTHORIZED_ACCESS);
             }
 
@@ -180,84 +184,76 @@ public class StudentServiceImpl implements StudentService {
                 return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
             }
 
-            School school = user.getSchool();
-
-            // 잔반 데이터 검증 및 저장
-            List<Leftover> savedLeftovers = new ArrayList<>();
-            for (Map.Entry<String, Float> entry : requestDto.getLeftover().entrySet()) {
-                String menuName = entry.getKey();
-                Float leftoverRate = entry.getValue();;
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
-                // 잔반율 검증
-                if (leftoverRate < 0 || leftoverRate > 100) {
+            // 잔반율 검증 (저장 전에 전체 검증)
+            for (Float leftoverRate : requestDto.getLeftover().values()) {
+                if (leftoverRate == null || leftoverRate < 0 || leftoverRate > 100) {
                     return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
                 }
+            }
+
+            // 해당 날짜의 메뉴를 한 번에 조회하여 메뉴명으로 매핑
+            Map<String, Menu> menuByName = mapByMenuName(
+                    menuRepository.findBySchoolAndMenuDate(school, leftoverDate));
 
-                Menu menu;
-
-                // 메뉴 존재 여부 확인
-                boolean menuExists = menuRepository.existsBySchoolAndMenuDateAndMenuName(
-                        school, leftoverDate, menuName
-                );
-
-                if (menuExists) {
-                    List<Menu> menus = menuRepository.findBySchoolAndMenuDateBetweenOrderByMenuDate(
-                            school, leftoverDate, leftoverDate
-                    );
-
-                    // 해당 날짜의 메뉴중 이름이 일치하는 메뉴 찾기
-                    menu = menus.stream()
-                            .filter(m -> m.getMenuName().equals(menuName))
-                            .findFirst()
-                            .orElseGet(() -> {
-                                log.info("새 메뉴 생성 - 메뉴명: {}, 날짜: {}", menuName, leftoverDate);
-                                Menu newMenu = Menu.builder()
-                                        .school(school)
-                                        .menuDate(leftoverDate)
-                                        .menuName(menuName)
-                                        .build();
-                                return menuRepository.saveAndFlush(newMenu);
-                            });
-
-                    log.info("기존 메뉴 사용 - 메뉴 ID: {}, 메뉴명: {}", menu.getId(), menuName);
-                } else {
+            // 존재하지 않는 메뉴는 한 번의 배치로 생성
+            List<Menu> newMenus = new ArrayList<>();
+            for (String menuName : requestDto.getLeftover().keySet()) {
+                if (!menuByName.containsKey(menuName)) {
                     log.info("새로운 메뉴 생성 - 메뉴명: {}, 날짜: {}", menuName, leftoverDate);
-                    Menu newMenu = Menu.builder()
+                    newMenus.add(Menu.builder()
                             .school(school)
                             .menuDate(leftoverDate)
                             .menuName(menuName)
-                            .build();
-                    menu = menuRepository.saveAndFlush(newMenu);
+                            .build());
                 }
+            }
 
-                try {
-                    // 잔반 데이터 저장
-                    Leftover leftover = Leftover.builder()
-                            .student(student)
-                            .menu(menu)
-                            .leftoverDate(leftoverDate)
-                            .leftMenuName(menuName)
-                            .leftoverRate(leftoverRate)
-                            .build();
-
-                    savedLeftovers.add(leftoverRepository.save(leftover));
-                    log.info("잔반 데이터 저장 성공 - 메뉴: {}, 학생: {}, 잔반율: {}%", menuName, student.getStudentName(), leftoverRate);
-                } catch (Exception e) {
-                    return ErrorResponseDto.of(BaperangErrorCode.AI_SERVER_RESPONSE_ERROR);
-                }
+            if (!newMenus.isEmpty()) {
+                menuRepository.saveAllInBatch(newMenus);
+                // 생성된 메뉴 ID를 얻기 위해 해당 날짜 메뉴 재조회
+                menuByName = mapByMenuName(menuRepository.findBySchoolAndMenuDate(school, leftoverDate));
+            }
+
+            // 잔반 데이터 생성 후 한 번의 JDBC 배치로 저장
+            List<Leftover> leftovers = new ArrayList<>();
+            for (Map.Entry<String, Float> entry : requestDto.getLeftover().entrySet()) {
+                String menuName = entry.getKey();
+                Float leftoverRate = entry.getValue();
+
+                leftovers.add(Leftover.builder()
+                        .student(student)
+                        .menu(menuByName.get(menuName))
+                        .leftoverDate(leftoverDate)
+                        .leftMenuName(menuName)
+                        .leftoverRate(leftoverRate)
+                        .build());
+            }
+
+            int savedCount;
+            try {
+                savedCount = leftoverRepository.saveAllInBatch(leftovers);
+                leftoverRollupService.recordLeftovers(leftovers);
+            } catch (Exception e) {
+                log.error("잔반 데이터 일괄 저장 실패 - 학생: {}", student.getStudentName(), e);
+                // 앞서 생성한 메뉴까지 함께 롤백 (오류 응답을 반환해도 커밋되지 않도록)
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return ErrorResponseDto.of(BaperangErrorCode.LEFTOVER_SAVE_FAILED);
             }
 
-                        log.info("saveStudentLeftover 함수 성공 종료 - 저장된 잔반 데이터 수: {}", savedLeftovers.size());
+            log.info("saveStudentLeftover 함수 성공 종료 - 저장된 잔반 데이터 수: {}", savedCount);
 
             // 성공 응답 반환
             return SaveLeftoverResponseDto.builder()
                     .studentId(student.getId())
                     .studentName(student.getStudentName())
                     .leftoverDate(leftoverDate)
-                    .count(savedLeftovers.size())
+                    .count(savedCount)
                     .message("잔반 데이터가 성공적으로 저장되었습니다.")
                     .build();
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ErrorResponseDto.of(BaperangErrorCode.AI_SERVER_RESPONSE_ERROR);
         }
     }
@@ -269,14 +265,13 @@ public class StudentServiceImpl implements StudentService {
                 userId, leftoverDateStr, grade, classNum, number);
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElse(null);
+            TenantContext tenant = tenantResolver.resolve(userId);
 
-            if (user == null) {
+            if (tenant == null) {
                 return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
             }
 
-            School school = user.getSchool();
+            School school = schoolRepository.getReferenceById(tenant.schoolId());
 
             LocalDate leftoverDate;
             try {
@@ -333,6 +328,100 @@ public class StudentServiceImpl implements StudentService {
         }
     }
 
+    // 메뉴 목록을 메뉴명 기준 맵으로 변환 (중복 시 먼저 조회된 메뉴 사용)
+    private Map<String, Menu> mapByMenuName(List<Menu> menus) {
+        Map<String, Menu> menuByName = new HashMap<>();
+        for (Menu menu : menus) {
+            menuByName.putIfAbsent(menu.getMenuName(), menu);
+        }
+        return menuByName;
+    }
+
+    // 기간 내 학생 섭취 영양소 합계와 평균 잔반율 조회
+    @Override
+    @Transactional(readOnly = true)
+    public Object getStudentIntake(Long userId, Long studentId, String startDateStr, String endDateStr) {
+        log.info("getStudentIntake 함수 실행 - 사용자 ID: {}, 학생 ID: {}, 기간: {} ~ {}",
+                userId, studentId, startDateStr, endDateStr);
+
+        try {
+            TenantContext tenant = tenantResolver.resolve(userId);
+
+            if (tenant == null) {
+                return ErrorResponseDto.of(BaperangErrorCode.USER_NOT_FOUND);
+            }
+
+            LocalDate startDate;
+            LocalDate endDate;
+            try {
+                startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ISO_DATE);
+                endDate = LocalDate.parse(endDateStr, DateTimeFormatter.ISO_DATE);
+            } catch (DateTimeParseException e) {
+                log.warn("getStudentIntake 함수 실행 - 날짜 형식 오류: {} ~ {}", startDateStr, endDateStr);
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            if (endDate.isBefore(startDate) || startDate.plusDays(MAX_INTAKE_DAYS).isBefore(endDate)) {
+                log.warn("getStudentIntake 함수 실행 - 조회 기간 오류: {} ~ {}", startDate, endDate);
+                return ErrorResponseDto.of(BaperangErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            // 같은 학교 학생만 조회 가능
+            if (studentRepository.findByIdAndSchoolId(studentId, tenant.schoolId()).isEmpty()) {
+                return ErrorResponseDto.of(BaperangErrorCode.STUDENT_NOT_FOUND);
+            }
+
+            // 학생 일 섭취 집계 테이블에서 기간 내 행만 조회
+            List<DailyIntakeDto> rows = leftoverRollupService.getStudentDailyIntake(studentId, startDate, endDate);
+
+            long totalKcal = 0;
+            long totalCarbo = 0;
+            long totalProtein = 0;
+            long totalFat = 0;
+            double rateSum = 0;
+            long rateCount = 0;
+            List<StudentIntakeResponseDto.DailyIntake> days = new ArrayList<>(rows.size());
+
+            for (DailyIntakeDto row : rows) {
+                totalKcal += row.getKcal();
+                totalCarbo += row.getCarbo();
+                totalProtein += row.getProtein();
+                totalFat += row.getFat();
+                rateSum += row.getRateSum();
+                rateCount += row.getCount();
+
+                days.add(StudentIntakeResponseDto.DailyIntake.builder()
+                        .date(row.getDate().toString())
+                        .kcal(row.getKcal())
+                        .carbo(row.getCarbo())
+                        .protein(row.getProtein())
+                        .fat(row.getFat())
+                        .averageLeftoverRate(Float.parseFloat(df.format(row.getAverageRate())))
+                        .build());
+            }
+
+            double averageRate = rateCount > 0 ? rateSum / rateCount : 0.0;
+
+            log.info("getStudentIntake 함수 성공 종료 - 학생 ID: {}, {}일", studentId, days.size());
+
+            return StudentIntakeResponseDto.builder()
+                    .studentId(studentId)
+                    .startDate(startDate.toString())
+                    .endDate(endDate.toString())
+                    .totalKcal(totalKcal)
+                    .totalCarbo(totalCarbo)
+                    .totalProtein(totalProtein)
+                    .totalFat(totalFat)
+                    .averageLeftoverRate(Float.parseFloat(df.format(averageRate)))
+                    .days(days)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("getStudentIntake 함수 실행 중 오류 발생", e);
+            return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 한 주간 전체 잔반율 평균 계산
      * 오늘을 미포함한 7일간의 전체 잔반율 평균을 계산합니다.
@@ -345,20 +434,16 @@ public class StudentServiceImpl implements StudentService {
         log.info("한 주간 전체 잔반율 계산 - 학생: {}, 기간: {} ~ {} (오늘 미포함 7일간)",
                 student.getStudentName(), startDate, endDate);
 
-        // 해당 기간의 잔반 데이터 조회
-        List<Leftover> weeklyLeftovers = leftoverRepository
-                .findByStudentAndLeftoverDateBetween(student, startDate, endDate);
+        // 해당 기간의 학생별 일 집계에서 전체 잔반율 평균 계산
+        Optional<Double> weeklyAverage = leftoverRollupService
+                .getStudentAverage(student.getId(), startDate, endDate);
 
-        if (weeklyLeftovers.isEmpty()) {
+        if (weeklyAverage.isEmpty()) {
             log.info("한 주간 잔반 데이터 없음 - 학생: {}", student.getStudentName());
             return 0.0f;
         }
 
-        // 전체 잔반율 평균 계산
-        double average = weeklyLeftovers.stream()
-                .mapToDouble(leftover -> leftover.getLeftoverRate().doubleValue())
-                .average()
-                .orElse(0.0);
+        double average = weeklyAverage.get();
 
         // HealthReportService와 동일한 DecimalFormat 적용
         Float result = Float.parseFloat(df.format(average));
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ssafy.baperang.domain.user.entity.User;
+import com.ssafy.baperang.global.tenant.TenantContext;
 
 
 @Repository
@@ -18,6 +19,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 로그인 아이디로 사용자 찾기
     Optional<User> findByLoginId(String loginId);
 
+    // 사용자 소속 학교 정보만 한 번의 조인으로 조회 (TenantResolver용)
+    @Query("SELECT new com.ssafy.baperang.global.tenant.TenantContext(u.id, s.id, s.schoolName, s.city) " +
+            "FROM User u JOIN u.school s WHERE u.id = :userId")
+    Optional<TenantContext> findTenantById(@Param("userId") Long userId);
+
     // 영양사 이름, 학교명, 도시로 사용자 찾기 (아이디 찾기용)
     @Query("SELECT u FROM User u WHERE u.nutritionistName = :nutritionistName " +
             "AND u.school.schoolName = :schoolName AND u.school.city = :city")
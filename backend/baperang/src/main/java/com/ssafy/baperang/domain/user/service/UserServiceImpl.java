@@ -2,18 +2,21 @@ package com.ssafy.baperang.domain.user.service;
 
 import com.ssafy.baperang.domain.user.dto.request.*;
 import com.ssafy.baperang.domain.user.dto.response.*;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.ssafy.baperang.domain.school.entity.School;
 import com.ssafy.baperang.domain.school.repository.SchoolRepository;
 import com.ssafy.baperang.domain.user.dto.response.ValidateTokenResponseDto;
 import com.ssafy.baperang.domain.user.entity.User;
 import com.ssafy.baperang.domain.user.repository.UserRepository;
+import com.ssafy.baperang.global.exception.BaperangCustomException;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
 import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.password.PasswordHasher;
+import com.ssafy.baperang.global.tenant.TenantResolver;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,8 +29,9 @@ public class UserServiceImpl implements UserService{
 
     private final UserRepository userRepository;
     private final SchoolRepository schoolRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final TenantResolver tenantResolver;
 
     @Transactional
     public Object signup(SignupRequestDto requestDto) {
@@ -38,6 +42,9 @@ public class UserServiceImpl implements UserService{
         }
 
         try {
+            // 해시 풀이 포화되어 거절되더라도 학교가 먼저 생성되지 않도록 가장 먼저 암호화
+            String encodedPassword = passwordHasher.encode(requestDto.getPassword());
+
             School school = schoolRepository.findBySchoolNameAndCity(
                             requestDto.getSchoolName(), requestDto.getCity())
                     .orElseGet(() -> {
@@ -49,8 +56,6 @@ public class UserServiceImpl implements UserService{
                         return schoolRepository.saveAndFlush(newSchool);
                     });
 
-            String encodedPassword = bCryptPasswordEncoder.encode(requestDto.getPassword());
-
             User user = User.builder()
                     .loginId(requestDto.getLoginId())
                     .password(encodedPassword)
@@ -72,6 +77,10 @@ public class UserServiceImpl implements UserService{
                     .message("회원가입이 완료 되었습니다.")
                     .content(content)
                     .build();
+        } catch (BaperangCustomException e) {
+            // 비밀번호 해시 풀 포화 시 503으로 바로 응답
+            log.info("signup - 비밀번호 해시 요청 거절: {}", e.getMessage());
+            return ErrorResponseDto.of(e.getErrorCode());
         } catch (Exception e) {
             log.info("signup 함수 예외 발생: {}", e.getMessage());
             // 예외 발생 시 서버 내부 오류로 처리
@@ -87,7 +96,7 @@ public class UserServiceImpl implements UserService{
         return result;
     }
 
-    @Transactional(readOnly = true)
+    // 트랜잭션을 걸지 않음: 비밀번호 검증 대기 중에 DB 커넥션을 잡고 있지 않도록 조회만 리포지토리 트랜잭션으로 처리
     public Object login(LoginRequestDto requestDto, HttpServletResponse response) {
         log.info("login 함수 실행");
         // 로그인 ID 확인
@@ -101,7 +110,7 @@ public class UserServiceImpl implements UserService{
         }
 
         // 비밀번호 확인
-        if (!bCryptPasswordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(requestDto.getPassword(), user.getPassword())) {
             log.info("login - 비밀번호 불일치");
             return ErrorResponseDto.of(BaperangErrorCode.INVALID_LOGIN_VALUE);
         }
@@ -281,8 +290,11 @@ public class UserServiceImpl implements UserService{
                         user.getNutritionistName(), requestDto.getNutritionistName());
             }
 
-            // 비밀번호 변경 검사
+            // 비밀번호 변경 검사 및 암호화
+            // 해시 풀 포화로 거절되면 학교를 새로 만들기 전에 응답하도록 가장 먼저 수행 (signup과 같은 순서)
+            String encodedPassword = null;
             if (requestDto.getPassword() != null && !requestDto.getPassword().isEmpty()) {
+                encodedPassword = passwordHasher.encode(requestDto.getPassword());
                 messageBuilder.append("비밀번호가 변경되었습니다. ");
                 log.info("updateUser - 비밀번호 변경됨");
             }
@@ -323,12 +335,6 @@ public class UserServiceImpl implements UserService{
                 log.info("updateUser - 변경 사항 없음");
             }
 
-            // 비밀번호 암호화 (비밀번호가 변경된 경우에만)
-            String encodedPassword = null;
-            if (requestDto.getPassword() != null && !requestDto.getPassword().isEmpty()) {
-                encodedPassword = bCryptPasswordEncoder.encode(requestDto.getPassword());
-            }
-
             // 사용자 정보 업데이트
             user.updateUser(
                     requestDto.getNutritionistName(),
@@ -339,6 +345,11 @@ public class UserServiceImpl implements UserService{
             // 변경 사항 저장
             userRepository.saveAndFlush(user);
 
+            // 소속 학교가 바뀌었으면 커밋 후 학교 정보 캐시에서 제거
+            if (schoolChanged) {
+                tenantResolver.evictAfterCommit(user.getId());
+            }
+
             // 응답 DTO 생성
             UpdateUserResponseDto.UpdateUserContent content = UpdateUserResponseDto.UpdateUserContent.builder()
                     .loginId(user.getLoginId())
@@ -353,8 +364,15 @@ public class UserServiceImpl implements UserService{
                     .content(content)
                     .build();
 
+        } catch (BaperangCustomException e) {
+            // 비밀번호 해시 풀 포화 시 503으로 바로 응답
+            log.info("updateUser - 비밀번호 해시 요청 거절: {}", e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ErrorResponseDto.of(e.getErrorCode());
         } catch (Exception e) {
             log.info("updateUser 함수 예외 발생: {}", e.getMessage());
+            // 이미 만든 학교 등 변경 사항이 커밋되지 않도록 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
@@ -462,7 +480,7 @@ public class UserServiceImpl implements UserService{
             }
 
             // 새 비밀번호 암호화
-            String encodedNewPassword = bCryptPasswordEncoder.encode(requestDto.getNewPassword());
+            String encodedNewPassword = passwordHasher.encode(requestDto.getNewPassword());
 
             // 비밀번호 업데이트 (User 엔티티의 updateUser 메서드 활용)
             user.updateUser(null, encodedNewPassword, null);
@@ -477,6 +495,10 @@ public class UserServiceImpl implements UserService{
                     .message("비밀번호 변경이 완료 되었습니다.")
                     .build();
 
+        } catch (BaperangCustomException e) {
+            // 비밀번호 해시 풀 포화 시 503으로 바로 응답
+            log.info("changePassword - 비밀번호 해시 요청 거절: {}", e.getMessage());
+            return ErrorResponseDto.of(e.getErrorCode());
         } catch (Exception e) {
             log.error("changePassword 함수 예외 발생: {}", e.getMessage(), e);
             return ErrorResponseDto.of(BaperangErrorCode.INTERNAL_SERVER_ERROR);
@@ -3,157 +3,175 @@ package com.ssafy.baperang.global.config;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.annotation.Order;
-import org.springframework.dao.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import com.ssafy.baperang.global.seed.SeedChecksums;
+import com.ssafy.baperang.global.seed.SeedMetadataRepository;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 학교 시드 데이터(school_data.csv) 적재
+ * - 애플리케이션이 요청을 받을 수 있게 된 뒤(ApplicationReadyEvent) 백그라운드 스레드에서 실행
+ * - 파일 해시가 seed_metadata에 기록된 값과 같으면 PK 조회 한 번으로 건너뜀
+ * - 파일을 한 번만 읽으며 파싱하고, 아직 없는 (학교명, 시도명)만 JDBC 배치로 추가
+ *   (rewriteBatchedStatements로 multi-row INSERT 전송)
+ */
 @Slf4j
 @Component
-@Order(1)
-public class CsvDataLoader implements CommandLineRunner {
+@RequiredArgsConstructor
+public class CsvDataLoader {
+
+    private static final String SCHOOL_SEED = "school_data.csv";
+    // EUC-KR 확장 (일부 학교명 한글이 EUC-KR에 없음)
+    private static final Charset SEED_CHARSET = Charset.forName("MS949");
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SCHOOL_SQL =
+            "INSERT INTO school (school_name, city, created_at, updated_at) VALUES (?, ?, ?, ?)";
 
     private final JdbcTemplate jdbcTemplate;
-    private int totalLines = 0;
-    private int processedLines = 0;
-    private int failedLines = 0;
+    private final SeedMetadataRepository seedMetadataRepository;
+    private final SeedChecksums seedChecksums;
 
-    @Autowired
-    public CsvDataLoader(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
-    }
+    @Value("${seed.school.enabled:true}")
+    private boolean enabled;
 
-    @Override
-    public void run(String... args) throws Exception {
-        // 데이터베이스 테이블에 이미 데이터가 있는지 확인
-        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM school", Integer.class);
-        
-        if (count != null && count > 10) {
-            log.info("School 테이블에 이미 {} 개의 데이터가 존재합니다. CSV 로드를 건너뜁니다.", count);
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!enabled) {
+            log.info("학교 시드 데이터 적재 비활성화");
             return;
         }
-        
-        log.info("School 테이블이 비어 있습니다. CSV 파일에서 학교 데이터 로드를 시작합니다.");
-        loadSchoolData();
-        log.info("완료: 총 {} 라인 중 {} 라인 처리 성공, {} 라인 실패", 
-                 totalLines, processedLines, failedLines);
+
+        Thread loader = new Thread(this::loadSchoolSeed, "seed-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
-    private void loadSchoolData() {
+    private void loadSchoolSeed() {
+        long startNanos = System.nanoTime();
+        try {
+            String checksum = seedChecksums.checksumOf(SCHOOL_SEED);
+            Optional<String> loadedChecksum = seedMetadataRepository.findChecksum(SCHOOL_SEED);
+
+            if (loadedChecksum.isPresent() && loadedChecksum.get().equals(checksum)) {
+                log.info("학교 시드 데이터가 마지막 적재와 같아 건너뜁니다. ({}ms)", elapsedMs(startNanos));
+                return;
+            }
+
+            log.info("학교 시드 데이터 적재 시작 - checksum: {}", checksum);
+            int[] result = loadSchoolData();
+
+            long elapsedMs = elapsedMs(startNanos);
+            seedMetadataRepository.save(SCHOOL_SEED, checksum, result[0], elapsedMs);
+            log.info("완료: 총 {} 라인 중 {} 라인 추가, {} 라인 기존 데이터, {} 라인 실패 ({}ms)",
+                    result[0], result[1], result[2], result[3], elapsedMs);
+        } catch (Exception e) {
+            log.error("학교 데이터 로드 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return {전체 라인, 추가, 기존 데이터, 실패}
+     */
+    private int[] loadSchoolData() throws Exception {
+        // 이미 있는 학교는 다시 넣지 않음 (기존 DB에 처음 적용할 때도 중복 없이 기록만 남김)
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT school_name, city FROM school",
+                rs -> {
+                    existing.add(rs.getString("school_name") + "|" + rs.getString("city"));
+                });
+
+        int totalLines = 0;
+        int insertedLines = 0;
+        int existingLines = 0;
+        int failedLines = 0;
+
         try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(
-                        Objects.requireNonNull(getClass().getResourceAsStream("/school_data.csv")),
-                        Charset.forName("EUC-KR")))) {
+                new InputStreamReader(new ClassPathResource(SCHOOL_SEED).getInputStream(), SEED_CHARSET))) {
 
-            // 전체 라인 수 미리 계산
-            countTotalLines();
-            
             // 헤더 스킵
             String line = reader.readLine();
             if (line != null) {
                 log.info("CSV 헤더: {}", line);
             }
-            
-            List<Object[]> batch = new ArrayList<>();
-            int batchCount = 0;
-            
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
             while ((line = reader.readLine()) != null) {
-                try {
-                    String[] data = line.split(",");
-                    if (data.length >= 2) {
-                        String schoolName = data[0].trim();
-                        String city = data[1].trim();
-                        LocalDateTime now = LocalDateTime.now();
-                        
-                        // 데이터 검증
-                        if (schoolName.isEmpty() || city.isEmpty()) {
-                            log.warn("유효하지 않은 데이터 스킵: {}", line);
-                            failedLines++;
-                            continue;
-                        }
-                        
-                        batch.add(new Object[]{schoolName, city, now, now});
-                        
-                        // 500개씩 배치 처리
-                        if (batch.size() >= 500) {
-                            int inserted = executeBatch(batch);
-                            processedLines += inserted;
-                            batchCount++;
-                            log.info("배치 #{} 처리 완료: {} 레코드 삽입", batchCount, inserted);
-                            batch.clear();
-                        }
-                    } else {
-                        log.warn("열 수가 부족한 행 스킵: {}", line);
-                        failedLines++;
-                    }
-                } catch (Exception e) {
-                    log.error("행 처리 중 오류 발생: {}, 오류: {}", line, e.getMessage());
+                totalLines++;
+
+                // 열이 2개뿐이므로 split 대신 첫 쉼표 위치로 분리
+                int comma = line.indexOf(',');
+                if (comma < 0) {
+                    log.warn("열 수가 부족한 행 스킵: {}", line);
                     failedLines++;
+                    continue;
+                }
+
+                String schoolName = line.substring(0, comma).trim();
+                String city = line.substring(comma + 1).trim();
+
+                // 데이터 검증
+                if (schoolName.isEmpty() || city.isEmpty()) {
+                    log.warn("유효하지 않은 데이터 스킵: {}", line);
+                    failedLines++;
+                    continue;
+                }
+
+                if (!existing.add(schoolName + "|" + city)) {
+                    existingLines++;
+                    continue;
+                }
+
+                batch.add(new Object[]{schoolName, city, now, now});
+                if (batch.size() >= BATCH_SIZE) {
+                    insertedLines += executeBatch(batch);
+                    batch.clear();
                 }
             }
-            
-            // 남은 배치 처리
-            if (!batch.isEmpty()) {
-                int inserted = executeBatch(batch);
-                processedLines += inserted;
-                batchCount++;
-                log.info("마지막 배치 #{} 처리 완료: {} 레코드 삽입", batchCount, inserted);
-            }
-            
-            // 실제 처리된 데이터 수 확인
-            int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM school", Integer.class);
-            log.info("데이터베이스의 school 테이블 레코드 수: {}", count);
-            
-        } catch (Exception e) {
-            log.error("학교 데이터 로드 중 오류 발생: {}", e.getMessage(), e);
-        }
-    }
-    
-    private void countTotalLines() {
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(
-                        Objects.requireNonNull(getClass().getResourceAsStream("/school_data.csv")),
-                        Charset.forName("EUC-KR")))) {
-            
-            totalLines = 0;
-            while (reader.readLine() != null) {
-                totalLines++;
-            }
-            log.info("CSV 파일 총 라인 수: {} (헤더 포함)", totalLines);
-            
-        } catch (Exception e) {
-            log.error("총 라인 수 계산 중 오류 발생: {}", e.getMessage());
+
+            insertedLines += executeBatch(batch);
         }
+
+        return new int[]{totalLines, insertedLines, existingLines, failedLines};
     }
-    
+
     private int executeBatch(List<Object[]> batch) {
-        try {
-            int[] updateCounts = jdbcTemplate.batchUpdate(
-                    "INSERT INTO school (school_name, city, created_at, updated_at) VALUES (?, ?, ?, ?)",
-                    batch
-            );
-            
-            // 실제 삽입된 레코드 수 계산
-            int inserted = 0;
-            for (int count : updateCounts) {
-                if (count > 0) {
-                    inserted += count;
-                }
-            }
-            return inserted;
-            
-        } catch (DataAccessException e) {
-            log.error("배치 실행 중 데이터베이스 오류: {}", e.getMessage());
+        if (batch.isEmpty()) {
             return 0;
         }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(INSERT_SCHOOL_SQL, batch);
+
+        // 재작성된 배치는 행별 건수 대신 SUCCESS_NO_INFO를 돌려줄 수 있음
+        int inserted = 0;
+        for (int count : updateCounts) {
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
-}
\ No newline at end of file
+}
@@ -31,6 +31,9 @@ public enum BaperangErrorCode {
 
     // 서버 에러 (500-599)
     INTERNAL_SERVER_ERROR(500, "S001", "서버 내부 오류가 발생했습니다."),
+    PASSWORD_HASHING_BUSY(503, "S002", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    MENU_IMPORT_BUSY(503, "S003", "식단 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_SERVER_BUSY(503, "S004", "AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 닉네임 관련 에러 (400-499)
     DUPLICATE_NICKNAME(409, "N001", "이미 사용 중인 닉네임입니다."),
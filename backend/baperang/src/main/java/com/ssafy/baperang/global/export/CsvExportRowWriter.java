@@ -0,0 +1,74 @@
+package com.ssafy.baperang.global.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV writer (UTF-8 BOM 포함, 엑셀에서 한글이 깨지지 않도록)
+ */
+public class CsvExportRowWriter implements ExportRowWriter {
+
+    private final BufferedWriter writer;
+    private boolean headerWritten;
+
+    public CsvExportRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+
+        // 헤더는 바로 보내서 클라이언트가 다운로드 시작을 빨리 알 수 있게 함
+        if (!headerWritten) {
+            headerWritten = true;
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        // 메뉴명 등 사용자/AI 입력이 수식으로 실행되지 않도록 문자열로 고정 (숫자 값은 그대로)
+        if (!(value instanceof Number) && startsLikeFormula(text)) {
+            text = "'" + text;
+        }
+
+        boolean needsQuote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsLikeFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
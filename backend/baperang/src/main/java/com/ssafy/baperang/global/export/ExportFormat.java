@@ -0,0 +1,41 @@
+package com.ssafy.baperang.global.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 내보내기 파일 형식
+ */
+public enum ExportFormat {
+
+    CSV("csv", MediaType.parseMediaType("text/csv; charset=UTF-8")),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // 요청 파라미터(csv, xlsx) 변환, 지원하지 않는 형식이면 null
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
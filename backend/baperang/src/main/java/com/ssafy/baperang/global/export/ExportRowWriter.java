@@ -0,0 +1,28 @@
+package com.ssafy.baperang.global.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 행 단위로 바로 출력 스트림에 기록하는 내보내기 writer
+ * 행을 메모리에 모아두지 않으므로 행 수와 관계없이 메모리 사용량이 일정함
+ */
+public interface ExportRowWriter extends AutoCloseable {
+
+    // 값은 String, Number, LocalDate, null 지원
+    void writeRow(Object... values) throws IOException;
+
+    // 남은 내용을 출력 스트림에 기록 (출력 스트림 자체는 닫지 않음)
+    @Override
+    void close() throws IOException;
+
+    static ExportRowWriter open(ExportFormat format, OutputStream out, String sheetName, List<String> headers)
+            throws IOException {
+        ExportRowWriter writer = format == ExportFormat.XLSX
+                ? new XlsxExportRowWriter(out, sheetName)
+                : new CsvExportRowWriter(out);
+        writer.writeRow(headers.toArray());
+        return writer;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.baperang.global.export;
+
+import lombok.Getter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍 내보내기 결과 (파일명, 형식, 응답 본문 writer)
+ * 본문은 컨트롤러 반환 후 응답 스트림에 직접 기록됨
+ */
+@Getter
+public class StreamingExport {
+
+    private final String fileName;
+    private final ExportFormat format;
+    private final StreamingResponseBody body;
+
+    public StreamingExport(String baseName, ExportFormat format, StreamingResponseBody body) {
+        this.fileName = baseName + "." + format.getExtension();
+        this.format = format;
+        this.body = body;
+    }
+
+    public ResponseEntity<StreamingResponseBody> toResponseEntity() {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(fileName, StandardCharsets.UTF_8)
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.baperang.global.jwt;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,13 +32,12 @@ public class JwtFilter extends OncePerRequestFilter {
         // 토큰 추출
         String token = getTokenFromHeader(authorizationHeader);
         
-        // 토큰 유효성 검사 및 Authentication 설정
-        if (StringUtils.hasText(token) && jwtService.validateToken(token)) {
-            String loginId = jwtService.getLoginId(token);
-            
-            // 인증 정보 생성
+        // 토큰 서명/만료는 여기서 한 번만 검증하고, 이후 컨트롤러와 서비스는 principal을 사용
+        JwtPrincipal principal = StringUtils.hasText(token) ? jwtService.authenticate(token) : null;
+        if (principal != null) {
+            // 인증 정보 생성 (credentials에 원본 토큰을 두어 JwtService가 같은 토큰 재검증을 생략)
             UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(loginId, null, null);
+                    new UsernamePasswordAuthenticationToken(principal, token, Collections.emptyList());
             
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             
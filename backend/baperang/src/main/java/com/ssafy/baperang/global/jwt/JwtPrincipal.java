@@ -0,0 +1,18 @@
+package com.ssafy.baperang.global.jwt;
+
+import java.time.Instant;
+
+/**
+ * JwtFilter가 요청마다 한 번 검증한 토큰의 인증 정보
+ * SecurityContext의 principal로 등록되며, 컨트롤러는 @AuthenticationPrincipal로 받아 서비스에 전달
+ *
+ * @param userId    사용자 PK (userId 클레임이 없는 토큰이면 null)
+ * @param loginId   로그인 아이디
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(Long userId, String loginId, Instant expiresAt) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -7,17 +7,21 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.crypto.SecretKey;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import com.ssafy.baperang.domain.user.repository.UserRepository;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -36,18 +40,27 @@ public class JwtService {
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidTime;
 
-    private final UserRepository userRepository;
+
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
     // TimeZone 설정 추가
     private final ZoneId seoulZoneId = ZoneId.of("Asia/Seoul");
 
+    // 서명 키와 파서는 초기화 때 한 번만 생성해서 재사용 (둘 다 thread-safe)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     // 객채 초기화, secretKey를 Base64로 인코딩
     @PostConstruct
     protected void init() {
         logger.info("JWT token Initialization");
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     // JWT 액세스 토큰 생성
@@ -80,7 +93,7 @@ public class JwtService {
                 .claims(claims)
                 .issuedAt(nowDate)
                 .expiration(validityDate)
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -107,29 +120,69 @@ public class JwtService {
                 .claims(claims)
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + validityInMilliseconds))
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
+                .signWith(signingKey)
                 .compact();
     }
     
+    /**
+     * 토큰 서명과 만료를 한 번 검증하고 인증 정보를 만듦 (JwtFilter에서 요청당 한 번 호출)
+     * 최근에 검증한 토큰이면 VerifiedTokenCache의 결과를 재사용
+     * @return 유효하지 않거나 만료된 토큰이면 null
+     */
+    public JwtPrincipal authenticate(String token) {
+        return verifiedTokenCache.getOrVerify(token, this::verify);
+    }
+
+    public VerifiedTokenCache.CacheStats getVerifiedCacheStats() {
+        return verifiedTokenCache.stats();
+    }
+
+    private JwtPrincipal verify(String token) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+
+        if (claims.getExpiration().before(new Date())) {
+            return null;
+        }
+
+        return new JwtPrincipal(claims.get("userId", Long.class), claims.get("loginId", String.class),
+                claims.getExpiration().toInstant());
+    }
+
     // 토큰에서 회원 정보 추출
     public String getLoginId(String token) {
+        JwtPrincipal principal = verifiedPrincipal(token);
+        if (principal != null) {
+            return principal.loginId();
+        }
         Claims claims = parseClaims(token);
         return claims.get("loginId", String.class);
     }
 
     // 토큰에서 userId 추출
     public Long getUserId(String token) {
+        JwtPrincipal principal = verifiedPrincipal(token);
+        if (principal != null) {
+            return principal.userId();
+        }
         Claims claims = parseClaims(token);
         return claims.get("userId", Long.class);
     }
     
     // 토큰의 유효성 + 만료일자 확인
     public boolean validateToken(String token) {
+        JwtPrincipal principal = verifiedPrincipal(token);
+        if (principal != null) {
+            return !principal.isExpired();
+        }
+
         try {
-            Jws<Claims> claims = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                    .build()
-                    .parseSignedClaims(token);
+            Jws<Claims> claims = jwtParser.parseSignedClaims(token);
             
             return !claims.getPayload().getExpiration().before(new Date());
         } catch (JwtException | IllegalArgumentException e) {
@@ -137,14 +190,22 @@ public class JwtService {
             return false;
         }
     }
+
+    // 같은 토큰을 이번 요청에서 JwtFilter가 이미 검증했으면 그 결과를 재사용 (서명 재검증 생략)
+    private JwtPrincipal verifiedPrincipal(String token) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && token != null && token.equals(authentication.getCredentials())) {
+            return principal;
+        }
+        return null;
+    }
     
     // 토큰에서 클레임 정보 파싱
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                    .build()
-                    .parseSignedClaims(token)
+            return jwtParser.parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
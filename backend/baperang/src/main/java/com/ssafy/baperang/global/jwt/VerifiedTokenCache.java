@@ -0,0 +1,207 @@
+package com.ssafy.baperang.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증이 끝난 액세스 토큰 캐시 (토큰 SHA-256 → JwtPrincipal)
+ * - 대시보드가 같은 토큰으로 반복 호출할 때 HMAC 검증과 클레임 파싱을 생략
+ * - 원본 토큰 대신 해시를 키로 보관하고, 유효하지 않은 토큰은 캐시하지 않음
+ * - 항목은 토큰 만료 시각과 ttl-seconds 중 빠른 시점까지만 사용
+ * - 조회는 ConcurrentHashMap만 사용해 락이 없음
+ * - 만료 항목은 sweep-interval-seconds마다 별도 스레드에서 정리 (요청 스레드에서 전체 순회하지 않음)
+ * - max-entries를 넘으면 한 스레드만 max-entries의 90%까지 임의 순서로 한 번에 제거 (미적중마다 순회하지 않도록)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.verified-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${jwt.verified-cache.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    // 넘쳤을 때 줄이는 목표 크기 비율
+    private static final double TRIM_RATIO = 0.9;
+
+    private long ttlMillis;
+    private int trimTarget;
+
+    private ScheduledExecutorService sweeper;
+
+    // 다른 스레드가 이미 크기를 줄이는 중인지
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    private final Map<String, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // 요청당 인증 비용 비교용 (적중: 해시 + 조회, 미적중: 해시 + 서명 검증)
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.trimTarget = (int) (maxEntries * TRIM_RATIO);
+
+        if (enabled) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "verified-token-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::sweepExpiredSafely,
+                    sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시된 principal을 반환하고, 없으면 verifier로 검증한 결과를 저장 후 반환
+     * @return verifier가 null을 반환하면(유효하지 않은 토큰) null
+     */
+    public JwtPrincipal getOrVerify(String token, Function<String, JwtPrincipal> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        long startTime = System.nanoTime();
+        String key = sha256(token);
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached = cache.get(key);
+        if (cached != null) {
+            if (cached.validUntilMillis() > now) {
+                hits.increment();
+                hitNanos.add(System.nanoTime() - startTime);
+                return cached.principal();
+            }
+            cache.remove(key, cached);
+        }
+
+        JwtPrincipal principal = verifier.apply(token);
+        if (principal != null) {
+            long validUntil = Math.min(principal.expiresAt().toEpochMilli(), now + ttlMillis);
+            cache.put(key, new CachedPrincipal(principal, validUntil));
+            evictIfFull();
+        }
+
+        misses.increment();
+        missNanos.add(System.nanoTime() - startTime);
+        return principal;
+    }
+
+    public void evictAll() {
+        cache.clear();
+        log.info("검증 토큰 캐시 전체 제거");
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), cache.size(),
+                hitNanos.sum(), missNanos.sum());
+    }
+
+    // 만료 항목 정리 (sweeper 스레드)
+    void sweepExpired() {
+        long now = System.currentTimeMillis();
+        cache.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().validUntilMillis() <= now;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+    }
+
+    private void sweepExpiredSafely() {
+        try {
+            sweepExpired();
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 예약 실행이 멈추므로 기록만 함
+            log.warn("검증 토큰 캐시 만료 항목 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void evictIfFull() {
+        if (cache.size() <= maxEntries || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            // 순회 순서(해시 순서라 사실상 임의)대로 목표 크기까지 한 번에 제거
+            Iterator<String> iterator = cache.keySet().iterator();
+            while (cache.size() > trimTarget && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static String sha256(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedPrincipal(JwtPrincipal principal, long validUntilMillis) {
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int entries,
+                             long hitNanos, long missNanos) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        // 캐시 적중 시 요청당 평균 인증 비용
+        public double avgHitMicros() {
+            return hits == 0 ? 0.0 : hitNanos / 1000.0 / hits;
+        }
+
+        // 캐시 미적중(전체 검증) 시 요청당 평균 인증 비용
+        public double avgMissMicros() {
+            return misses == 0 ? 0.0 : missNanos / 1000.0 / misses;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ssafy.baperang.global.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.ssafy.baperang.global.exception.BaperangCustomException;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해시/검증 전용 스레드 풀
+ * - 출근 시간 로그인 폭주 때 BCrypt가 Tomcat 요청 스레드를 모두 점유하지 않도록 동시 실행 수를 threads로 제한
+ * - 대기열(queue-capacity)이 가득 차거나 max-wait-ms 안에 끝나지 않으면 바로 503(PASSWORD_HASHING_BUSY)
+ * - 대기 시간과 해시 시간을 따로 누적해서 포화 여부 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    @Value("${auth.password-hashing.threads:2}")
+    private int threads;
+
+    @Value("${auth.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hashing.max-wait-ms:3000}")
+    private long maxWaitMillis;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // 대기열이 가득 차면 AbortPolicy로 즉시 거절 (호출 스레드에서 대신 실행하지 않음)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해시 스레드 풀 초기화 완료 (스레드 {}개, 대기열 {}개, 최대 대기 {}ms)",
+                threads, queueCapacity, maxWaitMillis);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+        log.info("비밀번호 해시 스레드 풀 종료");
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public HashingStats stats() {
+        return new HashingStats(completed.sum(), rejected.sum(), timedOut.sum(),
+                queueWaitNanos.sum(), hashNanos.sum(), executor.getQueue().size(), executor.getActiveCount());
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return hashing.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 포화 - 요청 거절 (대기 {}건)", executor.getQueue().size());
+            throw new BaperangCustomException(BaperangErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("비밀번호 해시 대기 시간 초과 - {}ms", maxWaitMillis);
+            throw new BaperangCustomException(BaperangErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BaperangCustomException(BaperangErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    private ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public record HashingStats(long completed, long rejected, long timedOut,
+                               long queueWaitNanos, long hashNanos, int queued, int active) {
+
+        // 실행된 해시 한 건당 평균 대기열 대기 시간
+        public double avgQueueWaitMillis() {
+            return completed == 0 ? 0.0 : queueWaitNanos / 1_000_000.0 / completed;
+        }
+
+        // 실행된 해시 한 건당 평균 BCrypt 계산 시간
+        public double avgHashMillis() {
+            return completed == 0 ? 0.0 : hashNanos / 1_000_000.0 / completed;
+        }
+    }
+}
@@ -12,8 +12,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.ssafy.baperang.global.performance.model.ControllerPerformance;
-import com.ssafy.baperang.global.performance.repository.ControllerPerformanceRepository;
+import com.ssafy.baperang.global.performance.histogram.EndpointLatencyRegistry;
+import com.ssafy.baperang.global.performance.model.PerformanceRecord;
+import com.ssafy.baperang.global.performance.recorder.PerformanceRecordWriter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -25,11 +26,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ControllerPerformanceAspect {
 
-    private final ControllerPerformanceRepository repository;
+    private final PerformanceRecordWriter performanceRecordWriter;
+    private final EndpointLatencyRegistry latencyRegistry;
 
     @Around("execution(* com.ssafy.baperang.domain.*.controller.*.*(..))")
     public Object measureExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
+        // 벽시계 보정의 영향을 받지 않도록 nanoTime으로 측정
+        long startTime = System.nanoTime();
         
         Object result = null;
         Boolean isSuccess = true;
@@ -58,7 +61,7 @@ public class ControllerPerformanceAspect {
             // 예외를 다시 던져서 원래 예외 처리 로직이 동작하도록 함
             throw e;
         } finally {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long executionTimeNanos = System.nanoTime() - startTime;
             
             // Get method details
             MethodSignature signature = (MethodSignature) joinPoint.getSignature();
@@ -71,20 +74,19 @@ public class ControllerPerformanceAspect {
             String requestPath = request.getRequestURI();
             String httpMethod = request.getMethod();
             
-            // Create and save performance record
-            ControllerPerformance performance = ControllerPerformance.builder()
-                    .controllerName(controllerName)
-                    .methodName(methodName)
-                    .executionTimeMs(executionTime)
-                    .timestamp(LocalDateTime.now())
-                    .requestPath(requestPath)
-                    .httpMethod(httpMethod)
-                    .isSuccess(isSuccess)
-                    .statusCode(statusCode)
-                    .errorMessage(errorMessage)
-                    .build();
-            
-            repository.save(performance);
+            latencyRegistry.record(controllerName, methodName, statusCode, executionTimeNanos);
+
+            // 요청 스레드에서는 버퍼에 추가만 하고 저장은 기록 스레드가 배치로 처리
+            performanceRecordWriter.record(new PerformanceRecord(
+                    controllerName,
+                    methodName,
+                    executionTimeNanos,
+                    LocalDateTime.now(),
+                    requestPath,
+                    httpMethod,
+                    isSuccess,
+                    statusCode,
+                    errorMessage));
         }
     }
 } 
\ No newline at end of file
@@ -1,12 +1,25 @@
 package com.ssafy.baperang.global.performance.controller;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.jwt.VerifiedTokenCache;
+import com.ssafy.baperang.global.password.PasswordHasher;
+import com.ssafy.baperang.global.performance.dto.JwtCacheStatsResponseDto;
+import com.ssafy.baperang.global.performance.dto.PasswordHashingStatsResponseDto;
+import com.ssafy.baperang.global.performance.dto.PerformanceSummaryResponseDto;
+import com.ssafy.baperang.global.performance.histogram.EndpointLatencyRegistry;
+import com.ssafy.baperang.global.performance.histogram.LatencySnapshot;
+import com.ssafy.baperang.global.performance.histogram.LatencyWindow;
 import com.ssafy.baperang.global.performance.model.ControllerPerformance;
+import com.ssafy.baperang.global.performance.recorder.PerformanceRecordWriter;
 import com.ssafy.baperang.global.performance.repository.ControllerPerformanceRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,9 +30,82 @@ import lombok.RequiredArgsConstructor;
 public class PerformanceController {
 
     private final ControllerPerformanceRepository repository;
+    private final JwtService jwtService;
+    private final PasswordHasher passwordHasher;
+    private final EndpointLatencyRegistry latencyRegistry;
+    private final PerformanceRecordWriter performanceRecordWriter;
 
     @GetMapping
     public Page<ControllerPerformance> getPerformanceData(Pageable pageable) {
         return repository.findAll(pageable);
     }
-} 
\ No newline at end of file
+
+    // 검증 토큰 캐시 적중률과 요청당 평균 인증 비용
+    @GetMapping("/jwt-cache")
+    public JwtCacheStatsResponseDto getJwtCacheStats() {
+        VerifiedTokenCache.CacheStats stats = jwtService.getVerifiedCacheStats();
+        return JwtCacheStatsResponseDto.builder()
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRatio(stats.hitRatio())
+                .evictions(stats.evictions())
+                .entries(stats.entries())
+                .avgHitMicros(stats.avgHitMicros())
+                .avgMissMicros(stats.avgMissMicros())
+                .build();
+    }
+
+    // 비밀번호 해시 풀 대기/계산 시간과 거절 건수
+    @GetMapping("/password-hashing")
+    public PasswordHashingStatsResponseDto getPasswordHashingStats() {
+        PasswordHasher.HashingStats stats = passwordHasher.stats();
+        return PasswordHashingStatsResponseDto.builder()
+                .completed(stats.completed())
+                .rejected(stats.rejected())
+                .timedOut(stats.timedOut())
+                .avgQueueWaitMillis(stats.avgQueueWaitMillis())
+                .avgHashMillis(stats.avgHashMillis())
+                .queued(stats.queued())
+                .active(stats.active())
+                .build();
+    }
+
+    // 엔드포인트별 최근 1분/5분/1시간 요청 수, 오류율, 지연 시간 백분위 (메모리 히스토그램 기준)
+    @GetMapping("/summary")
+    public PerformanceSummaryResponseDto getSummary() {
+        List<PerformanceSummaryResponseDto.EndpointSummary> endpoints = new ArrayList<>();
+        for (EndpointLatencyRegistry.EndpointLatency endpoint : latencyRegistry.summarize()) {
+            List<PerformanceSummaryResponseDto.WindowSummary> windows = new ArrayList<>();
+            for (LatencyWindow window : LatencyWindow.values()) {
+                EndpointLatencyRegistry.WindowLatency windowLatency = endpoint.windows().get(window);
+                LatencySnapshot latency = windowLatency.getLatency();
+                windows.add(PerformanceSummaryResponseDto.WindowSummary.builder()
+                        .window(window.getLabel())
+                        .count(latency.getTotalCount())
+                        .errorCount(windowLatency.getErrorCount())
+                        .errorRate(windowLatency.errorRate())
+                        .statusCounts(windowLatency.getStatusCounts())
+                        .avgMillis(latency.avgMillis())
+                        .p50Millis(latency.percentileMillis(50))
+                        .p90Millis(latency.percentileMillis(90))
+                        .p99Millis(latency.percentileMillis(99))
+                        .maxMillis(latency.maxMillis())
+                        .build());
+            }
+            endpoints.add(PerformanceSummaryResponseDto.EndpointSummary.builder()
+                    .controllerName(endpoint.controllerName())
+                    .methodName(endpoint.methodName())
+                    .windows(windows)
+                    .build());
+        }
+
+        PerformanceRecordWriter.WriterStats writerStats = performanceRecordWriter.stats();
+        return PerformanceSummaryResponseDto.builder()
+                .endpoints(endpoints)
+                .histogramRejected(latencyRegistry.getRejectedCount())
+                .recordsWritten(writerStats.written())
+                .recordsDropped(writerStats.dropped())
+                .recordsBuffered(writerStats.buffered())
+                .build();
+    }
+}
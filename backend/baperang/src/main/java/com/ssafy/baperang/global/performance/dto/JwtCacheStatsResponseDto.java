@@ -0,0 +1,22 @@
+package com.ssafy.baperang.global.performance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JwtCacheStatsResponseDto {
+    private long hits;
+    private long misses;
+    // 적중률 (0.0 ~ 1.0)
+    private double hitRatio;
+    private long evictions;
+    private int entries;
+    // 요청당 평균 인증 비용 (적중: 해시 + 캐시 조회, 미적중: 서명 검증 + 클레임 파싱)
+    private double avgHitMicros;
+    private double avgMissMicros;
+}
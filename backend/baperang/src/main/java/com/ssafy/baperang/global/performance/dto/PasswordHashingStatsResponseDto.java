@@ -0,0 +1,23 @@
+package com.ssafy.baperang.global.performance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordHashingStatsResponseDto {
+    private long completed;
+    // 대기열 포화로 503 응답한 건수
+    private long rejected;
+    // max-wait-ms 안에 끝나지 않아 503 응답한 건수
+    private long timedOut;
+    private double avgQueueWaitMillis;
+    private double avgHashMillis;
+    // 현재 대기열 크기와 실행 중인 해시 수
+    private int queued;
+    private int active;
+}
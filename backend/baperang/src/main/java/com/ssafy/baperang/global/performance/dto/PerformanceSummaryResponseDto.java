@@ -0,0 +1,52 @@
+package com.ssafy.baperang.global.performance.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PerformanceSummaryResponseDto {
+    private List<EndpointSummary> endpoints;
+    // 계열 수 제한으로 히스토그램에 기록하지 못한 건수
+    private long histogramRejected;
+    // 측정값 DB 기록기 상태
+    private long recordsWritten;
+    private long recordsDropped;
+    private int recordsBuffered;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EndpointSummary {
+        private String controllerName;
+        private String methodName;
+        private List<WindowSummary> windows;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WindowSummary {
+        // 1m, 5m, 1h
+        private String window;
+        private long count;
+        private long errorCount;
+        private double errorRate;
+        // 상태 코드 대역(2xx, 4xx, 5xx ...)별 건수
+        private Map<String, Long> statusCounts;
+        private double avgMillis;
+        private double p50Millis;
+        private double p90Millis;
+        private double p99Millis;
+        private double maxMillis;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ssafy.baperang.global.performance.histogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (컨트롤러, 메서드, 상태 코드 대역)별 최근 1분/5분/1시간 지연 시간 히스토그램
+ * - 계열 하나당 메모리가 고정이고(약 34KB) 계열 수도 max-series로 제한해 전체 사용량이 고정
+ * - 요약 조회 비용은 계열 수 x 구간 수에만 비례하고 요청 건수와는 무관
+ */
+@Slf4j
+@Component
+public class EndpointLatencyRegistry {
+
+    @Value("${performance.histogram.max-series:256}")
+    private int maxSeries;
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+
+    // max-series를 넘어 기록하지 못한 건수
+    private final LongAdder rejected = new LongAdder();
+
+    public void record(String controllerName, String methodName, int statusCode, long executionTimeNanos) {
+        SeriesKey key = new SeriesKey(controllerName, methodName, statusClassOf(statusCode));
+        Series target = series.get(key);
+        if (target == null) {
+            if (series.size() >= maxSeries) {
+                if (rejected.sum() == 0) {
+                    log.warn("지연 시간 히스토그램 계열 수 제한({}) 도달 - 새 계열은 기록하지 않음", maxSeries);
+                }
+                rejected.increment();
+                return;
+            }
+            target = series.computeIfAbsent(key, ignored -> new Series());
+        }
+        target.record(executionTimeNanos / 1000, System.currentTimeMillis());
+    }
+
+    /**
+     * 엔드포인트(컨트롤러, 메서드)별로 상태 코드 대역을 합친 구간별 요약
+     * 오류는 측정 기록의 isSuccess와 같은 기준(상태 코드 400 이상)
+     */
+    public List<EndpointLatency> summarize() {
+        long now = System.currentTimeMillis();
+        Map<String, EndpointLatency> endpoints = new TreeMap<>();
+
+        for (Map.Entry<SeriesKey, Series> entry : series.entrySet()) {
+            SeriesKey key = entry.getKey();
+            EndpointLatency endpoint = endpoints.computeIfAbsent(
+                    key.controllerName() + "#" + key.methodName(),
+                    ignored -> EndpointLatency.empty(key.controllerName(), key.methodName()));
+
+            for (LatencyWindow window : LatencyWindow.values()) {
+                LatencySnapshot snapshot = new LatencySnapshot();
+                entry.getValue().histograms.get(window).addTo(snapshot, now);
+                if (snapshot.getTotalCount() == 0) {
+                    continue;
+                }
+                endpoint.windows().get(window).add(key.statusClass(), snapshot);
+            }
+        }
+        return new ArrayList<>(endpoints.values());
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    private static String statusClassOf(int statusCode) {
+        return (statusCode / 100) + "xx";
+    }
+
+    private record SeriesKey(String controllerName, String methodName, String statusClass) {
+    }
+
+    private static class Series {
+
+        private final Map<LatencyWindow, RollingLatencyHistogram> histograms = new EnumMap<>(LatencyWindow.class);
+
+        private Series() {
+            for (LatencyWindow window : LatencyWindow.values()) {
+                histograms.put(window, new RollingLatencyHistogram(window));
+            }
+        }
+
+        private void record(long micros, long nowMillis) {
+            for (RollingLatencyHistogram histogram : histograms.values()) {
+                histogram.record(micros, nowMillis);
+            }
+        }
+    }
+
+    public record EndpointLatency(String controllerName, String methodName,
+                                  Map<LatencyWindow, WindowLatency> windows) {
+
+        private static EndpointLatency empty(String controllerName, String methodName) {
+            Map<LatencyWindow, WindowLatency> windows = new EnumMap<>(LatencyWindow.class);
+            for (LatencyWindow window : LatencyWindow.values()) {
+                windows.put(window, new WindowLatency());
+            }
+            return new EndpointLatency(controllerName, methodName, windows);
+        }
+    }
+
+    public static class WindowLatency {
+
+        private final LatencySnapshot latency = new LatencySnapshot();
+        private final Map<String, Long> statusCounts = new TreeMap<>();
+        private long errorCount;
+
+        private void add(String statusClass, LatencySnapshot snapshot) {
+            latency.merge(snapshot);
+            statusCounts.merge(statusClass, snapshot.getTotalCount(), Long::sum);
+            if (statusClass.charAt(0) >= '4') {
+                errorCount += snapshot.getTotalCount();
+            }
+        }
+
+        public LatencySnapshot getLatency() {
+            return latency;
+        }
+
+        public Map<String, Long> getStatusCounts() {
+            return statusCounts;
+        }
+
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        public double errorRate() {
+            long total = latency.getTotalCount();
+            return total == 0 ? 0.0 : (double) errorCount / total;
+        }
+    }
+}
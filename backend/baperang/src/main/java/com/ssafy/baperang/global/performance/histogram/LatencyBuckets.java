@@ -0,0 +1,44 @@
+package com.ssafy.baperang.global.performance.histogram;
+
+/**
+ * HDR 방식의 로그-선형 지연 시간 구간 (마이크로초 단위)
+ * - 32µs 미만은 1µs 단위로 정확히 구분
+ * - 그 이상은 2의 거듭제곱 구간마다 16개로 나눠 상대 오차 약 6% 이내
+ * - 2^26µs(약 67초) 이상은 마지막 구간에 모음
+ */
+public final class LatencyBuckets {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final long MAX_TRACKABLE_MICROS = (1L << 26) - 1;
+
+    public static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_MICROS) + 1;
+
+    private LatencyBuckets() {
+    }
+
+    public static int indexOf(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_TRACKABLE_MICROS);
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+    }
+
+    // 구간에 속하는 가장 큰 값 (백분위 값은 이 값으로 보고)
+    public static long highestValueOf(int index) {
+        return lowestValueOf(index + 1) - 1;
+    }
+
+    private static long lowestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return subBucket << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.baperang.global.performance.histogram;
+
+/**
+ * 한 구간의 지연 시간 구간별 건수를 합친 결과 (조회 시점에만 만들어짐)
+ * 크기가 LatencyBuckets.BUCKET_COUNT로 고정이라 백분위 계산 비용은 요청 수와 무관
+ */
+public class LatencySnapshot {
+
+    private final long[] counts = new long[LatencyBuckets.BUCKET_COUNT];
+    private long totalCount;
+    private long totalMicros;
+
+    void add(int bucket, long count) {
+        counts[bucket] += count;
+        totalCount += count;
+    }
+
+    void addTotalMicros(long micros) {
+        totalMicros += micros;
+    }
+
+    public void merge(LatencySnapshot other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalMicros += other.totalMicros;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double avgMillis() {
+        return totalCount == 0 ? 0.0 : totalMicros / 1000.0 / totalCount;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위가 속한 구간의 최댓값(ms), 데이터가 없으면 0
+     */
+    public double percentileMillis(double percentile) {
+        if (totalCount == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyBuckets.highestValueOf(i) / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    public double maxMillis() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return LatencyBuckets.highestValueOf(i) / 1000.0;
+            }
+        }
+        return 0.0;
+    }
+}
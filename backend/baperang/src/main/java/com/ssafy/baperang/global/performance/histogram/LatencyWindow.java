@@ -0,0 +1,34 @@
+package com.ssafy.baperang.global.performance.histogram;
+
+/**
+ * 지연 시간 집계 구간
+ * 구간을 slotCount개의 시간 칸으로 나눠 칸 단위로 밀려나므로, 최근 (구간 - 칸 길이) ~ 구간만큼을 집계
+ */
+public enum LatencyWindow {
+
+    ONE_MINUTE("1m", 60_000L, 6),
+    FIVE_MINUTES("5m", 300_000L, 5),
+    ONE_HOUR("1h", 3_600_000L, 12);
+
+    private final String label;
+    private final long slotMillis;
+    private final int slotCount;
+
+    LatencyWindow(String label, long windowMillis, int slotCount) {
+        this.label = label;
+        this.slotMillis = windowMillis / slotCount;
+        this.slotCount = slotCount;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getSlotMillis() {
+        return slotMillis;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+}
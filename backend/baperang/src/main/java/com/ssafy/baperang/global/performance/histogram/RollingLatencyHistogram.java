@@ -0,0 +1,70 @@
+package com.ssafy.baperang.global.performance.histogram;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 칸을 돌려 쓰는 고정 크기 지연 시간 히스토그램
+ * - 기록은 현재 칸의 구간 건수를 원자적으로 증가시키기만 함
+ * - 칸이 한 바퀴 돌아 재사용될 때 처음 기록하는 스레드가 비움
+ *   (비우는 순간 직전 칸에 늦게 기록된 값 몇 건은 사라질 수 있음, 모니터링 용도라 허용)
+ */
+class RollingLatencyHistogram {
+
+    private final LatencyWindow window;
+    private final Slot[] slots;
+
+    RollingLatencyHistogram(LatencyWindow window) {
+        this.window = window;
+        this.slots = new Slot[window.getSlotCount()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    void record(long micros, long nowMillis) {
+        long epoch = nowMillis / window.getSlotMillis();
+        Slot slot = slots[(int) (epoch % slots.length)];
+        if (slot.epoch != epoch) {
+            slot.reset(epoch);
+        }
+        slot.counts.incrementAndGet(LatencyBuckets.indexOf(micros));
+        slot.totalMicros.addAndGet(micros);
+    }
+
+    void addTo(LatencySnapshot target, long nowMillis) {
+        long currentEpoch = nowMillis / window.getSlotMillis();
+        for (Slot slot : slots) {
+            long epoch = slot.epoch;
+            // 구간 밖으로 밀려난 칸은 제외
+            if (epoch <= currentEpoch - slots.length || epoch > currentEpoch) {
+                continue;
+            }
+            for (int i = 0; i < LatencyBuckets.BUCKET_COUNT; i++) {
+                int count = slot.counts.get(i);
+                if (count > 0) {
+                    target.add(i, count);
+                }
+            }
+            target.addTotalMicros(slot.totalMicros.get());
+        }
+    }
+
+    private static class Slot {
+
+        private volatile long epoch = -1;
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(LatencyBuckets.BUCKET_COUNT);
+        private final AtomicLong totalMicros = new AtomicLong();
+
+        private synchronized void reset(long newEpoch) {
+            if (epoch == newEpoch) {
+                return;
+            }
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            totalMicros.set(0);
+            epoch = newEpoch;
+        }
+    }
+}
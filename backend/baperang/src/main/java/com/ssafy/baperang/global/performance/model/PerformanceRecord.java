@@ -0,0 +1,12 @@
+package com.ssafy.baperang.global.performance.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 컨트롤러 호출 한 건의 측정값 (비동기 기록용, 저장 시 controller_performance 행이 됨)
+ * executionTimeNanos는 System.nanoTime() 기준 경과 시간
+ */
+public record PerformanceRecord(String controllerName, String methodName, long executionTimeNanos,
+                                LocalDateTime timestamp, String requestPath, String httpMethod,
+                                boolean success, int statusCode, String errorMessage) {
+}
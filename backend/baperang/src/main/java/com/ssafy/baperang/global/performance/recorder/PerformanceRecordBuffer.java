@@ -0,0 +1,72 @@
+package com.ssafy.baperang.global.performance.recorder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.ssafy.baperang.global.performance.model.PerformanceRecord;
+
+/**
+ * 락 없는 고정 크기 링 버퍼 (여러 요청 스레드가 추가, 기록 스레드 하나가 꺼냄)
+ * - 추가: tail을 CAS로 한 칸 확보한 뒤 슬롯에 기록, 가득 차 있으면 버리고 false
+ * - 꺼내기: head부터 기록이 끝난 슬롯만 순서대로 비움 (확보만 되고 아직 기록 전인 슬롯에서 멈춤)
+ */
+public class PerformanceRecordBuffer {
+
+    private final AtomicReferenceArray<PerformanceRecord> slots;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    // 기록 스레드만 증가시키고, 추가 스레드는 남은 공간 계산에만 읽음
+    private volatile long head;
+
+    public PerformanceRecordBuffer(int requestedCapacity) {
+        // 인덱스 계산을 비트 마스크로 하기 위해 2의 거듭제곱으로 올림
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(PerformanceRecord record) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.set((int) (currentTail & mask), record);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 maxRecords건을 꺼내 target에 추가 (기록 스레드 한 곳에서만 호출)
+     * @return 꺼낸 건수
+     */
+    public int drainTo(List<PerformanceRecord> target, int maxRecords) {
+        long currentHead = head;
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (currentHead & mask);
+            PerformanceRecord record = slots.get(index);
+            if (record == null) {
+                break;
+            }
+            slots.set(index, null);
+            target.add(record);
+            currentHead++;
+            drained++;
+        }
+        head = currentHead;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ssafy.baperang.global.performance.recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ssafy.baperang.global.performance.model.PerformanceRecord;
+import com.ssafy.baperang.global.performance.repository.ControllerPerformanceBatchRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨트롤러 성능 측정값 비동기 기록기
+ * - 요청 스레드는 링 버퍼에 추가만 하고, 기록 스레드가 flush-interval-ms마다 또는 batch-size건이 쌓이면 JDBC 배치로 저장
+ * - 버퍼가 가득 차면 측정값을 버리고 건수만 셈 (요청 처리를 막지 않음)
+ * - 종료 시 남은 측정값을 모두 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceRecordWriter {
+
+    private final ControllerPerformanceBatchRepository batchRepository;
+
+    @Value("${performance.writer.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${performance.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${performance.writer.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    private PerformanceRecordBuffer buffer;
+    private ScheduledExecutorService writerExecutor;
+
+    // batch-size 도달로 요청된 즉시 저장이 이미 예약되어 있는지
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private long droppedAtLastLog;
+
+    @PostConstruct
+    public void init() {
+        this.buffer = new PerformanceRecordBuffer(bufferCapacity);
+        this.writerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "performance-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writerExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("성능 측정 기록기 초기화 완료 (버퍼 {}건, 배치 {}건, 주기 {}ms)",
+                buffer.capacity(), batchSize, flushIntervalMillis);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        writerExecutor.shutdown();
+        try {
+            writerExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 기록 스레드가 멈춘 뒤 남은 측정값 저장
+        flushSafely();
+        log.info("성능 측정 기록기 종료 - 저장 {}건, 버림 {}건", written.sum(), dropped.sum());
+    }
+
+    // 요청 스레드에서 호출, 블로킹 없음
+    public void record(PerformanceRecord record) {
+        if (!buffer.offer(record)) {
+            dropped.increment();
+            return;
+        }
+
+        if (buffer.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                writerExecutor.execute(this::flushSafely);
+            } catch (RuntimeException e) {
+                // 종료 중이면 destroy의 마지막 저장에 맡김
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    public WriterStats stats() {
+        return new WriterStats(written.sum(), dropped.sum(), failed.sum(), buffer.size(), buffer.capacity());
+    }
+
+    private void flushSafely() {
+        flushScheduled.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("성능 측정값 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void flush() {
+        List<PerformanceRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                written.add(batchRepository.saveAllInBatch(batch));
+            } catch (RuntimeException e) {
+                // 실패한 배치는 다시 넣지 않음 (DB 장애 중 버퍼가 계속 차는 것 방지)
+                failed.add(batch.size());
+                throw e;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        long droppedNow = dropped.sum();
+        if (droppedNow > droppedAtLastLog) {
+            log.warn("성능 측정 버퍼 포화 - 누적 버림 {}건 (이번 주기 {}건)", droppedNow, droppedNow - droppedAtLastLog);
+            droppedAtLastLog = droppedNow;
+        }
+    }
+
+    public record WriterStats(long written, long dropped, long failed, int buffered, int capacity) {
+    }
+}
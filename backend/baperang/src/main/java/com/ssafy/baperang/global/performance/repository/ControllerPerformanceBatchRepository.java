@@ -0,0 +1,14 @@
+package com.ssafy.baperang.global.performance.repository;
+
+import java.util.List;
+
+import com.ssafy.baperang.global.performance.model.PerformanceRecord;
+
+/**
+ * controller_performance 일괄 저장소 (JDBC batch insert)
+ */
+public interface ControllerPerformanceBatchRepository {
+
+    // 측정값 일괄 저장
+    int saveAllInBatch(List<PerformanceRecord> records);
+}
@@ -0,0 +1,62 @@
+package com.ssafy.baperang.global.performance.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.baperang.global.performance.model.PerformanceRecord;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ControllerPerformanceBatchRepositoryImpl implements ControllerPerformanceBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 컬럼 길이를 넘는 값 하나 때문에 배치 전체가 실패하지 않도록 잘라서 저장
+    // VARCHAR(255) 컬럼
+    private static final int MAX_NAME_LENGTH = 255;
+    // error_message TEXT(65,535바이트), utf8mb4 한 글자 최대 4바이트 기준
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 65_535 / 4;
+
+    // IDENTITY 키는 Hibernate 배치가 불가능하므로 JDBC 배치로 직접 삽입
+    private static final String INSERT_PERFORMANCE_SQL =
+            "INSERT INTO controller_performance (controller_name, method_name, execution_time_ms, timestamp, " +
+            "request_path, http_method, is_success, status_code, error_message) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Override
+    public int saveAllInBatch(List<PerformanceRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PERFORMANCE_SQL, records, records.size(),
+                (ps, record) -> {
+                    ps.setString(1, truncate(record.controllerName(), MAX_NAME_LENGTH));
+                    ps.setString(2, truncate(record.methodName(), MAX_NAME_LENGTH));
+                    ps.setLong(3, TimeUnit.NANOSECONDS.toMillis(record.executionTimeNanos()));
+                    ps.setTimestamp(4, Timestamp.valueOf(record.timestamp()));
+                    ps.setString(5, truncate(record.requestPath(), MAX_NAME_LENGTH));
+                    ps.setString(6, record.httpMethod());
+                    ps.setBoolean(7, record.success());
+                    ps.setInt(8, record.statusCode());
+                    if (record.errorMessage() != null) {
+                        ps.setString(9, truncate(record.errorMessage(), MAX_ERROR_MESSAGE_LENGTH));
+                    } else {
+                        ps.setNull(9, Types.VARCHAR);
+                    }
+                });
+        return records.size();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength
+                ? value.substring(0, maxLength)
+                : value;
+    }
+}
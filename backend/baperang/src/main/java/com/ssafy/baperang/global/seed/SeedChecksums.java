@@ -0,0 +1,49 @@
+package com.ssafy.baperang.global.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * 시드 파일 내용 해시 조회
+ * - 빌드 시 seedChecksums 태스크가 만든 META-INF/seed-checksums.properties 값을 사용 (기동 시 파일을 읽지 않음)
+ * - 빌드 산출물이 없으면 (IDE 실행 등) 파일을 한 번 읽어 계산
+ */
+@Slf4j
+@Component
+public class SeedChecksums {
+
+    private static final String CHECKSUM_RESOURCE = "META-INF/seed-checksums.properties";
+
+    private final Properties precomputed = new Properties();
+
+    public SeedChecksums() {
+        ClassPathResource resource = new ClassPathResource(CHECKSUM_RESOURCE);
+        if (!resource.exists()) {
+            log.info("빌드 시 계산된 시드 해시가 없어 파일 내용으로 계산합니다.");
+            return;
+        }
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            precomputed.load(reader);
+        } catch (IOException e) {
+            log.warn("시드 해시 파일 읽기 실패: {}", e.getMessage());
+        }
+    }
+
+    public String checksumOf(String seedName) throws IOException {
+        String checksum = precomputed.getProperty(seedName);
+        if (checksum != null) {
+            return checksum;
+        }
+        try (InputStream in = new ClassPathResource(seedName).getInputStream()) {
+            return SeedChecksum.sha256(in);
+        }
+    }
+}
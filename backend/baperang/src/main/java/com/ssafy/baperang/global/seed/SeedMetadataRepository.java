@@ -0,0 +1,15 @@
+package com.ssafy.baperang.global.seed;
+
+import java.util.Optional;
+
+/**
+ * 시드/참조 데이터 파일 적재 이력 (seed_metadata) 저장소
+ */
+public interface SeedMetadataRepository {
+
+    // 마지막으로 적재한 파일 내용 해시
+    Optional<String> findChecksum(String seedName);
+
+    // 적재 완료 기록 (같은 시드 이름이면 갱신)
+    void save(String seedName, String checksum, int rowCount, long elapsedMs);
+}
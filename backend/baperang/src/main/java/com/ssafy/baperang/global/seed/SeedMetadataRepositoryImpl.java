@@ -0,0 +1,31 @@
+package com.ssafy.baperang.global.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SeedMetadataRepositoryImpl implements SeedMetadataRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<String> findChecksum(String seedName) {
+        return jdbcTemplate.query(
+                "SELECT checksum FROM seed_metadata WHERE seed_name = ?",
+                rs -> rs.next() ? Optional.of(rs.getString("checksum")) : Optional.<String>empty(),
+                seedName);
+    }
+
+    @Override
+    public void save(String seedName, String checksum, int rowCount, long elapsedMs) {
+        jdbcTemplate.update(
+                "INSERT INTO seed_metadata (seed_name, checksum, row_count, elapsed_ms) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE checksum = VALUES(checksum), row_count = VALUES(row_count), " +
+                "elapsed_ms = VALUES(elapsed_ms), loaded_at = CURRENT_TIMESTAMP",
+                seedName, checksum, rowCount, elapsedMs);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ssafy.baperang.global.tenant;
+
+/**
+ * 로그인 사용자의 소속 학교 정보
+ * 서비스는 User 엔티티와 지연 로딩된 School 대신 이 값의 schoolId를 바로 사용
+ */
+public record TenantContext(Long userId, Long schoolId, String schoolName, String city) {
+}
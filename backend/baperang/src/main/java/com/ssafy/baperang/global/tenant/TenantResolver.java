@@ -0,0 +1,94 @@
+package com.ssafy.baperang.global.tenant;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ssafy.baperang.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 ID → 소속 학교 정보(TenantContext) 캐시
+ * - 서비스마다 반복하던 user, school 두 번의 SELECT를 사용자 + 학교 조인 한 번으로 줄이고 결과를 캐시
+ * - 학교 변경(updateUser) 시 커밋 후 해당 사용자 항목 제거
+ * - max-entries를 넘으면 가장 오래 조회되지 않은 사용자부터 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantResolver {
+
+    private final UserRepository userRepository;
+
+    @Value("${tenant.cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 접근 순서 LinkedHashMap (가장 오래 조회되지 않은 항목부터 제거)
+    private final Map<Long, TenantContext> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TenantContext> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // 제거가 일어날 때마다 증가, 제거 전에 시작한 조회 결과가 제거 후에 저장되는 것을 방지
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 사용자의 소속 학교 정보 조회
+     * @return 사용자가 없으면 null
+     */
+    public TenantContext resolve(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+
+        synchronized (cache) {
+            TenantContext cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long loadGeneration = generation.get();
+        TenantContext loaded = userRepository.findTenantById(userId).orElse(null);
+        if (loaded != null) {
+            synchronized (cache) {
+                if (generation.get() == loadGeneration) {
+                    cache.put(userId, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // 사용자 소속 학교가 바뀐 경우 커밋 후 캐시 제거 (트랜잭션 밖이면 즉시 제거)
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(userId);
+        }
+        log.info("사용자 학교 정보 캐시 제거 - 사용자 ID: {}", userId);
+    }
+}
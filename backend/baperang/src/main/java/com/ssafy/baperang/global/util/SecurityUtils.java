@@ -4,19 +4,23 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import com.ssafy.baperang.domain.user.repository.UserRepository;
 import com.ssafy.baperang.global.exception.BaperangCustomException;
 import com.ssafy.baperang.global.exception.BaperangErrorCode;
-import com.ssafy.baperang.global.jwt.JwtService;
+import com.ssafy.baperang.global.jwt.JwtPrincipal;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 @Component
 public class SecurityUtils {
 
-    private final UserRepository userRepository;
-    private final JwtService jwtService;
+    // JwtFilter가 등록한 현재 요청의 인증 정보
+    public JwtPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+
+        throw new BaperangCustomException(BaperangErrorCode.UNAUTHORIZED_ACCESS);
+    }
 
     public Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -25,6 +29,10 @@ public class SecurityUtils {
             throw new BaperangCustomException(BaperangErrorCode.UNAUTHORIZED_ACCESS);
         }
 
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.userId();
+        }
+
         if (authentication.getPrincipal() instanceof Long) {
             return (Long) authentication.getPrincipal();
         }
@@ -0,0 +1,16 @@
+-- 기존 잔반 데이터로 잔반 집계(rollup) 테이블 초기 적재
+-- V3 이후 저장분이 이미 누적돼 있을 수 있으므로 비우고 원본 leftover 전체로 다시 생성
+-- (LeftoverRollupRepositoryImpl.rebuild와 같은 집계)
+DELETE FROM leftover_daily_menu;
+DELETE FROM leftover_daily_student;
+
+INSERT INTO leftover_daily_menu (school_pk, leftover_date, menu_pk, menu_name, rate_sum, rate_count)
+SELECT s.school_pk, l.leftover_date, l.menu_pk, LEFT(MAX(l.left_menu_name), 255), SUM(l.leftover_rate), COUNT(*)
+FROM leftover l
+JOIN student s ON s.student_pk = l.student_pk
+GROUP BY s.school_pk, l.leftover_date, l.menu_pk;
+
+INSERT INTO leftover_daily_student (student_pk, leftover_date, rate_sum, rate_count)
+SELECT l.student_pk, l.leftover_date, SUM(l.leftover_rate), COUNT(*)
+FROM leftover l
+GROUP BY l.student_pk, l.leftover_date;
@@ -0,0 +1,15 @@
+-- 교육청/지원청 담당자가 관리하는 학교 (여러 학교 식단 가져오기 권한)
+-- 소속 학교(user.school_pk)는 항상 가져올 수 있고, 여기에 등록된 학교를 추가로 가져올 수 있음
+CREATE TABLE user_managed_school (
+                                     user_pk    BIGINT  NOT NULL,
+                                     school_pk  BIGINT  NOT NULL,
+                                     PRIMARY KEY (user_pk, school_pk),
+                                     FOREIGN KEY (user_pk)
+                                         REFERENCES `user`(user_pk)
+                                         ON DELETE CASCADE
+                                         ON UPDATE CASCADE,
+                                     FOREIGN KEY (school_pk)
+                                         REFERENCES school(school_pk)
+                                         ON DELETE CASCADE
+                                         ON UPDATE CASCADE
+);
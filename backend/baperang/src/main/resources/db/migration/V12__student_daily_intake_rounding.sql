@@ -0,0 +1,26 @@
+-- 섭취량 반올림 규칙 통일: 저장(Java)과 재생성 모두 FLOOR(x + 0.5)
+-- V9 초기 적재는 ROUND()(DOUBLE 값은 짝수 쪽 반올림이 될 수 있음)를 사용했으므로 같은 규칙으로 다시 생성
+DELETE FROM student_daily_intake;
+
+INSERT INTO student_daily_intake (student_pk, intake_date, kcal, carbo, protein, fat, rate_sum, rate_count)
+SELECT l.student_pk, l.leftover_date,
+       COALESCE(SUM(FLOOR(n.kcal * (1 - l.leftover_rate / 100) + 0.5)), 0),
+       COALESCE(SUM(FLOOR(n.carbo * (1 - l.leftover_rate / 100) + 0.5)), 0),
+       COALESCE(SUM(FLOOR(n.protein * (1 - l.leftover_rate / 100) + 0.5)), 0),
+       COALESCE(SUM(FLOOR(n.fat * (1 - l.leftover_rate / 100) + 0.5)), 0),
+       SUM(l.leftover_rate), COUNT(*)
+FROM leftover l
+LEFT JOIN (
+    SELECT mn.menu_pk,
+           COALESCE(MAX(CASE WHEN nu.nutrient_name = '열량' THEN mn.amount END),
+                    MAX(CASE WHEN nu.nutrient_name = '에너지' THEN mn.amount END),
+                    MAX(CASE WHEN nu.nutrient_name = '칼로리' THEN mn.amount END)) AS kcal,
+           MAX(CASE WHEN nu.nutrient_name = '탄수화물' THEN mn.amount END) AS carbo,
+           MAX(CASE WHEN nu.nutrient_name = '단백질' THEN mn.amount END) AS protein,
+           MAX(CASE WHEN nu.nutrient_name = '지방' THEN mn.amount END) AS fat
+    FROM menu_nutrient mn
+    JOIN nutrient nu ON nu.nutrient_pk = mn.nutrient_pk
+    WHERE nu.nutrient_name IN ('열량', '에너지', '칼로리', '탄수화물', '단백질', '지방')
+    GROUP BY mn.menu_pk
+) n ON n.menu_pk = l.menu_pk
+GROUP BY l.student_pk, l.leftover_date;
@@ -0,0 +1,5 @@
+-- 잔반 통계 조회용 인덱스
+-- 학교별 월간 집계: student(school_pk) 인덱스로 학생을 찾고 (student_pk, leftover_date) 범위 스캔 (leftover_rate 포함 커버링)
+CREATE INDEX idx_leftover_student_date ON leftover (student_pk, leftover_date, leftover_rate);
+-- 날짜 단위 조회
+CREATE INDEX idx_leftover_date ON leftover (leftover_date);
@@ -0,0 +1,30 @@
+-- 잔반 집계(rollup) 테이블: 잔반 저장과 같은 트랜잭션에서 누적 갱신
+CREATE TABLE leftover_daily_menu (
+                                     school_pk      BIGINT       NOT NULL,
+                                     leftover_date  DATE         NOT NULL,
+                                     menu_pk        BIGINT       NOT NULL,
+                                     menu_name      VARCHAR(255) NOT NULL,
+                                     rate_sum       DOUBLE       NOT NULL,
+                                     rate_count     INT          NOT NULL,
+                                     PRIMARY KEY (school_pk, leftover_date, menu_pk),
+                                     FOREIGN KEY (school_pk)
+                                         REFERENCES school(school_pk)
+                                         ON DELETE CASCADE
+                                         ON UPDATE CASCADE,
+                                     FOREIGN KEY (menu_pk)
+                                         REFERENCES menu(menu_pk)
+                                         ON DELETE CASCADE
+                                         ON UPDATE CASCADE
+);
+
+CREATE TABLE leftover_daily_student (
+                                        student_pk     BIGINT       NOT NULL,
+                                        leftover_date  DATE         NOT NULL,
+                                        rate_sum       DOUBLE       NOT NULL,
+                                        rate_count     INT          NOT NULL,
+                                        PRIMARY KEY (student_pk, leftover_date),
+                                        FOREIGN KEY (student_pk)
+                                            REFERENCES student(student_pk)
+                                            ON DELETE CASCADE
+                                            ON UPDATE CASCADE
+);
@@ -0,0 +1,15 @@
+-- menu_name은 TEXT라 그대로 인덱싱할 수 없으므로 MD5 해시 생성 컬럼으로 조회
+ALTER TABLE menu
+    ADD COLUMN menu_name_hash CHAR(32) CHARACTER SET ascii AS (MD5(menu_name)) STORED;
+
+-- MenuJpaRepository
+-- (school_pk, menu_date[, menu_name]) : findBySchoolAndMenuDate*, existsBySchoolAndMenuDateAndMenuName, findDistinctMenuNamesBySchoolAndMenuDate
+CREATE INDEX idx_menu_school_date_name ON menu (school_pk, menu_date, menu_name_hash);
+-- (school_pk, menu_name) : findBySchoolAndMenuName
+CREATE INDEX idx_menu_school_name ON menu (school_pk, menu_name_hash);
+-- (menu_date) : findByMenuDate
+CREATE INDEX idx_menu_date ON menu (menu_date);
+
+-- StudentJpaRepository
+-- (school_pk, grade, class, number) : findBySchoolAndGradeAndClassNumAndNumber, findBySchoolIdOrderByGradeAscClassNumAscNumberAsc
+CREATE INDEX idx_student_school_grade_class_number ON student (school_pk, grade, class, number);
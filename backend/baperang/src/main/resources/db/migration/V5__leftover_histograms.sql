@@ -0,0 +1,31 @@
+-- 잔반율 분포 히스토그램: 1% 폭 고정 구간(0~99) + 100% 구간(100), 구간별 건수만 저장
+-- (학교, 메뉴, 날짜) 단위
+CREATE TABLE leftover_menu_histogram (
+                                         school_pk      BIGINT            NOT NULL,
+                                         menu_pk        BIGINT            NOT NULL,
+                                         leftover_date  DATE              NOT NULL,
+                                         bucket         TINYINT UNSIGNED  NOT NULL,
+                                         bucket_count   INT               NOT NULL,
+                                         PRIMARY KEY (school_pk, menu_pk, leftover_date, bucket),
+                                         FOREIGN KEY (school_pk)
+                                             REFERENCES school(school_pk)
+                                             ON DELETE CASCADE
+                                             ON UPDATE CASCADE,
+                                         FOREIGN KEY (menu_pk)
+                                             REFERENCES menu(menu_pk)
+                                             ON DELETE CASCADE
+                                             ON UPDATE CASCADE
+);
+
+-- (학교, 날짜) 단위
+CREATE TABLE leftover_day_histogram (
+                                        school_pk      BIGINT            NOT NULL,
+                                        leftover_date  DATE              NOT NULL,
+                                        bucket         TINYINT UNSIGNED  NOT NULL,
+                                        bucket_count   INT               NOT NULL,
+                                        PRIMARY KEY (school_pk, leftover_date, bucket),
+                                        FOREIGN KEY (school_pk)
+                                            REFERENCES school(school_pk)
+                                            ON DELETE CASCADE
+                                            ON UPDATE CASCADE
+);
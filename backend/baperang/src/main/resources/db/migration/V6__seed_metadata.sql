@@ -0,0 +1,8 @@
+-- 시드/참조 데이터 파일 적재 이력: 파일 내용 해시가 같으면 다시 적재하지 않음
+CREATE TABLE seed_metadata (
+                               seed_name   VARCHAR(100) PRIMARY KEY,
+                               checksum    CHAR(64)     NOT NULL,
+                               row_count   INT          NOT NULL,
+                               elapsed_ms  BIGINT       NOT NULL,
+                               loaded_at   TIMESTAMP    DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
@@ -0,0 +1,36 @@
+-- 학급 단위 건강 리포트 일괄 생성 작업 (재기동 후 PENDING 학생부터 이어서 진행)
+CREATE TABLE health_report_job (
+                                   job_pk       BIGINT       PRIMARY KEY AUTO_INCREMENT,
+                                   school_pk    BIGINT       NOT NULL,
+                                   grade        INT          NOT NULL,
+                                   class        INT          NOT NULL,
+                                   report_date  DATE         NOT NULL,
+                                   status       VARCHAR(20)  NOT NULL,
+                                   total_count  INT          NOT NULL,
+                                   created_at   TIMESTAMP    DEFAULT CURRENT_TIMESTAMP,
+                                   updated_at   TIMESTAMP    DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                   INDEX idx_health_report_job_class (school_pk, grade, class, report_date),
+                                   INDEX idx_health_report_job_status (status),
+                                   FOREIGN KEY (school_pk)
+                                       REFERENCES school(school_pk)
+                                       ON DELETE CASCADE
+                                       ON UPDATE CASCADE
+);
+
+-- 작업별 학생 처리 상태 (PENDING, DONE, FAILED)
+CREATE TABLE health_report_job_item (
+                                        job_pk         BIGINT        NOT NULL,
+                                        student_pk     BIGINT        NOT NULL,
+                                        status         VARCHAR(20)   NOT NULL,
+                                        error_message  VARCHAR(500),
+                                        updated_at     TIMESTAMP     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                        PRIMARY KEY (job_pk, student_pk),
+                                        FOREIGN KEY (job_pk)
+                                            REFERENCES health_report_job(job_pk)
+                                            ON DELETE CASCADE
+                                            ON UPDATE CASCADE,
+                                        FOREIGN KEY (student_pk)
+                                            REFERENCES student(student_pk)
+                                            ON DELETE CASCADE
+                                            ON UPDATE CASCADE
+);
@@ -0,0 +1,26 @@
+-- 학생별 주간 건강 리포트 (week_start: 생성일이 속한 주의 월요일)
+-- payload: MySQL COMPRESS() 형식 (4바이트 little-endian 원본 길이 + zlib), UNCOMPRESS(payload)로 바로 확인 가능
+CREATE TABLE health_report (
+                               student_pk   BIGINT      NOT NULL,
+                               week_start   DATE        NOT NULL,
+                               report_date  DATE        NOT NULL,
+                               payload      MEDIUMBLOB  NOT NULL,
+                               created_at   TIMESTAMP   DEFAULT CURRENT_TIMESTAMP,
+                               updated_at   TIMESTAMP   DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                               PRIMARY KEY (student_pk, week_start),
+                               FOREIGN KEY (student_pk)
+                                   REFERENCES student(student_pk)
+                                   ON DELETE CASCADE
+                                   ON UPDATE CASCADE
+);
+
+-- 기존 student.content 리포트 이관 (AI 응답만 있으므로 report 항목으로 감쌈)
+INSERT INTO health_report (student_pk, week_start, report_date, payload)
+SELECT student_pk,
+       DATE_SUB(content_date, INTERVAL WEEKDAY(content_date) DAY),
+       content_date,
+       COMPRESS(JSON_OBJECT('report', CAST(content AS JSON)))
+FROM student
+WHERE content IS NOT NULL
+  AND content_date IS NOT NULL
+  AND JSON_VALID(content);
@@ -0,0 +1,42 @@
+-- 학생별 일 섭취 영양소: 잔반 저장과 같은 트랜잭션에서 누적 갱신
+-- 섭취량 = 영양소 값 * (1 - 잔반율 / 100), 잔반 행마다 반올림 후 합산
+-- 평균 잔반율 = rate_sum / rate_count
+CREATE TABLE student_daily_intake (
+                                      student_pk    BIGINT  NOT NULL,
+                                      intake_date   DATE    NOT NULL,
+                                      kcal          INT     NOT NULL,
+                                      carbo         INT     NOT NULL,
+                                      protein       INT     NOT NULL,
+                                      fat           INT     NOT NULL,
+                                      rate_sum      DOUBLE  NOT NULL,
+                                      rate_count    INT     NOT NULL,
+                                      PRIMARY KEY (student_pk, intake_date),
+                                      FOREIGN KEY (student_pk)
+                                          REFERENCES student(student_pk)
+                                          ON DELETE CASCADE
+                                          ON UPDATE CASCADE
+);
+
+-- 기존 잔반 데이터로 초기 적재
+INSERT INTO student_daily_intake (student_pk, intake_date, kcal, carbo, protein, fat, rate_sum, rate_count)
+SELECT l.student_pk, l.leftover_date,
+       COALESCE(SUM(ROUND(n.kcal * (1 - l.leftover_rate / 100))), 0),
+       COALESCE(SUM(ROUND(n.carbo * (1 - l.leftover_rate / 100))), 0),
+       COALESCE(SUM(ROUND(n.protein * (1 - l.leftover_rate / 100))), 0),
+       COALESCE(SUM(ROUND(n.fat * (1 - l.leftover_rate / 100))), 0),
+       SUM(l.leftover_rate), COUNT(*)
+FROM leftover l
+LEFT JOIN (
+    SELECT mn.menu_pk,
+           COALESCE(MAX(CASE WHEN nu.nutrient_name = '열량' THEN mn.amount END),
+                    MAX(CASE WHEN nu.nutrient_name = '에너지' THEN mn.amount END),
+                    MAX(CASE WHEN nu.nutrient_name = '칼로리' THEN mn.amount END)) AS kcal,
+           MAX(CASE WHEN nu.nutrient_name = '탄수화물' THEN mn.amount END) AS carbo,
+           MAX(CASE WHEN nu.nutrient_name = '단백질' THEN mn.amount END) AS protein,
+           MAX(CASE WHEN nu.nutrient_name = '지방' THEN mn.amount END) AS fat
+    FROM menu_nutrient mn
+    JOIN nutrient nu ON nu.nutrient_pk = mn.nutrient_pk
+    WHERE nu.nutrient_name IN ('열량', '에너지', '칼로리', '탄수화물', '단백질', '지방')
+    GROUP BY mn.menu_pk
+) n ON n.menu_pk = l.menu_pk
+GROUP BY l.student_pk, l.leftover_date;
@@ -19,7 +19,7 @@ DROP TABLE IF EXISTS controller_performance;
 DROP TABLE IF EXISTS holiday;
 DROP TABLE IF EXISTS inventory;
 
--- 기본 테이블 생성
+-- 기본 테이블 생성 (V1 기준 스키마, 이후 테이블/인덱스는 애플리케이션 기동 시 Flyway V2~가 적용)
 CREATE TABLE school (
                         school_pk    BIGINT       PRIMARY KEY AUTO_INCREMENT,
                         school_name  VARCHAR(100) NOT NULL,
@@ -32,7 +32,7 @@ CREATE TABLE school (
 CREATE TABLE nutrient (
                           nutrient_pk   BIGINT       PRIMARY KEY AUTO_INCREMENT,
                           nutrient_name VARCHAR(100) NOT NULL,
-                          unit          VARCHAR(50)  NOT NULL,
+                          unit          VARCHAR(50)  NOT NULL
 );
 
 CREATE TABLE holiday (
@@ -157,4 +157,4 @@ CREATE TABLE controller_performance (
                                        is_success        BOOLEAN,
                                        status_code       INT,
                                        error_message     TEXT
-);
\ No newline at end of file
+);
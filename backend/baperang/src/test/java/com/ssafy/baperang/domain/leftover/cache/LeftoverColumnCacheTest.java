@@ -0,0 +1,218 @@
+package com.ssafy.baperang.domain.leftover.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.repository.LeftoverRepository;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.domain.student.entity.Student;
+
+/**
+ * 적재 중 커밋된 저장이 적재 결과에 정확히 한 번 반영되는지 확인
+ * - leftover 테이블은 커밋된 행 목록으로, 스냅샷은 openReadSnapshot 시점의 행 수로 흉내 냄
+ * - 저장 커밋은 beforeCommit → 행 추가 → afterCommit → afterCompletion 순서로 동기화 콜백을 실행
+ */
+class LeftoverColumnCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+
+    private final List<Leftover> committed = new ArrayList<>();
+    private final ThreadLocal<Integer> snapshot = new ThreadLocal<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(12);
+
+    private LeftoverRepository leftoverRepository;
+    private LeftoverColumnCache cache;
+    private Runnable duringLoad = () -> {
+    };
+
+    @BeforeEach
+    void setUp() {
+        leftoverRepository = mock(LeftoverRepository.class);
+        doAnswer(invocation -> {
+            synchronized (committed) {
+                snapshot.set(committed.size());
+            }
+            return null;
+        }).when(leftoverRepository).openReadSnapshot();
+        doAnswer(invocation -> {
+            streamSnapshot(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(leftoverRepository).loadColumnsBySchool(anyLong(), any(LeftoverColumnStore.class));
+
+        SchoolWriteTracker tracker = new SchoolWriteTracker(mock(PlatformTransactionManager.class));
+        cache = new LeftoverColumnCache(leftoverRepository, tracker);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSchools", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void commitDuringLoadIsReplayedIntoCachedStore() {
+        commit(rows(new Random(1L), 1L, 20));
+
+        // 적재가 스트리밍하는 동안 다른 스레드의 저장이 커밋까지 끝남 (잠금 밖 적재라 막히지 않음)
+        duringLoad = () -> runOnOtherThread(() -> commit(rows(new Random(2L), 1L, 5)));
+
+        LeftoverColumnStore store = cache.getStore(1L);
+
+        assertThat(store.size()).isEqualTo(25);
+        assertThat(cache.getStore(1L)).isSameAs(store);
+        verify(leftoverRepository, times(1)).loadColumnsBySchool(anyLong(), any(LeftoverColumnStore.class));
+    }
+
+    @Test
+    void commitAfterLoadIsAppended() {
+        commit(rows(new Random(1L), 1L, 20));
+        LeftoverColumnStore store = cache.getStore(1L);
+
+        commit(rows(new Random(2L), 1L, 5));
+
+        assertThat(cache.getStore(1L)).isSameAs(store);
+        assertThat(store.size()).isEqualTo(25);
+    }
+
+    @Test
+    void concurrentCommitsAndReloadsKeepStoresExact() throws Exception {
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < 8; w++) {
+            Random random = new Random(w);
+            writers.add(executor.submit(() -> {
+                for (int t = 0; t < 200; t++) {
+                    commit(rows(random, 1L + random.nextInt(3), 5));
+                }
+            }));
+        }
+
+        // 조회 스레드는 계속 적재하고, 가끔 전체 제거해 저장 도중 재적재가 반복되게 함
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            Random random = new Random(100L + r);
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    cache.getStore(1L + random.nextInt(3));
+                    if (random.nextInt(20) == 0) {
+                        cache.evictAll();
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+
+        for (long schoolId = 1; schoolId <= 3; schoolId++) {
+            assertThat(cache.getStore(schoolId).size()).isEqualTo(committedCount(schoolId));
+        }
+    }
+
+    // 저장 트랜잭션 한 번 (LeftoverRollupServiceImpl.recordLeftovers 이후 커밋 과정)
+    private void commit(List<Leftover> leftovers) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.appendAfterCommit(leftovers);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronized (committed) {
+                committed.addAll(leftovers);
+            }
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void streamSnapshot(Long schoolId, LeftoverColumnStore store) {
+        List<Leftover> visible;
+        synchronized (committed) {
+            visible = new ArrayList<>(committed.subList(0, snapshot.get()));
+        }
+        snapshot.remove();
+
+        for (int i = 0; i < visible.size(); i++) {
+            Leftover leftover = visible.get(i);
+            if (leftover.getStudent().getSchool().getId().equals(schoolId)) {
+                store.append(leftover.getLeftoverDate(), leftover.getMenu().getId(), leftover.getStudent().getId(),
+                        leftover.getLeftoverRate(), leftover.getLeftMenuName());
+            }
+            if (i == visible.size() / 2) {
+                duringLoad.run();
+            }
+        }
+    }
+
+    private void runOnOtherThread(Runnable action) {
+        try {
+            executor.submit(action).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long committedCount(long schoolId) {
+        synchronized (committed) {
+            return committed.stream()
+                    .filter(leftover -> leftover.getStudent().getSchool().getId() == schoolId)
+                    .count();
+        }
+    }
+
+    private static List<Leftover> rows(Random random, long schoolId, int count) {
+        School school = School.builder().schoolName("학교" + schoolId).city("서울").build();
+        ReflectionTestUtils.setField(school, "id", schoolId);
+
+        List<Leftover> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = Student.builder().studentName("학생").grade(1).classNum(1).school(school).build();
+            ReflectionTestUtils.setField(student, "id", schoolId * 1000 + random.nextInt(50));
+            Menu menu = Menu.builder().menuName("메뉴").menuDate(START).build();
+            ReflectionTestUtils.setField(menu, "id", (long) random.nextInt(20));
+
+            rows.add(Leftover.builder()
+                    .menu(menu)
+                    .student(student)
+                    .leftoverDate(START.plusDays(random.nextInt(100)))
+                    .leftMenuName("메뉴")
+                    .leftoverRate((float) random.nextInt(101))
+                    .build());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ssafy.baperang.domain.leftover.cube;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ssafy.baperang.domain.leftover.cache.SchoolWriteTracker;
+import com.ssafy.baperang.domain.leftover.entity.Leftover;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository;
+import com.ssafy.baperang.domain.leftover.repository.StudentDailyIntakeRepository.IntakeDelta;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.school.entity.School;
+import com.ssafy.baperang.domain.student.entity.Student;
+
+/**
+ * 큐브 적재 중 커밋된 증가분이 정확히 한 번 반영되는지 확인
+ * - student_daily_intake는 커밋된 증가분 목록으로, 스냅샷은 openReadSnapshot 시점의 개수로 흉내 냄
+ */
+class IntakeCubeCacheTest {
+
+    private static final long SCHOOL_ID = 1L;
+    private static final int SCHOOL_YEAR = 2025;
+    private static final LocalDate DATE = LocalDate.of(2025, 4, 7);
+
+    private final List<IntakeDelta> committed = new ArrayList<>();
+    private final ThreadLocal<Integer> snapshot = new ThreadLocal<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private StudentDailyIntakeRepository studentDailyIntakeRepository;
+    private IntakeCubeCache cache;
+    private Runnable duringLoad = () -> {
+    };
+
+    @BeforeEach
+    void setUp() {
+        studentDailyIntakeRepository = mock(StudentDailyIntakeRepository.class);
+        doAnswer(invocation -> {
+            synchronized (committed) {
+                snapshot.set(committed.size());
+            }
+            return null;
+        }).when(studentDailyIntakeRepository).openReadSnapshot();
+        doAnswer(invocation -> {
+            IntakeCube cube = invocation.getArgument(3);
+            List<IntakeDelta> visible;
+            synchronized (committed) {
+                visible = new ArrayList<>(committed.subList(0, snapshot.get()));
+            }
+            snapshot.remove();
+
+            duringLoad.run();
+            for (IntakeDelta delta : visible) {
+                cube.add(1, 1, delta.intakeDate(), delta.kcal(), 0, 0, 0, 0, 0, 1);
+            }
+            return null;
+        }).when(studentDailyIntakeRepository).loadClassCube(anyLong(), any(LocalDate.class), any(LocalDate.class),
+                any(IntakeCube.class));
+
+        cache = new IntakeCubeCache(studentDailyIntakeRepository,
+                new SchoolWriteTracker(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(cache, "maxCubes", 32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void commitDuringLoadIsReplayedIntoCachedCube() {
+        commit(100);
+        duringLoad = () -> runOnOtherThread(() -> commit(50));
+
+        IntakeCube cube = cache.getCube(SCHOOL_ID, SCHOOL_YEAR);
+
+        assertThat(kcal(cube)).isEqualTo(150);
+        assertThat(cache.getCube(SCHOOL_ID, SCHOOL_YEAR)).isSameAs(cube);
+        verify(studentDailyIntakeRepository, times(1)).loadClassCube(anyLong(), any(LocalDate.class),
+                any(LocalDate.class), any(IntakeCube.class));
+    }
+
+    @Test
+    void commitAfterLoadIsApplied() {
+        commit(100);
+        IntakeCube cube = cache.getCube(SCHOOL_ID, SCHOOL_YEAR);
+
+        commit(50);
+
+        assertThat(cache.getCube(SCHOOL_ID, SCHOOL_YEAR)).isSameAs(cube);
+        assertThat(kcal(cube)).isEqualTo(150);
+    }
+
+    @Test
+    void loadStartedBeforeEvictAllIsNotCached() {
+        commit(100);
+        // 집계 재생성(evictAll) 전에 연 스냅샷으로 적재한 큐브는 그 조회에만 사용
+        duringLoad = () -> cache.evictAll();
+
+        IntakeCube first = cache.getCube(SCHOOL_ID, SCHOOL_YEAR);
+        duringLoad = () -> {
+        };
+        IntakeCube second = cache.getCube(SCHOOL_ID, SCHOOL_YEAR);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(kcal(second)).isEqualTo(100);
+        verify(studentDailyIntakeRepository, times(2)).loadClassCube(anyLong(), any(LocalDate.class),
+                any(LocalDate.class), any(IntakeCube.class));
+    }
+
+    // 저장 트랜잭션 한 번 (LeftoverRollupServiceImpl.recordLeftovers 이후 커밋 과정)
+    private void commit(int kcal) {
+        List<IntakeDelta> deltas = List.of(new IntakeDelta(10L, DATE, kcal, 0, 0, 0, 0, 0, false));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.applyAfterCommit(List.of(leftover()), deltas);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronized (committed) {
+                committed.addAll(deltas);
+            }
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void runOnOtherThread(Runnable action) {
+        try {
+            executor.submit(action).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long kcal(IntakeCube cube) {
+        return cube.sumByClass(cube.getStartDate(), cube.getEndDate().minusDays(1)).stream()
+                .mapToLong(totals -> totals.totals()[IntakeCube.KCAL])
+                .sum();
+    }
+
+    private static Leftover leftover() {
+        School school = School.builder().schoolName("학교").city("서울").build();
+        ReflectionTestUtils.setField(school, "id", SCHOOL_ID);
+        Student student = Student.builder().studentName("학생").grade(1).classNum(1).school(school).build();
+        ReflectionTestUtils.setField(student, "id", 10L);
+        Menu menu = Menu.builder().menuName("메뉴").menuDate(DATE).build();
+        ReflectionTestUtils.setField(menu, "id", 1L);
+
+        return Leftover.builder().menu(menu).student(student).leftoverDate(DATE)
+                .leftMenuName("메뉴").leftoverRate(0f).build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ssafy.baperang.domain.student.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ssafy.baperang.domain.leftover.cache.LeftoverColumnStore;
+import com.ssafy.baperang.domain.menu.entity.Menu;
+import com.ssafy.baperang.domain.menunutrient.entity.MenuNutrient;
+import com.ssafy.baperang.domain.nutrient.entity.Nutrient;
+
+/**
+ * NutrientIntakeTable.dailyIntake가 이전 문자열 키("메뉴ID-영양소명") 계산과 같은 결과를 내는지 확인
+ * - 같은 MenuNutrient 목록과 잔반 행으로 두 계산을 실행해 결과 맵 비교
+ */
+class NutrientIntakeTableTest {
+
+    private static final long STUDENT_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+
+    private final Nutrient carbo = nutrient(1L, NutrientIntakeTable.CARBO_NUTRIENT_NAME);
+    private final Nutrient protein = nutrient(2L, NutrientIntakeTable.PROTEIN_NUTRIENT_NAME);
+    private final Nutrient fat = nutrient(3L, NutrientIntakeTable.FAT_NUTRIENT_NAME);
+    private final Nutrient sodium = nutrient(4L, "나트륨");
+
+    @Test
+    void duplicateMenuNutrientsUseLastValue() {
+        Menu rice = menu(10L);
+        List<MenuNutrient> menuNutrients = List.of(
+                menuNutrient(rice, carbo, 40.0f),
+                menuNutrient(rice, protein, 3.5f),
+                menuNutrient(rice, carbo, 55.3f),
+                menuNutrient(rice, fat, 0.7f),
+                menuNutrient(rice, fat, 1.2f));
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        store.append(START, 10L, STUDENT_ID, 25.0f, "잡곡밥");
+        store.append(START.plusDays(1), 10L, STUDENT_ID, 0.0f, "잡곡밥");
+        store.append(START.plusDays(1), 10L, STUDENT_ID, 100.0f, "잡곡밥");
+
+        assertSameAsBaseline(menuNutrients, store, week(), START, START.plusDays(6));
+    }
+
+    @Test
+    void missingNutrientsAreSkipped() {
+        Menu soup = menu(20L);
+        Menu kimchi = menu(21L);
+        Menu noNutrientMenu = menu(22L);
+        List<MenuNutrient> menuNutrients = List.of(
+                menuNutrient(soup, carbo, 12.4f),
+                menuNutrient(soup, sodium, 820.0f),
+                menuNutrient(kimchi, protein, 1.1f),
+                menuNutrient(kimchi, fat, 0.3f));
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        store.append(START, 20L, STUDENT_ID, 33.3f, "된장국");
+        store.append(START, 21L, STUDENT_ID, 50.0f, "배추김치");
+        store.append(START.plusDays(2), 22L, STUDENT_ID, 10.0f, "과일");
+        store.append(START.plusDays(2), 99L, STUDENT_ID, 10.0f, "영양소 없는 메뉴");
+
+        assertSameAsBaseline(menuNutrients, store, week(), START, START.plusDays(6));
+    }
+
+    @Test
+    void rowsOutsideDateRangeAreExcluded() {
+        Menu rice = menu(10L);
+        List<MenuNutrient> menuNutrients = List.of(
+                menuNutrient(rice, carbo, 60.0f),
+                menuNutrient(rice, protein, 5.0f),
+                menuNutrient(rice, fat, 1.0f));
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        store.append(START.minusDays(1), 10L, STUDENT_ID, 0.0f, "잡곡밥");
+        store.append(START, 10L, STUDENT_ID, 20.0f, "잡곡밥");
+        store.append(START.plusDays(6), 10L, STUDENT_ID, 40.0f, "잡곡밥");
+        store.append(START.plusDays(7), 10L, STUDENT_ID, 0.0f, "잡곡밥");
+
+        // 분석 기간보다 넓게 조회해 기간 밖 행도 계산에 전달
+        assertSameAsBaseline(menuNutrients, store, week(), START.minusDays(3), START.plusDays(10));
+    }
+
+    @Test
+    void randomRowsMatchBaseline() {
+        Random random = new Random(41L);
+        List<Nutrient> nutrients = List.of(carbo, protein, fat, sodium);
+
+        List<MenuNutrient> menuNutrients = new ArrayList<>();
+        for (long menuId = 1; menuId <= 40; menuId++) {
+            Menu menu = menu(menuId);
+            for (Nutrient nutrient : nutrients) {
+                // 일부 영양소는 없고 일부는 중복
+                int copies = random.nextInt(3);
+                for (int i = 0; i < copies; i++) {
+                    menuNutrients.add(menuNutrient(menu, nutrient, random.nextFloat() * 80f));
+                }
+            }
+        }
+        Collections.shuffle(menuNutrients, random);
+
+        LeftoverColumnStore store = new LeftoverColumnStore();
+        for (int i = 0; i < 500; i++) {
+            LocalDate date = START.plusDays(random.nextInt(14) - 3);
+            long menuId = 1 + random.nextInt(45);
+            float rate = Math.round(random.nextFloat() * 10000f) / 100f;
+            store.append(date, menuId, STUDENT_ID, rate, "메뉴" + menuId);
+        }
+
+        assertSameAsBaseline(menuNutrients, store, week(), START.minusDays(3), START.plusDays(10));
+    }
+
+    private void assertSameAsBaseline(List<MenuNutrient> menuNutrients, LeftoverColumnStore store,
+                                      List<LocalDate> allDates, LocalDate queryStart, LocalDate queryEnd) {
+        LeftoverColumnStore.StudentRows rows = store.studentRows(STUDENT_ID, queryStart, queryEnd);
+
+        Map<String, Map<String, Integer>> expected = baselineDailyIntake(rows, baselineNutrientMap(menuNutrients), allDates);
+        Map<String, Map<String, Integer>> actual = NutrientIntakeTable.of(menuNutrients).dailyIntake(rows, allDates);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static List<LocalDate> week() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            dates.add(START.plusDays(i));
+        }
+        return dates;
+    }
+
+    // 이전 HealthReportCalculator의 영양소 맵 생성 (같은 키는 나중 값 사용)
+    private static Map<String, MenuNutrient> baselineNutrientMap(List<MenuNutrient> menuNutrients) {
+        return menuNutrients.stream()
+                .collect(Collectors.toMap(
+                        menuNutrient -> menuNutrient.getMenu().getId() + "-" + menuNutrient.getNutrient().getNutrientName(),
+                        Function.identity(),
+                        (existing, replacement) -> replacement));
+    }
+
+    // 이전 HealthReportCalculator.calcOptimizedNutrients
+    private static Map<String, Map<String, Integer>> baselineDailyIntake(
+            LeftoverColumnStore.StudentRows leftoverRows,
+            Map<String, MenuNutrient> nutrientMap,
+            List<LocalDate> allDates) {
+
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+
+        Map<LocalDate, List<Integer>> rowsByDate = new HashMap<>();
+        for (int i = 0; i < leftoverRows.size(); i++) {
+            rowsByDate.computeIfAbsent(leftoverRows.getDate(i), k -> new ArrayList<>()).add(i);
+        }
+
+        for (LocalDate date : allDates) {
+            List<Integer> dayRows = rowsByDate.getOrDefault(date, Collections.emptyList());
+
+            int totalCarbo = 0;
+            int totalProtein = 0;
+            int totalFat = 0;
+
+            for (int row : dayRows) {
+                long menuId = leftoverRows.getMenuId(row);
+                float leftoverRate = leftoverRows.getLeftoverRate(row) / 100f;
+                float consumptionRate = 1 - leftoverRate;
+
+                MenuNutrient carbo = nutrientMap.get(menuId + "-" + NutrientIntakeTable.CARBO_NUTRIENT_NAME);
+                if (carbo != null) {
+                    totalCarbo += Math.round(carbo.getAmount() * consumptionRate);
+                }
+
+                MenuNutrient protein = nutrientMap.get(menuId + "-" + NutrientIntakeTable.PROTEIN_NUTRIENT_NAME);
+                if (protein != null) {
+                    totalProtein += Math.round(protein.getAmount() * consumptionRate);
+                }
+
+                MenuNutrient fat = nutrientMap.get(menuId + "-" + NutrientIntakeTable.FAT_NUTRIENT_NAME);
+                if (fat != null) {
+                    totalFat += Math.round(fat.getAmount() * consumptionRate);
+                }
+            }
+
+            Map<String, Integer> dailyNutrients = new HashMap<>();
+            dailyNutrients.put("carbo", totalCarbo);
+            dailyNutrients.put("protein", totalProtein);
+            dailyNutrients.put("fat", totalFat);
+            result.put(date.toString(), dailyNutrients);
+        }
+
+        return result;
+    }
+
+    private static Menu menu(long id) {
+        Menu menu = Menu.builder().menuName("메뉴" + id).menuDate(START).build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+
+    private static Nutrient nutrient(long id, String name) {
+        Nutrient nutrient = Nutrient.builder().nutrientName(name).unit("g").build();
+        ReflectionTestUtils.setField(nutrient, "id", id);
+        return nutrient;
+    }
+
+    private static MenuNutrient menuNutrient(Menu menu, Nutrient nutrient, float amount) {
+        return MenuNutrient.builder().menu(menu).nutrient(nutrient).amount(amount).build();
+    }
+}
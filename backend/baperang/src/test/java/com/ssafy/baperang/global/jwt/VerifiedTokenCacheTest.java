@@ -0,0 +1,130 @@
+package com.ssafy.baperang.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class VerifiedTokenCacheTest {
+
+    private static final int MAX_ENTRIES = 1000;
+    // 한도를 넘었을 때 줄이는 크기 (max-entries의 90%)
+    private static final int TRIM_TARGET = MAX_ENTRIES * 9 / 10;
+
+    private VerifiedTokenCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.destroy();
+        }
+    }
+
+    @Test
+    void cachedTokenIsVerifiedOnce() {
+        cache = newCache(MAX_ENTRIES, 300);
+        AtomicInteger verifications = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            JwtPrincipal principal = cache.getOrVerify("token", token -> {
+                verifications.incrementAndGet();
+                return principal(1L, 3600);
+            });
+            assertThat(principal.userId()).isEqualTo(1L);
+        }
+
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        cache = newCache(MAX_ENTRIES, 300);
+
+        assertThat(cache.getOrVerify("bad", token -> null)).isNull();
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void overflowTrimsToNinetyPercentInOneBatch() {
+        cache = newCache(MAX_ENTRIES, 300);
+
+        for (int i = 0; i <= MAX_ENTRIES; i++) {
+            cache.getOrVerify("token-" + i, token -> principal(1L, 3600));
+        }
+
+        // 한도를 넘긴 순간 90%까지 줄이므로 다음 미적중들은 제거 없이 저장됨
+        assertThat(cache.stats().entries()).isEqualTo(TRIM_TARGET);
+        assertThat(cache.stats().evictions()).isEqualTo(MAX_ENTRIES + 1 - TRIM_TARGET);
+        long evictions = cache.stats().evictions();
+
+        for (int i = 0; i < MAX_ENTRIES / 20; i++) {
+            cache.getOrVerify("next-" + i, token -> principal(1L, 3600));
+        }
+        assertThat(cache.stats().evictions()).isEqualTo(evictions);
+    }
+
+    /**
+     * 가득 찬 캐시에 미적중이 계속될 때 제거는 미적중마다가 아니라 묶음으로만 일어나는지 확인
+     * (요청당 비용 측정은 src/jmh의 VerifiedTokenCacheBenchmark)
+     */
+    @Test
+    void missesOnFullCacheEvictInBatches() {
+        cache = newCache(MAX_ENTRIES, 300);
+        for (int i = 0; i <= MAX_ENTRIES; i++) {
+            cache.getOrVerify("warm-" + i, token -> principal(1L, 3600));
+        }
+
+        int batchSize = MAX_ENTRIES + 1 - TRIM_TARGET;
+        int trims = 0;
+        for (int i = 0; i < batchSize * 10; i++) {
+            long evictionsBefore = cache.stats().evictions();
+            cache.getOrVerify("miss-" + i, token -> principal(1L, 3600));
+
+            long evicted = cache.stats().evictions() - evictionsBefore;
+            if (evicted > 0) {
+                // 제거가 일어나면 항상 한도 + 1에서 목표 크기까지 한 번에
+                assertThat(evicted).isEqualTo(batchSize);
+                assertThat(cache.stats().entries()).isEqualTo(TRIM_TARGET);
+                trims++;
+            }
+            assertThat(cache.stats().entries()).isLessThanOrEqualTo(MAX_ENTRIES);
+        }
+
+        // 목표 크기에서 한도를 넘기까지 batchSize번 미적중마다 한 번
+        assertThat(trims).isEqualTo(10);
+    }
+
+    @Test
+    void sweepRemovesOnlyExpiredEntries() {
+        cache = newCache(MAX_ENTRIES, 300);
+        for (int i = 0; i < 5; i++) {
+            cache.getOrVerify("expired-" + i, token -> principal(1L, -1));
+        }
+        cache.getOrVerify("valid", token -> principal(2L, 3600));
+
+        cache.sweepExpired();
+
+        assertThat(cache.stats().entries()).isEqualTo(1);
+        assertThat(cache.stats().evictions()).isEqualTo(5);
+        assertThat(cache.getOrVerify("valid", token -> null).userId()).isEqualTo(2L);
+    }
+
+    private static VerifiedTokenCache newCache(int maxEntries, long ttlSeconds) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "sweepIntervalSeconds", 3600L);
+        cache.init();
+        return cache;
+    }
+
+    private static JwtPrincipal principal(Long userId, long expiresInSeconds) {
+        return new JwtPrincipal(userId, "user" + userId, Instant.now().plusSeconds(expiresInSeconds));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.baperang.global.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * V2/V4 인덱스가 자주 쓰는 조회의 실행 계획에 잡히는지 EXPLAIN으로 확인
+ * - MySQL 실행 계획이 필요하므로 H2가 아닌 Flyway 마이그레이션이 적용된 MySQL에 연결
+ * - EXPLAIN_DB_URL(예: jdbc:mysql://localhost:3306/baperang)이 설정된 경우에만 실행
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DB_URL", matches = ".+")
+class HotQueryIndexExplainTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv("EXPLAIN_DB_URL"),
+                System.getenv("EXPLAIN_DB_USERNAME"),
+                System.getenv("EXPLAIN_DB_PASSWORD"));
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void menusOfDayUseSchoolDateIndex() throws SQLException {
+        assertUsesIndex(
+                "SELECT * FROM menu WHERE school_pk = 1 AND menu_date = '2025-03-04'",
+                "idx_menu_school_date_name");
+    }
+
+    @Test
+    void menuByNameUsesHashIndex() throws SQLException {
+        assertUsesIndex(
+                "SELECT * FROM menu WHERE school_pk = 1 AND menu_name_hash = MD5('잡곡밥') AND menu_name = '잡곡밥'",
+                "idx_menu_school_name");
+    }
+
+    @Test
+    void menusByDateUseDateIndex() throws SQLException {
+        assertUsesIndex(
+                "SELECT * FROM menu WHERE menu_date = '2025-03-04'",
+                "idx_menu_date");
+    }
+
+    @Test
+    void studentLookupUsesRosterIndex() throws SQLException {
+        assertUsesIndex(
+                "SELECT * FROM student WHERE school_pk = 1 AND grade = 3 AND class = 2 AND number = 15",
+                "idx_student_school_grade_class_number");
+    }
+
+    @Test
+    void studentLeftoversUseStudentDateIndex() throws SQLException {
+        assertUsesIndex(
+                "SELECT leftover_date, leftover_rate FROM leftover " +
+                "WHERE student_pk = 1 AND leftover_date BETWEEN '2025-03-01' AND '2025-03-31'",
+                "idx_leftover_student_date");
+    }
+
+    // 빈 테이블에서도 판단할 수 있도록 선택된 키 대신 후보 키와 접근 방식을 확인
+    private static void assertUsesIndex(String query, String indexName) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + query)) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString("possible_keys")).contains(indexName);
+            assertThat(rs.getString("type")).isNotEqualTo("ALL");
+        }
+    }
+}
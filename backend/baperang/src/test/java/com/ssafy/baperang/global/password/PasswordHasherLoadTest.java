@@ -0,0 +1,199 @@
+package com.ssafy.baperang.global.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ssafy.baperang.global.exception.BaperangCustomException;
+import com.ssafy.baperang.global.exception.BaperangErrorCode;
+
+/**
+ * 로그인 폭주 상황 부하 테스트
+ * - 요청 스레드(Tomcat worker 역할) 여러 개가 동시에 해시를 요청할 때
+ *   BCrypt 동시 실행 수가 threads를 넘지 않고, 대기열을 넘는 요청은 기다리지 않고 503으로 거절되는지 확인
+ * - 로그인 폭주 중에도 요청 스레드가 남아 인증과 무관한 요청이 제시간에 처리되는지 확인
+ * - BCrypt 대신 고정 시간 동안 멈추는 인코더를 사용해 결과가 CPU 속도에 따라 달라지지 않도록 함
+ */
+class PasswordHasherLoadTest {
+
+    private static final int HASH_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 8;
+    private static final long HASH_MILLIS = 50;
+
+    // Tomcat worker 역할 스레드 수 (해시 스레드 + 대기열보다 많게)
+    private static final int REQUEST_THREADS = 16;
+    // 해시를 요청 스레드에서 바로 실행했다면 일반 요청이 (200 / 16) * HASH_MILLIS 이상 기다리는 규모
+    private static final int LOGIN_BURST = 200;
+    // 인증과 무관한 요청의 처리 시간과 응답 예산
+    private static final long NON_AUTH_WORK_MILLIS = 5;
+    private static final long NON_AUTH_BUDGET_MILLIS = 200;
+
+    private PasswordHasher passwordHasher;
+    private ExecutorService requestThreads;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (requestThreads != null) {
+            requestThreads.shutdownNow();
+        }
+        if (passwordHasher != null) {
+            passwordHasher.destroy();
+        }
+    }
+
+    @Test
+    void burstIsLimitedToPoolAndQueueAndOverflowIsRejectedFast() throws Exception {
+        passwordHasher = newHasher(5_000);
+        int requests = 40;
+        List<Outcome> outcomes = burst(requests);
+
+        long accepted = outcomes.stream().filter(outcome -> outcome.errorCode() == null).count();
+        List<Outcome> rejected = outcomes.stream().filter(outcome -> outcome.errorCode() != null).toList();
+
+        // 실행 중 + 대기열 수만큼만 처리되고 나머지는 거절
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(HASH_THREADS);
+        assertThat(accepted).isLessThanOrEqualTo(HASH_THREADS + QUEUE_CAPACITY);
+        assertThat(accepted + rejected.size()).isEqualTo(requests);
+        assertThat(rejected).isNotEmpty();
+        assertThat(rejected).allSatisfy(outcome -> {
+            assertThat(outcome.errorCode()).isEqualTo(BaperangErrorCode.PASSWORD_HASHING_BUSY);
+            // 대기열 포화 거절은 해시 한 건 시간도 기다리지 않음
+            assertThat(outcome.elapsedMillis()).isLessThan(HASH_MILLIS);
+        });
+        assertThat(passwordHasher.stats().rejected()).isEqualTo(rejected.size());
+        assertThat(passwordHasher.stats().completed()).isEqualTo(accepted);
+    }
+
+    @Test
+    void queuedRequestsAreReleasedAfterMaxWait() throws Exception {
+        long maxWaitMillis = 120;
+        passwordHasher = newHasher(maxWaitMillis);
+        List<Outcome> outcomes = burst(HASH_THREADS + QUEUE_CAPACITY);
+
+        // 요청 스레드는 max-wait-ms(+ 여유)보다 오래 묶이지 않음
+        assertThat(outcomes).allSatisfy(outcome ->
+                assertThat(outcome.elapsedMillis()).isLessThan(maxWaitMillis + 200));
+        assertThat(outcomes).anySatisfy(outcome ->
+                assertThat(outcome.errorCode()).isEqualTo(BaperangErrorCode.PASSWORD_HASHING_BUSY));
+        assertThat(passwordHasher.stats().timedOut()).isPositive();
+    }
+
+    @Test
+    void nonAuthRequestCompletesWithinBudgetDuringLoginBurst() throws Exception {
+        passwordHasher = newHasher(5_000);
+        requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // 요청 스레드 수보다 많은 로그인이 먼저 몰리고, 그 뒤에 일반 요청 하나가 들어옴
+        List<Future<Outcome>> logins = new ArrayList<>();
+        for (int i = 0; i < LOGIN_BURST; i++) {
+            logins.add(submitLogin(start, "password-" + i));
+        }
+        Future<Long> nonAuth = requestThreads.submit(() -> {
+            start.await();
+            Thread.sleep(NON_AUTH_WORK_MILLIS);
+            return System.nanoTime();
+        });
+
+        // 요청 도착 시점부터 측정 (요청 스레드를 기다린 시간 포함)
+        long arrivedAt = System.nanoTime();
+        start.countDown();
+
+        long nonAuthFinishedAt = nonAuth.get(30, TimeUnit.SECONDS);
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> login : logins) {
+            outcomes.add(login.get(30, TimeUnit.SECONDS));
+        }
+
+        // 대기열을 넘는 로그인은 즉시 거절되어 요청 스레드를 돌려주므로 일반 요청은 해시를 기다리지 않음
+        assertThat(TimeUnit.NANOSECONDS.toMillis(nonAuthFinishedAt - arrivedAt))
+                .isLessThan(NON_AUTH_BUDGET_MILLIS);
+        // 일반 요청이 끝난 시점에 받아들인 로그인은 아직 처리 중 (폭주가 끝난 뒤 처리된 것이 아님)
+        assertThat(outcomes).anySatisfy(outcome -> {
+            assertThat(outcome.errorCode()).isNull();
+            assertThat(outcome.finishedAtNanos()).isGreaterThan(nonAuthFinishedAt);
+        });
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(HASH_THREADS);
+    }
+
+    // 요청 스레드 requests개가 동시에 encode 호출
+    private List<Outcome> burst(int requests) throws Exception {
+        requestThreads = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(submitLogin(start, "password-" + i));
+        }
+        start.countDown();
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return outcomes;
+    }
+
+    // start 신호 후 요청 스레드에서 encode 호출 (로그인 요청 한 건)
+    private Future<Outcome> submitLogin(CountDownLatch start, String password) {
+        return requestThreads.submit(() -> {
+            start.await();
+            long startedAt = System.nanoTime();
+            try {
+                passwordHasher.encode(password);
+                return new Outcome(null, elapsedMillis(startedAt), System.nanoTime());
+            } catch (BaperangCustomException e) {
+                return new Outcome(e.getErrorCode(), elapsedMillis(startedAt), System.nanoTime());
+            }
+        });
+    }
+
+    private PasswordHasher newHasher(long maxWaitMillis) {
+        PasswordHasher hasher = new PasswordHasher(new SlowEncoder());
+        ReflectionTestUtils.setField(hasher, "threads", HASH_THREADS);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", QUEUE_CAPACITY);
+        ReflectionTestUtils.setField(hasher, "maxWaitMillis", maxWaitMillis);
+        hasher.init();
+        return hasher;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private record Outcome(BaperangErrorCode errorCode, long elapsedMillis, long finishedAtNanos) {
+    }
+
+    // 고정 시간 동안 멈추며 동시 실행 수를 기록하는 인코더
+    private class SlowEncoder extends BCryptPasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(HASH_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return "hashed:" + rawPassword;
+        }
+    }
+}